@@ -101,6 +101,8 @@ public abstract class AbstractChart extends HandlerManager implements IsChart, M
 	private static final DatasetItemFactory DATASET_ITEM_FACTORY = new DatasetItemFactory();
 	// reference to Chart.js chart instance
 	private Chart chart = null;
+	// chart node, cached for the current render cycle
+	private ChartNode node = null;
 	// chart ID using generate unique id
 	private final String id = DOMBuilder.get().createUniqueChartId();
 	// stores the type of chart
@@ -383,7 +385,22 @@ public abstract class AbstractChart extends HandlerManager implements IsChart, M
 	 */
 	@Override
 	public final ChartNode getNode() {
-		return new ChartNode(getId(), lookForConsistentInstance());
+		// gets the native chart
+		Chart nativeChart = lookForConsistentInstance();
+		// checks if the cached node is still wrapping the native chart
+		if (node == null || !node.isWrapping(nativeChart)) {
+			// creates and caches the node
+			// until the next update, layout or resize of the chart
+			node = new ChartNode(getId(), nativeChart);
+		}
+		return node;
+	}
+
+	/**
+	 * Resets the cached chart node, invoked when the chart has been updated, laid out or resized.
+	 */
+	final void resetNode() {
+		node = null;
 	}
 
 	/**
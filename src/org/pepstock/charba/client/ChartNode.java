@@ -40,25 +40,28 @@ public final class ChartNode {
 
 	// all sub elements
 	private final Chart chart;
+	// scope of the options
+	private final String chartId;
+	// sub elements, created on first use
+	private OptionsNode options = null;
 
-	private final OptionsNode options;
+	private LegendNode legend = null;
 
-	private final LegendNode legend;
+	private ScalesNode scales = null;
 
-	private final ScalesNode scales;
+	private ChartAreaNode chartArea = null;
 
-	private final ChartAreaNode chartArea;
+	private TitleNode title = null;
 
-	private final TitleNode title;
+	private SubtitleNode subtitle = null;
 
-	private final SubtitleNode subtitle;
-
-	private final TooltipNode tooltip;
+	private TooltipNode tooltip = null;
 
 	private final boolean initialized;
 
 	/**
-	 * Creates the object wrapping a CHART instance.
+	 * Creates the object wrapping a CHART instance.<br>
+	 * The sub elements are created on first use.
 	 * 
 	 * @param chartId scope of the options, in this case the chart id.
 	 * @param chart CHART.JS CHART instance
@@ -66,18 +69,20 @@ public final class ChartNode {
 	public ChartNode(String chartId, Chart chart) {
 		// stores native chart instance
 		this.chart = chart;
+		// stores the scope
+		this.chartId = chartId;
 		// sets if is initialized checking the CHART instance
 		this.initialized = chart != null;
-		// gets the defaults for options
-		IsDefaultScaledOptions defaultValues = this.initialized ? chart.getChart().getDefaultChartOptions() : DefaultsBuilder.get().getScaledOptions();
-		// creates all sub elements
-		this.options = new OptionsNode(chartId, defaultValues, new ChartEnvelop<>(this.initialized ? chart.getOptions() : null, true));
-		this.legend = new LegendNode(new ChartEnvelop<>(this.initialized ? chart.getLegend() : null, true));
-		this.scales = new ScalesNode(new ChartEnvelop<>(this.initialized ? chart.getScales() : null, true));
-		this.chartArea = new ChartAreaNode(new ChartEnvelop<>(this.initialized ? chart.getChartArea() : null, true));
-		this.title = new TitleNode(new ChartEnvelop<>(this.initialized ? chart.getTitleBlock() : null, true));
-		this.subtitle = new SubtitleNode(new ChartEnvelop<>(this.initialized ? chart.getSubtitle() : null, true));
-		this.tooltip = new TooltipNode(new ChartEnvelop<>(this.initialized ? chart.getTooltip() : null, true));
+	}
+
+	/**
+	 * Returns <code>true</code> if the node is wrapping the passed CHART instance.
+	 * 
+	 * @param chart CHART.JS CHART instance to check
+	 * @return <code>true</code> if the node is wrapping the passed CHART instance
+	 */
+	boolean isWrapping(Chart chart) {
+		return this.chart == chart;
 	}
 
 	/**
@@ -95,6 +100,13 @@ public final class ChartNode {
 	 * @return the options item.
 	 */
 	public OptionsNode getOptions() {
+		// checks if the options node must be created
+		if (options == null) {
+			// gets the defaults for options
+			IsDefaultScaledOptions defaultValues = this.initialized ? chart.getChart().getDefaultChartOptions() : DefaultsBuilder.get().getScaledOptions();
+			// creates the node
+			options = new OptionsNode(chartId, defaultValues, new ChartEnvelop<>(this.initialized ? chart.getOptions() : null, true));
+		}
 		return options;
 	}
 
@@ -104,6 +116,10 @@ public final class ChartNode {
 	 * @return the legend item.
 	 */
 	public LegendNode getLegend() {
+		// checks if the node must be created
+		if (legend == null) {
+			legend = new LegendNode(new ChartEnvelop<>(this.initialized ? chart.getLegend() : null, true));
+		}
 		return legend;
 	}
 
@@ -113,6 +129,10 @@ public final class ChartNode {
 	 * @return the scales item.
 	 */
 	public ScalesNode getScales() {
+		// checks if the node must be created
+		if (scales == null) {
+			scales = new ScalesNode(new ChartEnvelop<>(this.initialized ? chart.getScales() : null, true));
+		}
 		return scales;
 	}
 
@@ -122,6 +142,10 @@ public final class ChartNode {
 	 * @return the chart area item.
 	 */
 	public ChartAreaNode getChartArea() {
+		// checks if the node must be created
+		if (chartArea == null) {
+			chartArea = new ChartAreaNode(new ChartEnvelop<>(this.initialized ? chart.getChartArea() : null, true));
+		}
 		return chartArea;
 	}
 
@@ -131,6 +155,10 @@ public final class ChartNode {
 	 * @return the subtitle item.
 	 */
 	public SubtitleNode getSubtitle() {
+		// checks if the node must be created
+		if (subtitle == null) {
+			subtitle = new SubtitleNode(new ChartEnvelop<>(this.initialized ? chart.getSubtitle() : null, true));
+		}
 		return subtitle;
 	}
 
@@ -140,6 +168,10 @@ public final class ChartNode {
 	 * @return the title item.
 	 */
 	public TitleNode getTitle() {
+		// checks if the node must be created
+		if (title == null) {
+			title = new TitleNode(new ChartEnvelop<>(this.initialized ? chart.getTitleBlock() : null, true));
+		}
 		return title;
 	}
 
@@ -149,6 +181,10 @@ public final class ChartNode {
 	 * @return the tooltip item.
 	 */
 	public TooltipNode getTooltip() {
+		// checks if the node must be created
+		if (tooltip == null) {
+			tooltip = new TooltipNode(new ChartEnvelop<>(this.initialized ? chart.getTooltip() : null, true));
+		}
 		return tooltip;
 	}
 
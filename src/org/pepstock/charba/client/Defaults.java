@@ -50,6 +50,8 @@ import org.pepstock.charba.client.items.ChartElementOptions;
 import org.pepstock.charba.client.items.CommonElementOptions;
 import org.pepstock.charba.client.items.DatasetItem;
 import org.pepstock.charba.client.items.LegendLabelItem;
+import org.pepstock.charba.client.items.PluginResizeArgument;
+import org.pepstock.charba.client.items.PluginUpdateArgument;
 import org.pepstock.charba.client.items.PointElementOptions;
 import org.pepstock.charba.client.items.TooltipItem;
 import org.pepstock.charba.client.items.TooltipLabelColor;
@@ -58,7 +60,11 @@ import org.pepstock.charba.client.items.Undefined;
 import org.pepstock.charba.client.options.Scale;
 import org.pepstock.charba.client.plugins.GlobalPlugins;
 import org.pepstock.charba.client.plugins.SmartPlugin;
+import org.pepstock.charba.client.plugins.hooks.AfterDatasetsUpdateHook;
 import org.pepstock.charba.client.plugins.hooks.AfterInitHook;
+import org.pepstock.charba.client.plugins.hooks.AfterLayoutHook;
+import org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook;
+import org.pepstock.charba.client.plugins.hooks.ResizeHook;
 import org.pepstock.charba.client.resources.ResourcesType;
 
 /**
@@ -616,12 +622,12 @@ public final class Defaults {
 	}
 
 	/**
-	 * Internal plugin to track native chart instances on all charts.
+	 * Internal plugin to track native chart instances on all charts and to reset the chart node cached by the charts.
 	 * 
 	 * @author Andrea "Stock" Stocchero
 	 * 
 	 */
-	private static class NativeChartHandler extends SmartPlugin implements AfterInitHook {
+	private static class NativeChartHandler extends SmartPlugin implements AfterInitHook, BeforeUpdateHook, AfterLayoutHook, AfterDatasetsUpdateHook, ResizeHook {
 
 		/**
 		 * Creates the plugin, using {@link Defaults#ID}.
@@ -630,6 +636,10 @@ public final class Defaults {
 			super(ID);
 			// stores itself as hook handler
 			setAfterInitHook(this);
+			setBeforeUpdateHook(this);
+			setAfterLayoutHook(this);
+			setAfterDatasetsUpdateHook(this);
+			setResizeHook(this);
 		}
 
 		/*
@@ -643,6 +653,67 @@ public final class Defaults {
 			Charts.addNative(nativeChart);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook#onBeforeUpdate(org.pepstock.charba.client.IsChart,
+		 * org.pepstock.charba.client.items.PluginUpdateArgument)
+		 */
+		@Override
+		public boolean onBeforeUpdate(IsChart chart, PluginUpdateArgument argument) {
+			// resets the chart node
+			resetNode(chart);
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.plugins.hooks.AfterLayoutHook#onAfterLayout(org.pepstock.charba.client.IsChart)
+		 */
+		@Override
+		public void onAfterLayout(IsChart chart) {
+			// resets the chart node
+			resetNode(chart);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.plugins.hooks.AfterDatasetsUpdateHook#onAfterDatasetsUpdate(org.pepstock.charba.client.IsChart,
+		 * org.pepstock.charba.client.items.PluginUpdateArgument)
+		 */
+		@Override
+		public void onAfterDatasetsUpdate(IsChart chart, PluginUpdateArgument argument) {
+			// resets the chart node
+			// because the elements have been updated
+			resetNode(chart);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.plugins.hooks.ResizeHook#onResize(org.pepstock.charba.client.IsChart,
+		 * org.pepstock.charba.client.items.PluginResizeArgument)
+		 */
+		@Override
+		public void onResize(IsChart chart, PluginResizeArgument argument) {
+			// resets the chart node
+			resetNode(chart);
+		}
+
+		/**
+		 * Resets the chart node cached by the chart for the current render cycle.
+		 * 
+		 * @param chart chart instance
+		 */
+		private void resetNode(IsChart chart) {
+			// checks if the chart is caching the node
+			if (chart instanceof AbstractChart) {
+				((AbstractChart) chart).resetNode();
+			}
+		}
+
 	}
 
 }
\ No newline at end of file
@@ -18,9 +18,12 @@
 */
 package org.pepstock.charba.client.adapters;
 
+import java.util.Arrays;
 import java.util.Date;
 
 import org.pepstock.charba.client.Defaults;
+import org.pepstock.charba.client.commons.ArrayDouble;
+import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Envelop;
@@ -49,6 +52,8 @@ public final class DateAdapter {
 	private final DateAdapterOptions options;
 	// the date adapter default formats instance
 	private DateAdapterFormats formats = null;
+	// default formats by time unit, resolved on first use
+	private final String[] unitFormats = new String[TimeUnit.values().length];
 
 	/**
 	 * Creates a date adapter without any options.
@@ -126,6 +131,24 @@ public final class DateAdapter {
 		return options;
 	}
 
+	/**
+	 * Parses all given values, invoking the native date adapter only once, and returns the timestamps.
+	 * 
+	 * @param values the values to parse (usually comes from the data)
+	 * @param format the expected data format
+	 * @return an array of timestamps, with the same size of the values, or an empty array if the arguments are not consistent
+	 */
+	public long[] parse(String[] values, String format) {
+		// checks if arguments are consistent
+		if (values != null && values.length > 0 && format != null) {
+			// invokes the date adapter to parse all values
+			return toLongs(JsDateAdapterHelper.get().parseAll(nativeAdapter, ArrayString.fromOrEmpty(values), format), values.length);
+		}
+		// if here, the arguments are not consistent
+		// then returns an empty array
+		return new long[0];
+	}
+
 	/**
 	 * Parses the given value and return the associated date.
 	 * 
@@ -175,7 +198,7 @@ public final class DateAdapter {
 		// checks if arguments are consistent
 		if (!Double.isNaN(time) && Key.isValid(unit)) {
 			// invokes the date adapter to format the time
-			return format(time, getFormats().getFormat(unit));
+			return format(time, getFormat(unit));
 		}
 		// if here, the arguments are not consistent
 		// then returns null
@@ -218,6 +241,48 @@ public final class DateAdapter {
 		return Constants.EMPTY_STRING;
 	}
 
+	/**
+	 * Returns the formatted dates in the specified format for all given timestamps, invoking the native date adapter only once.
+	 * 
+	 * @param times the timestamps to format
+	 * @param format the date/time token
+	 * @return an array of date time string representations, with the same size of the timestamps
+	 */
+	public String[] format(long[] times, String format) {
+		// checks if arguments are consistent
+		if (times != null && times.length > 0 && format != null) {
+			// invokes the date adapter to format all times
+			ArrayString values = JsDateAdapterHelper.get().formatAll(nativeAdapter, toArrayDouble(times), format);
+			// creates the result
+			String[] result = new String[times.length];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = values.get(i);
+			}
+			return result;
+		}
+		// if here, the arguments are not consistent
+		// then returns an array of empty strings
+		return createEmptyStrings(times);
+	}
+
+	/**
+	 * Returns the formatted dates for all given timestamps, using the default format related to time unit and invoking the native date adapter only once.
+	 * 
+	 * @param times the timestamps to format
+	 * @param unit the time unit to use
+	 * @return an array of date time string representations, with the same size of the timestamps
+	 */
+	public String[] format(long[] times, TimeUnit unit) {
+		// checks if arguments are consistent
+		if (Key.isValid(unit)) {
+			// invokes the date adapter to format the times
+			return format(times, getFormat(unit));
+		}
+		// if here, the arguments are not consistent
+		// then returns an array of empty strings
+		return createEmptyStrings(times);
+	}
+
 	/**
 	 * Adds the specified amount of unit to the given timestamp.
 	 * 
@@ -316,6 +381,24 @@ public final class DateAdapter {
 		return null;
 	}
 
+	/**
+	 * Returns the start of unit for all given timestamps, invoking the native date adapter only once.
+	 * 
+	 * @param times the input timestamps
+	 * @param unit the time unit instance
+	 * @return an array with the start of unit for the given timestamps, with the same size of the timestamps, or an empty array if the arguments are not consistent
+	 */
+	public long[] startOf(long[] times, TimeUnit unit) {
+		// checks if arguments are consistent
+		if (times != null && times.length > 0 && Key.isValid(unit)) {
+			// invoke the date adapter to get the dates start of by time unit
+			return toLongs(JsDateAdapterHelper.get().startOfAll(nativeAdapter, toArrayDouble(times), unit.value(), Integer.MAX_VALUE), times.length);
+		}
+		// if here, the arguments are not consistent
+		// then returns an empty array
+		return new long[0];
+	}
+
 	/**
 	 * Returns the start of unit for the given date.
 	 * 
@@ -467,4 +550,61 @@ public final class DateAdapter {
 	public Date getDateByOrdinal(int year, int ordinal) {
 		return new ImmutableDate((long) getEpochByOrdinal(year, ordinal));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the default format related to time unit, caching it.
+	 * 
+	 * @param unit the time unit to use
+	 * @return the default format related to time unit
+	 */
+	private String getFormat(TimeUnit unit) {
+		// checks if the format is already resolved
+		if (unitFormats[unit.ordinal()] == null) {
+			// resolves the format
+			unitFormats[unit.ordinal()] = getFormats().getFormat(unit);
+		}
+		return unitFormats[unit.ordinal()];
+	}
+
+	/**
+	 * Creates a native array of doubles by an array of timestamps.
+	 * 
+	 * @param times the timestamps to transform
+	 * @return a native array of doubles
+	 */
+	private static ArrayDouble toArrayDouble(long[] times) {
+		double[] values = new double[times.length];
+		for (int i = 0; i < times.length; i++) {
+			values[i] = times[i];
+		}
+		return ArrayDouble.fromOrEmpty(values);
+	}
+
+	/**
+	 * Creates an array of timestamps by a native array of doubles.
+	 * 
+	 * @param values the native array of doubles
+	 * @param size the size of the result
+	 * @return an array of timestamps
+	 */
+	private static long[] toLongs(ArrayDouble values, int size) {
+		long[] result = new long[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = (long) values.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates an array of empty strings with the same size of the timestamps.
+	 * 
+	 * @param times the timestamps, could be <code>null</code>
+	 * @return an array of empty strings
+	 */
+	private static String[] createEmptyStrings(long[] times) {
+		String[] result = new String[times != null ? times.length : 0];
+		Arrays.fill(result, Constants.EMPTY_STRING);
+		return result;
+	}
+
+}
@@ -18,6 +18,8 @@
 */
 package org.pepstock.charba.client.adapters;
 
+import org.pepstock.charba.client.commons.ArrayDouble;
+import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.NativeName;
 import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.items.ScaleItem;
@@ -78,4 +80,35 @@ final class NativeJsDateAdapterHelper {
 	 */
 	static native double getEpochByOrdinal(int year, int ordinal, NativeObject options);
 
-}
\ No newline at end of file
+	/**
+	 * Returns the formatted dates, in the specified format, for all given timestamps.
+	 * 
+	 * @param adapter date adapter instance
+	 * @param times array of timestamps to format
+	 * @param format the date/time token
+	 * @return an array of formatted dates
+	 */
+	static native ArrayString formatAll(NativeDateAdapter adapter, ArrayDouble times, String format);
+
+	/**
+	 * Parses all given values and returns the timestamps.
+	 * 
+	 * @param adapter date adapter instance
+	 * @param values array of strings to parse
+	 * @param format the expected data format
+	 * @return an array of timestamps
+	 */
+	static native ArrayDouble parseAll(NativeDateAdapter adapter, ArrayString values, String format);
+
+	/**
+	 * Returns the start of the unit for all given timestamps.
+	 * 
+	 * @param adapter date adapter instance
+	 * @param times array of timestamps
+	 * @param unit the unit
+	 * @param weekday the ISO day of the week, used only with ISO week unit
+	 * @return an array of timestamps
+	 */
+	static native ArrayDouble startOfAll(NativeDateAdapter adapter, ArrayDouble times, String unit, int weekday);
+
+}
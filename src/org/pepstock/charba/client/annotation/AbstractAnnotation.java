@@ -226,8 +226,6 @@ public abstract class AbstractAnnotation extends AbstractNode implements IsDefau
 		setValue(Property.CHARBA_ANNOTATION_ID, COUNTER.getAndIncrement());
 		// stores incremental ID
 		setNewIncrementalId();
-		// cached it
-		AnnotationHelper.get().addAnnotation(this);
 		// -------------------------------
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
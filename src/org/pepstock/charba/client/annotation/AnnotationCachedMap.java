@@ -18,8 +18,12 @@
 */
 package org.pepstock.charba.client.annotation;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.pepstock.charba.client.commons.ArrayUtil;
 import org.pepstock.charba.client.commons.Key;
@@ -33,13 +37,16 @@ import org.pepstock.charba.client.commons.Key;
 final class AnnotationCachedMap extends AnnotationMap {
 
 	// map to use as cache for the annotations added to the options
-	private final Map<String, AbstractAnnotation> annotationsCache = new HashMap<>();
+	// it contains also the annotations culled from the java script object
+	private final Map<String, AbstractAnnotation> annotationsCache = new LinkedHashMap<>();
 
 	/**
 	 * Creates an empty object with the cache for the annotations.
+	 * 
+	 * @param optionsId unique id of the options which are storing the annotations
 	 */
-	AnnotationCachedMap() {
-		super();
+	AnnotationCachedMap(String optionsId) {
+		super(optionsId);
 	}
 
 	/**
@@ -50,7 +57,10 @@ final class AnnotationCachedMap extends AnnotationMap {
 	 */
 	@Override
 	boolean hasAnnotation(AnnotationId id) {
-		return super.hasAnnotation(id) && annotationsCache.containsKey(id.value());
+		// checks if the annotation id is consistent
+		AnnotationId.checkIfValid(id);
+		// checks in the cache because the annotation could be culled
+		return annotationsCache.containsKey(id.value());
 	}
 
 	/**
@@ -92,12 +102,90 @@ final class AnnotationCachedMap extends AnnotationMap {
 	 */
 	@Override
 	void clear() {
+		// removes all cached annotations, including the culled ones
+		// in order to release them
+		for (AbstractAnnotation annotation : new ArrayList<>(annotationsCache.values())) {
+			removeAnnotation(annotation.getId());
+		}
 		// invokes super
 		super.clear();
 		// clears the cache
 		annotationsCache.clear();
 	}
 
+	/**
+	 * Releases the annotation instance, stored by the id passed as argument, from the cache of the annotations.<br>
+	 * It uses the cache because the annotation could be culled from the java script object.
+	 * 
+	 * @param id annotation id to release
+	 */
+	@Override
+	void releaseAnnotation(Key id) {
+		// gets the cached annotation
+		AbstractAnnotation annotation = annotationsCache.get(id.value());
+		// checks if the annotation is cached
+		if (annotation != null) {
+			AnnotationHelper.get().releaseAnnotation(getOptionsId(), annotation.getAnnotationId());
+		}
+	}
+
+	/**
+	 * Returns the unmodifiable list of annotations, including the culled ones.
+	 * 
+	 * @return the unmodifiable list of annotations
+	 */
+	@Override
+	List<AbstractAnnotation> getAnnotations() {
+		return Collections.unmodifiableList(new ArrayList<>(annotationsCache.values()));
+	}
+
+	/**
+	 * Returns the annotation with the id passed as argument or <code>null</code> if not exist, including the culled ones.
+	 * 
+	 * @param id annotation id to check
+	 * @return the annotation with the id passed as argument or <code>null</code> if not exist
+	 */
+	@Override
+	AbstractAnnotation getAnnotation(AnnotationId id) {
+		// checks if the annotation id is consistent
+		AnnotationId.checkIfValid(id);
+		// gets from the cache
+		return annotationsCache.get(id.value());
+	}
+
+	/**
+	 * Stores in the java script object only the annotations which are visible, removing the others, which remain stored in the cache.
+	 * 
+	 * @param visible predicate to check if an annotation must be stored in the java script object
+	 * @return <code>true</code> if the java script object has been changed
+	 */
+	@Override
+	boolean cull(Predicate<AbstractAnnotation> visible) {
+		boolean changed = false;
+		// scans all annotations
+		for (AbstractAnnotation annotation : annotationsCache.values()) {
+			AnnotationId id = annotation.getId();
+			// checks if the annotation is stored
+			boolean stored = has(id);
+			// checks if visible
+			if (visible.test(annotation)) {
+				// checks if must be restored
+				if (!stored) {
+					setValue(id, annotation);
+					// retains the annotation instance
+					// because the options could have been released by the destroy of a chart
+					AnnotationHelper.get().retainAnnotation(getOptionsId(), annotation);
+					changed = true;
+				}
+			} else if (stored) {
+				// culls the annotation
+				remove(id);
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
 	/**
 	 * Gets the stored annotation from the cache.
 	 * 
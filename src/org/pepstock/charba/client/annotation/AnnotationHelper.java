@@ -19,27 +19,48 @@
 package org.pepstock.charba.client.annotation;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.ChartsLifecycleListener;
+import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.items.Undefined;
 
 /**
- * Helpers to provides utilities in the {@link AnnotationPlugin#ID} plugin.
+ * Helpers to provides utilities in the {@link AnnotationPlugin#ID} plugin.<br>
+ * It maintains the registry of the annotation instances, used as defaults when the annotations are loaded from a native object.<br>
+ * An annotation is registered when added to the options and it is referenced by the options and by the charts which have been configured with it.<br>
+ * The references of the options are tied to the charts life cycle: when the last chart configured with an options instance is destroyed, the references of the
+ * options are released and they are retained again when the same options are used to configure a chart.<br>
+ * An annotation is removed from the registry when it is not referenced by any options or chart anymore.
  * 
  * @author Andrea "Stock" Stocchero
  */
-final class AnnotationHelper {
+final class AnnotationHelper implements ChartsLifecycleListener {
 
 	// singleton instance
 	private static final AnnotationHelper INSTANCE = new AnnotationHelper();
-	// map to maintain all annotation instances, acts as a cache
-	private final Map<Integer, AbstractAnnotation> annotationInstancesCache = new HashMap<>();
+	// map to maintain the annotation instances, acts as a cache
+	// K = internal annotation id, V = annotation reference
+	private final Map<Integer, AnnotationReference> annotationInstancesCache = new HashMap<>();
+	// map to maintain the annotations used by the charts
+	// K = chart id, V = set of internal annotation ids
+	private final Map<String, Set<Integer>> chartsAnnotations = new HashMap<>();
+	// map to maintain the annotations retained by the options
+	// K = options id, V = set of internal annotation ids
+	private final Map<String, Set<Integer>> optionsAnnotations = new HashMap<>();
+	// map to maintain the options used by the charts
+	// K = chart id, V = options id
+	private final Map<String, String> chartsOptions = new HashMap<>();
 
 	/**
 	 * To avoid any instantiation
 	 */
 	private AnnotationHelper() {
-		// do nothing
+		// registers itself as chart life cycle listener
+		Charts.addLifecycleListener(this);
 	}
 
 	/**
@@ -52,15 +73,41 @@ final class AnnotationHelper {
 	}
 
 	/**
-	 * Adds an annotation configuration in the cache.
+	 * Adds an annotation configuration in the cache, incrementing its references if not already retained by the options.
 	 * 
+	 * @param optionsId unique id of the options which are storing the annotation
 	 * @param annotation annotation configuration instance to store in the cache
 	 */
-	void addAnnotation(AbstractAnnotation annotation) {
-		// checks if annotation argument is consistent
-		if (annotation != null && Undefined.isNot(annotation.getAnnotationId())) {
-			// stores the annotation configuration
-			annotationInstancesCache.put(annotation.getAnnotationId(), annotation);
+	void retainAnnotation(String optionsId, AbstractAnnotation annotation) {
+		// checks if arguments are consistent
+		if (optionsId != null && annotation != null && Undefined.isNot(annotation.getAnnotationId())) {
+			// stores the annotation configuration, if not already stored
+			AnnotationReference reference = annotationInstancesCache.computeIfAbsent(annotation.getAnnotationId(), mapKey -> new AnnotationReference(annotation));
+			// checks if the options are retaining the annotation for the first time
+			if (optionsAnnotations.computeIfAbsent(optionsId, mapKey -> new HashSet<>()).add(annotation.getAnnotationId())) {
+				// increments the references
+				reference.references++;
+			}
+		}
+	}
+
+	/**
+	 * Decrements the references of a cached annotation configuration, retained by the options, removing it from the cache if it is not used anymore.
+	 * 
+	 * @param optionsId unique id of the options which were storing the annotation
+	 * @param annotationId internal annotation id of the annotation to release
+	 */
+	void releaseAnnotation(String optionsId, int annotationId) {
+		// gets the annotations of the options
+		Set<Integer> annotationIds = optionsAnnotations.get(optionsId);
+		// checks if the options are retaining the annotation
+		if (annotationIds != null && annotationIds.remove(annotationId)) {
+			// checks if the options are not retaining any annotation
+			if (annotationIds.isEmpty()) {
+				optionsAnnotations.remove(optionsId);
+			}
+			// decrements the references
+			decrementReferences(annotationId);
 		}
 	}
 
@@ -71,7 +118,193 @@ final class AnnotationHelper {
 	 * @return a cached annotation configuration item or <code>null</code> if not exist
 	 */
 	AbstractAnnotation getAnnotation(int annotationId) {
-		return annotationInstancesCache.get(annotationId);
+		// gets the reference
+		AnnotationReference reference = annotationInstancesCache.get(annotationId);
+		// checks if the reference is consistent
+		return reference != null ? reference.annotation : null;
+	}
+
+	/**
+	 * Returns the amount of annotation instances currently stored in the cache.
+	 * 
+	 * @return the amount of annotation instances currently stored in the cache
+	 */
+	int getAnnotationsCount() {
+		return annotationInstancesCache.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.ChartsLifecycleListener#onAfterConfigure(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterConfigure(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart)) {
+			// gets the annotations of the new configuration
+			Set<Integer> annotationIds = new HashSet<>();
+			// options id of the new configuration
+			String optionsId = null;
+			// checks if the chart has got the plugin options
+			if (chart.getOptions().getPlugins().hasOptions(AnnotationPlugin.ID)) {
+				// gets the options of the chart
+				AnnotationOptions options = chart.getOptions().getPlugins().getOptions(AnnotationPlugin.ID, AnnotationPlugin.FACTORY);
+				optionsId = options.getId();
+				// scans all annotations
+				for (AbstractAnnotation annotation : options.getAnnotationsMap().getAnnotations()) {
+					// retains the annotation again for the options
+					// because the options could be reused after the destroy of a chart
+					retainAnnotation(optionsId, annotation);
+					// gets the reference
+					AnnotationReference reference = annotationInstancesCache.get(annotation.getAnnotationId());
+					// checks if the reference is consistent
+					if (reference != null) {
+						// binds the chart
+						reference.charts.add(chart.getId());
+						annotationIds.add(annotation.getAnnotationId());
+					}
+				}
+			}
+			// stores the new annotations of the chart
+			Set<Integer> previousAnnotationIds = chartsAnnotations.put(chart.getId(), annotationIds);
+			// checks if the chart was already configured
+			if (previousAnnotationIds != null) {
+				// unbinds the annotations not used anymore
+				previousAnnotationIds.removeAll(annotationIds);
+				unbind(chart.getId(), previousAnnotationIds);
+			}
+			// stores the new options of the chart
+			String previousOptionsId = optionsId != null ? chartsOptions.put(chart.getId(), optionsId) : chartsOptions.remove(chart.getId());
+			// checks if the chart was configured with other options
+			if (previousOptionsId != null && !previousOptionsId.equals(optionsId)) {
+				releaseOptionsIfNotUsed(previousOptionsId);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.ChartsLifecycleListener#onBeforeDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onBeforeDestroy(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart)) {
+			// removes the annotations of the chart
+			Set<Integer> annotationIds = chartsAnnotations.remove(chart.getId());
+			// checks if the chart was configured with annotations
+			if (annotationIds != null) {
+				// removes the chart from the annotations
+				unbind(chart.getId(), annotationIds);
+			}
+			// removes the options of the chart
+			String optionsId = chartsOptions.remove(chart.getId());
+			// checks if the chart was configured with options
+			if (optionsId != null) {
+				// releases the references of the options
+				// which are retained again if the options are used to draw a chart
+				releaseOptionsIfNotUsed(optionsId);
+			}
+		}
+	}
+
+	/**
+	 * Releases all annotations retained by the options passed as argument if the options are not used by any chart.
+	 * 
+	 * @param optionsId unique id of the options to release
+	 */
+	private void releaseOptionsIfNotUsed(String optionsId) {
+		// checks if the options are still used by a chart
+		if (!chartsOptions.containsValue(optionsId)) {
+			// removes the annotations of the options
+			Set<Integer> annotationIds = optionsAnnotations.remove(optionsId);
+			// checks if the options were retaining annotations
+			if (annotationIds != null) {
+				// scans all annotations
+				for (Integer annotationId : annotationIds) {
+					// decrements the references
+					decrementReferences(annotationId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decrements the references of a cached annotation configuration, removing it from the cache if it is not used anymore.
+	 * 
+	 * @param annotationId internal annotation id of the annotation to release
+	 */
+	private void decrementReferences(int annotationId) {
+		// gets the reference
+		AnnotationReference reference = annotationInstancesCache.get(annotationId);
+		// checks if the reference is consistent
+		if (reference != null) {
+			// decrements the references
+			reference.references = Math.max(0, reference.references - 1);
+			// checks if must be removed
+			removeIfNotUsed(annotationId, reference);
+		}
+	}
+
+	/**
+	 * Removes the chart from the annotations passed as argument, releasing the annotations which are not used anymore.
+	 * 
+	 * @param chartId chart id to remove
+	 * @param annotationIds set of internal annotation ids to unbind
+	 */
+	private void unbind(String chartId, Set<Integer> annotationIds) {
+		// scans all annotations
+		for (Integer annotationId : annotationIds) {
+			// gets the reference
+			AnnotationReference reference = annotationInstancesCache.get(annotationId);
+			// checks if the reference is consistent
+			if (reference != null) {
+				// removes the chart
+				reference.charts.remove(chartId);
+				// checks if must be removed
+				removeIfNotUsed(annotationId, reference);
+			}
+		}
+	}
+
+	/**
+	 * Removes the annotation from the cache if it is not used by any options or chart.
+	 * 
+	 * @param annotationId internal annotation id of the annotation
+	 * @param reference annotation reference to check
+	 */
+	private void removeIfNotUsed(int annotationId, AnnotationReference reference) {
+		// checks if the annotation is still used
+		if (reference.references == 0 && reference.charts.isEmpty()) {
+			annotationInstancesCache.remove(annotationId);
+		}
+	}
+
+	/**
+	 * Maintains an annotation instance with the references of options and charts which are using it.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	private static final class AnnotationReference {
+
+		// annotation instance
+		private final AbstractAnnotation annotation;
+		// set of chart ids which are using the annotation
+		private final Set<String> charts = new HashSet<>();
+		// amount of options which are storing the annotation
+		private int references = 0;
+
+		/**
+		 * Creates the reference with the annotation instance.
+		 * 
+		 * @param annotation annotation instance
+		 */
+		private AnnotationReference(AbstractAnnotation annotation) {
+			this.annotation = annotation;
+		}
+
 	}
 
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ package org.pepstock.charba.client.annotation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.pepstock.charba.client.commons.ArrayUtil;
 import org.pepstock.charba.client.commons.JsHelper;
@@ -28,6 +29,7 @@ import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
 import org.pepstock.charba.client.commons.ObjectType;
+import org.pepstock.charba.client.items.Undefined;
 
 /**
  * Object which stores all annotations by their ID in the {@link AnnotationPlugin#ID} plugin.
@@ -38,20 +40,37 @@ import org.pepstock.charba.client.commons.ObjectType;
  */
 class AnnotationMap extends NativeObjectContainer {
 
+	// unique id of the options which are storing the annotations
+	private final String optionsId;
+
 	/**
 	 * Creates an empty object.
+	 * 
+	 * @param optionsId unique id of the options which are storing the annotations
 	 */
-	AnnotationMap() {
-		this(null);
+	AnnotationMap(String optionsId) {
+		this(optionsId, null);
 	}
 
 	/**
 	 * Creates the object using the instance of native object, passed as argument.
 	 * 
+	 * @param optionsId unique id of the options which are storing the annotations
 	 * @param nativeObject native object loaded from configuration
 	 */
-	AnnotationMap(NativeObject nativeObject) {
+	AnnotationMap(String optionsId, NativeObject nativeObject) {
 		super(nativeObject);
+		// stores the options id
+		this.optionsId = optionsId;
+	}
+
+	/**
+	 * Returns the unique id of the options which are storing the annotations.
+	 * 
+	 * @return the unique id of the options which are storing the annotations
+	 */
+	final String getOptionsId() {
+		return optionsId;
 	}
 
 	/**
@@ -75,6 +94,8 @@ class AnnotationMap extends NativeObjectContainer {
 	void removeAnnotation(AnnotationId id) {
 		// checks if the annotation id is consistent
 		AnnotationId.checkIfValid(id);
+		// releases the annotation instance
+		releaseAnnotation(id);
 		// removes from java script object if the annotation id exist
 		remove(id);
 	}
@@ -91,8 +112,12 @@ class AnnotationMap extends NativeObjectContainer {
 			for (AbstractAnnotation annotation : annotations) {
 				// adds annotation
 				AnnotationId id = annotation.getId();
+				// releases the annotation instance with the same id, if exists
+				releaseAnnotation(id);
 				// stores in the java script object
 				setValue(id, annotation);
+				// retains the annotation instance
+				AnnotationHelper.get().retainAnnotation(optionsId, annotation);
 			}
 		}
 	}
@@ -117,6 +142,8 @@ class AnnotationMap extends NativeObjectContainer {
 	void clear() {
 		// scan all keys
 		for (Key key : keys()) {
+			// releases the annotation instance
+			releaseAnnotation(key);
 			// removes existing annotation
 			remove(key);
 		}
@@ -168,6 +195,48 @@ class AnnotationMap extends NativeObjectContainer {
 		return null;
 	}
 
+	/**
+	 * Releases the annotation instance, stored by the id passed as argument, from the cache of the annotations.
+	 * 
+	 * @param id annotation id to release
+	 */
+	void releaseAnnotation(Key id) {
+		// gets the internal annotation id
+		int annotationId = getAnnotationId(id);
+		// checks if consistent
+		if (Undefined.isNot(annotationId)) {
+			AnnotationHelper.get().releaseAnnotation(optionsId, annotationId);
+		}
+	}
+
+	/**
+	 * Returns the internal id of the annotation stored by the id passed as argument.
+	 * 
+	 * @param id annotation id
+	 * @return the internal id of the annotation or {@link Undefined#INTEGER} if not exist
+	 */
+	private int getAnnotationId(Key id) {
+		// checks if the stored object is an object
+		if (isType(id, ObjectType.OBJECT)) {
+			// gets the native object
+			NativeObject nativeObject = getValue(id);
+			// extracts the internal annotation id
+			return JsHelper.get().getIntegerProperty(AbstractAnnotation.Property.CHARBA_ANNOTATION_ID, nativeObject);
+		}
+		return Undefined.INTEGER;
+	}
+
+	/**
+	 * Stores in the java script object only the annotations which are visible.<br>
+	 * The annotations loaded from a configuration are not cached therefore they can not be culled.
+	 * 
+	 * @param visible predicate to check if an annotation must be stored in the java script object
+	 * @return <code>true</code> if the java script object has been changed
+	 */
+	boolean cull(Predicate<AbstractAnnotation> visible) {
+		return false;
+	}
+
 	/**
 	 * Gets the stored annotation from the native object and then it creates a wrapper on that in order to provide an annotation instance.
 	 * 
@@ -191,6 +260,13 @@ class AnnotationMap extends NativeObjectContainer {
 		int annotationId = JsHelper.get().getIntegerProperty(AbstractAnnotation.Property.CHARBA_ANNOTATION_ID, nativeObject);
 		// searches for cached annotation by its internal id
 		AbstractAnnotation defaultOptions = AnnotationHelper.get().getAnnotation(annotationId);
+		// checks if the annotation has been already released
+		if (defaultOptions == null) {
+			// if here, the annotation is not used by any chart or options anymore
+			// then the defaults of the annotation type are used
+			AnnotationType defaultType = type != null ? type : AnnotationType.LINE;
+			return createAnnotation(defaultType, nativeObject, defaultType.getDefaultsValues());
+		}
 		// -----------------------
 		// checks which type is in order to create the right annotation instance
 		if (AnnotationType.BOX.equals(type) && defaultOptions instanceof BoxAnnotation) {
@@ -211,4 +287,31 @@ class AnnotationMap extends NativeObjectContainer {
 			return new LineAnnotation(nativeObject, defaultOptions);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Creates an annotation instance by its type, using the default values passed as argument.
+	 * 
+	 * @param type type of the annotation
+	 * @param nativeObject native object of the annotation
+	 * @param defaultValues default values of the annotation type
+	 * @return an annotation instance
+	 */
+	private AbstractAnnotation createAnnotation(AnnotationType type, NativeObject nativeObject, IsDefaultsAnnotation defaultValues) {
+		// checks which type is in order to create the right annotation instance
+		switch (type) {
+		case BOX:
+			return new BoxAnnotation(nativeObject, defaultValues);
+		case LABEL:
+			return new LabelAnnotation(nativeObject, defaultValues);
+		case ELLIPSE:
+			return new EllipseAnnotation(nativeObject, defaultValues);
+		case POINT:
+			return new PointAnnotation(nativeObject, defaultValues);
+		case POLYGON:
+			return new PolygonAnnotation(nativeObject, defaultValues);
+		default:
+			// line annotation is the default in the plugin
+			return new LineAnnotation(nativeObject, defaultValues);
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.annotation.enums.DrawTime;
+import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.HasCallbackScope;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
@@ -41,6 +42,11 @@ public final class AnnotationOptions extends AbstractPluginOptions implements Is
 	 */
 	public static final DrawTime DEFAULT_DRAW_TIME = DrawTime.AFTER_DATASETS_DRAW;
 
+	/**
+	 * Default margin added to the visible ranges of the scales when the annotations are culled, as ratio of the range, <b>{@value DEFAULT_CULLING_MARGIN}</b>.
+	 */
+	public static final double DEFAULT_CULLING_MARGIN = 0.1D;
+
 	/**
 	 * Name of properties of native object.
 	 */
@@ -133,11 +139,11 @@ public final class AnnotationOptions extends AbstractPluginOptions implements Is
 		if (has(Property.ANNOTATIONS)) {
 			// if here, the options has been created from a native object
 			// then it must use a NO cached annotations map
-			this.annotationsMap = new AnnotationMap(getValue(Property.ANNOTATIONS));
+			this.annotationsMap = new AnnotationMap(getId(), getValue(Property.ANNOTATIONS));
 		} else {
 			// if here, the options has been created from scratch
 			// then it must use a cached annotations map
-			this.annotationsMap = new AnnotationCachedMap();
+			this.annotationsMap = new AnnotationCachedMap(getId());
 			// stores in the java script object as well
 			setValue(Property.ANNOTATIONS, annotationsMap);
 		}
@@ -355,4 +361,81 @@ public final class AnnotationOptions extends AbstractPluginOptions implements Is
 		// in this object then returns it
 		return result;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Starts a transaction to add, remove and replace annotations in one pass.
+	 * 
+	 * @return a new transaction on these options
+	 */
+	public AnnotationTransaction beginTransaction() {
+		return new AnnotationTransaction(this);
+	}
+
+	/**
+	 * Removes from the plugin the annotations which are outside of the current visible ranges of the scales of the chart, keeping them in these options in order to
+	 * restore them when visible again.<br>
+	 * The annotations whose values are missing, strings or callbacks are never culled.<br>
+	 * The culling is available only for the options created from scratch and it should be invoked when the scales are changed, i.e. after zooming or panning.
+	 * 
+	 * @param chart chart instance which uses these options
+	 * @return <code>true</code> if the annotations stored in the plugin have been changed and the chart has been reconfigured
+	 */
+	public boolean cullAnnotations(IsChart chart) {
+		return cullAnnotations(chart, DEFAULT_CULLING_MARGIN);
+	}
+
+	/**
+	 * Removes from the plugin the annotations which are outside of the current visible ranges of the scales of the chart, keeping them in these options in order to
+	 * restore them when visible again.<br>
+	 * The annotations whose values are missing, strings or callbacks are never culled.<br>
+	 * The culling is available only for the options created from scratch and it should be invoked when the scales are changed, i.e. after zooming or panning.
+	 * 
+	 * @param chart chart instance which uses these options
+	 * @param margin margin to add to both sides of the visible ranges, as ratio of the range
+	 * @return <code>true</code> if the annotations stored in the plugin have been changed and the chart has been reconfigured
+	 */
+	public boolean cullAnnotations(IsChart chart, double margin) {
+		// checks if the chart is initialized
+		if (IsChart.isValid(chart) && chart.isInitialized()) {
+			// creates the viewport by the scales
+			AnnotationViewport viewport = new AnnotationViewport(chart, Checker.positiveOrZero(margin));
+			// checks if something is changed
+			if (annotationsMap.cull(viewport::isVisible)) {
+				// stores the options and reconfigures the chart
+				chart.getOptions().getPlugins().setOptions(this);
+				chart.reconfigure();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Restores in the plugin all annotations removed by the culling.
+	 * 
+	 * @param chart chart instance which uses these options. If <code>null</code>, the chart is not reconfigured
+	 * @return <code>true</code> if the annotations stored in the plugin have been changed
+	 */
+	public boolean resetCulling(IsChart chart) {
+		// checks if something is changed
+		if (annotationsMap.cull(annotation -> true)) {
+			// checks if the chart must be reconfigured
+			if (IsChart.isValid(chart) && chart.isInitialized()) {
+				// stores the options and reconfigures the chart
+				chart.getOptions().getPlugins().setOptions(this);
+				chart.reconfigure();
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the map of annotations.
+	 * 
+	 * @return the map of annotations
+	 */
+	AnnotationMap getAnnotationsMap() {
+		return annotationsMap;
+	}
+}
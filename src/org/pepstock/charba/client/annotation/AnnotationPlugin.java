@@ -104,4 +104,15 @@ public final class AnnotationPlugin extends AbstractExtensionPlugin<AnnotationOp
 		AnnotationPlugin.get().loadDefaults(DEFAULTS_FACTORY);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns the amount of annotation instances currently maintained by the plugin, which are used by options or charts.<br>
+	 * The annotations are released when removed from the options and when the charts which used them have been destroyed.<br>
+	 * This is a diagnostic method to check that the annotations are released.
+	 * 
+	 * @return the amount of annotation instances currently maintained by the plugin
+	 */
+	public static int getAnnotationsCount() {
+		return AnnotationHelper.get().getAnnotationsCount();
+	}
+
+}
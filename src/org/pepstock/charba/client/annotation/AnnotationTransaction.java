@@ -0,0 +1,237 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.annotation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.ArrayUtil;
+import org.pepstock.charba.client.commons.Checker;
+
+/**
+ * Collects a set of changes (add, remove and replace) of the annotations of {@link AnnotationOptions} and applies all of them in one pass, when committed.<br>
+ * All changes are validated before applying them, therefore if the commit fails, the options are not changed.<br>
+ * When committed with a chart, the chart is reconfigured once, instead of for each change.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class AnnotationTransaction {
+
+	// options to update
+	private final AnnotationOptions options;
+	// annotations to add, by id
+	private final Map<String, AbstractAnnotation> toAdd = new LinkedHashMap<>();
+	// annotations to replace, by id
+	private final Map<String, AbstractAnnotation> toReplace = new LinkedHashMap<>();
+	// ids of annotations to remove
+	private final Set<String> toRemove = new LinkedHashSet<>();
+	// if all annotations must be removed before applying the changes
+	private boolean clear = false;
+	// if the transaction has been already committed
+	private boolean committed = false;
+
+	/**
+	 * Creates the transaction for the options passed as argument.
+	 * 
+	 * @param options options to update when committed
+	 */
+	AnnotationTransaction(AnnotationOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Adds a set of annotations.<br>
+	 * If an annotation with the same id is already stored, it will be overridden.
+	 * 
+	 * @param annotations set of annotations to add
+	 * @return the transaction instance
+	 */
+	public AnnotationTransaction add(AbstractAnnotation... annotations) {
+		// checks if the transaction is still open
+		checkIfOpen();
+		// checks if array argument is consistent
+		if (ArrayUtil.isNotEmpty(annotations)) {
+			// scans all arguments
+			for (AbstractAnnotation annotation : annotations) {
+				String id = Checker.checkAndGetIfValid(annotation, "Annotation").getId().value();
+				// the last change wins
+				toRemove.remove(id);
+				toReplace.remove(id);
+				toAdd.put(id, annotation);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Replaces a set of annotations.<br>
+	 * The commit fails if an annotation with the same id does not exist.
+	 * 
+	 * @param annotations set of annotations to replace
+	 * @return the transaction instance
+	 */
+	public AnnotationTransaction replace(AbstractAnnotation... annotations) {
+		// checks if the transaction is still open
+		checkIfOpen();
+		// checks if array argument is consistent
+		if (ArrayUtil.isNotEmpty(annotations)) {
+			// scans all arguments
+			for (AbstractAnnotation annotation : annotations) {
+				String id = Checker.checkAndGetIfValid(annotation, "Annotation").getId().value();
+				// the last change wins
+				toRemove.remove(id);
+				toAdd.remove(id);
+				toReplace.put(id, annotation);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Removes a set of annotations by their ids, if exist.
+	 * 
+	 * @param ids set of annotation ids to remove
+	 * @return the transaction instance
+	 */
+	public AnnotationTransaction remove(String... ids) {
+		// checks if the transaction is still open
+		checkIfOpen();
+		// checks if array argument is consistent
+		if (ArrayUtil.isNotEmpty(ids)) {
+			// scans all arguments
+			for (String id : ids) {
+				remove(AnnotationId.create(id));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Removes a set of annotations by their ids, if exist.
+	 * 
+	 * @param ids set of annotation ids to remove
+	 * @return the transaction instance
+	 */
+	public AnnotationTransaction remove(AnnotationId... ids) {
+		// checks if the transaction is still open
+		checkIfOpen();
+		// checks if array argument is consistent
+		if (ArrayUtil.isNotEmpty(ids)) {
+			// scans all arguments
+			for (AnnotationId id : ids) {
+				// checks if the annotation id is consistent
+				AnnotationId.checkIfValid(id);
+				// the last change wins
+				toAdd.remove(id.value());
+				toReplace.remove(id.value());
+				toRemove.add(id.value());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Removes all annotations before applying the other changes of the transaction.<br>
+	 * The changes collected before this call are discarded.
+	 * 
+	 * @return the transaction instance
+	 */
+	public AnnotationTransaction clear() {
+		// checks if the transaction is still open
+		checkIfOpen();
+		toAdd.clear();
+		toReplace.clear();
+		toRemove.clear();
+		clear = true;
+		return this;
+	}
+
+	/**
+	 * Returns <code>true</code> if the transaction has been already committed.
+	 * 
+	 * @return <code>true</code> if the transaction has been already committed
+	 */
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	/**
+	 * Applies all changes to the options.
+	 */
+	public void commit() {
+		commit(null);
+	}
+
+	/**
+	 * Applies all changes to the options and then reconfigures the chart, if initialized.
+	 * 
+	 * @param chart chart instance to reconfigure once the changes are applied. If <code>null</code>, the chart is not reconfigured
+	 */
+	public void commit(IsChart chart) {
+		// checks if the transaction is still open
+		checkIfOpen();
+		// validates the replacements before changing anything
+		// if the annotations are cleared, nothing can be replaced
+		for (String id : toReplace.keySet()) {
+			if (clear || toRemove.contains(id) || !options.getAnnotationsMap().hasAnnotation(AnnotationId.create(id))) {
+				throw new IllegalArgumentException("Annotation '" + id + "' does not exist and can not be replaced");
+			}
+		}
+		committed = true;
+		AnnotationMap map = options.getAnnotationsMap();
+		// checks if all annotations must be removed
+		if (clear) {
+			map.clear();
+		}
+		// removes the annotations
+		for (String id : toRemove) {
+			map.removeAnnotation(AnnotationId.create(id));
+		}
+		// collects the annotations to store
+		List<AbstractAnnotation> annotations = new ArrayList<>(toAdd.size() + toReplace.size());
+		annotations.addAll(toReplace.values());
+		annotations.addAll(toAdd.values());
+		// stores the annotations
+		if (!annotations.isEmpty()) {
+			map.addAnnotations(annotations.toArray(new AbstractAnnotation[0]));
+		}
+		// checks if the chart must be reconfigured
+		if (IsChart.isValid(chart) && chart.isInitialized()) {
+			chart.reconfigure();
+		}
+	}
+
+	/**
+	 * Checks if the transaction has been already committed.<br>
+	 * If yes, an exception will be thrown.
+	 */
+	private void checkIfOpen() {
+		// checks if the transaction has been already committed
+		if (committed) {
+			throw new IllegalArgumentException("Transaction has been already committed");
+		}
+	}
+
+}
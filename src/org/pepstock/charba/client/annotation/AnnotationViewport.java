@@ -0,0 +1,127 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.annotation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.AxisKind;
+import org.pepstock.charba.client.items.ScaleItem;
+import org.pepstock.charba.client.options.ScaleId;
+
+/**
+ * Visible ranges of the scales of a chart, used to cull the annotations which are outside of them, for instance after a zoom or a pan.<br>
+ * The annotations are checked by their numeric or date values. When a value is missing, is a string or a callback, the annotation is considered unbounded on that
+ * side, therefore it is never culled wrongly.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class AnnotationViewport {
+
+	// ranges of the scales, by scale id
+	private final Map<String, double[]> ranges = new HashMap<>();
+	// default x scale id
+	private String defaultXScaleId = null;
+	// default y scale id
+	private String defaultYScaleId = null;
+
+	/**
+	 * Creates the viewport reading the current minimum and maximum of all scales of the chart.
+	 * 
+	 * @param chart chart instance
+	 * @param margin margin to add to both sides of the ranges, as ratio of the range
+	 */
+	AnnotationViewport(IsChart chart, double margin) {
+		// scans all scales
+		for (ScaleItem scale : chart.getNode().getScales().getItems().values()) {
+			double min = scale.getMin();
+			double max = scale.getMax();
+			// checks if the range is consistent
+			if (!Double.isNaN(min) && !Double.isNaN(max)) {
+				// adds the margin
+				double delta = Math.abs(max - min) * margin;
+				ranges.put(scale.getId().value(), new double[] { Math.min(min, max) - delta, Math.max(min, max) + delta });
+			}
+			// stores the first scale of each axis as default,
+			// as the annotation plugin does
+			if (defaultXScaleId == null && AxisKind.X.equals(scale.getAxis())) {
+				defaultXScaleId = scale.getId().value();
+			} else if (defaultYScaleId == null && AxisKind.Y.equals(scale.getAxis())) {
+				defaultYScaleId = scale.getId().value();
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the annotation intersects the visible ranges of its scales.
+	 * 
+	 * @param annotation annotation to check
+	 * @return <code>true</code> if the annotation intersects the visible ranges of its scales
+	 */
+	boolean isVisible(AbstractAnnotation annotation) {
+		// checks if line with scale id
+		if (annotation instanceof LineAnnotation && ((LineAnnotation) annotation).getScaleID() != null) {
+			LineAnnotation line = (LineAnnotation) annotation;
+			// gets the end value, using the value when missing
+			double endValue = Double.isNaN(line.getEndValueAsDouble()) ? line.getValueAsDouble() : line.getEndValueAsDouble();
+			return intersects(line.getScaleID(), null, line.getValueAsDouble(), endValue);
+		}
+		// checks if the annotation is positioned by a point
+		if (annotation instanceof AbstractPointedAnnotation) {
+			AbstractPointedAnnotation pointed = (AbstractPointedAnnotation) annotation;
+			// checks if the values are set
+			if (!Double.isNaN(pointed.getXValueAsDouble()) || !Double.isNaN(pointed.getYValueAsDouble())) {
+				return intersects(pointed.getXScaleID(), defaultXScaleId, pointed.getXValueAsDouble(), pointed.getXValueAsDouble()) && intersects(pointed.getYScaleID(), defaultYScaleId, pointed.getYValueAsDouble(), pointed.getYValueAsDouble());
+			}
+		}
+		// checks the box of the annotation
+		return intersects(annotation.getXScaleID(), defaultXScaleId, annotation.getXMinAsDouble(), annotation.getXMaxAsDouble()) && intersects(annotation.getYScaleID(), defaultYScaleId, annotation.getYMinAsDouble(), annotation.getYMaxAsDouble());
+	}
+
+	/**
+	 * Returns <code>true</code> if the interval of values intersects the visible range of the scale.
+	 * 
+	 * @param scaleId scale id of the annotation
+	 * @param defaultScaleId scale id to use if the annotation does not have any
+	 * @param start start of the interval or {@link Double#NaN} if unbounded
+	 * @param end end of the interval or {@link Double#NaN} if unbounded
+	 * @return <code>true</code> if the interval intersects the visible range of the scale or if the scale is not found
+	 */
+	private boolean intersects(ScaleId scaleId, String defaultScaleId, double start, double end) {
+		// gets the scale id to use
+		String id = scaleId != null ? scaleId.value() : defaultScaleId;
+		double[] range = id != null ? ranges.get(id) : null;
+		// checks if the range is available
+		if (range == null) {
+			return true;
+		}
+		// normalizes the interval
+		// missing values are unbounded
+		double min = Double.isNaN(start) ? Double.NEGATIVE_INFINITY : start;
+		double max = Double.isNaN(end) ? Double.POSITIVE_INFINITY : end;
+		if (!Double.isNaN(start) && !Double.isNaN(end) && start > end) {
+			min = end;
+			max = start;
+		}
+		return max >= range[0] && min <= range[1];
+	}
+
+}
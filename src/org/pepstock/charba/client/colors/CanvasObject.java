@@ -48,7 +48,9 @@ public abstract class CanvasObject extends NativeObjectContainer {
 	 */
 	enum Property implements Key
 	{
-		CHARBA_OBJECT_ID("charbaObjectID");
+		CHARBA_OBJECT_ID("charbaObjectID"),
+		// stored into canvas gradient and pattern items
+		CHARBA_OBJECT("charbaObject");
 
 		// name value of property
 		private final String value;
@@ -152,11 +154,30 @@ public abstract class CanvasObject extends NativeObjectContainer {
 		if (canvasObject != null) {
 			// cast to a native object in order to add a property
 			InternalGradient internal = new InternalGradient(canvasObject.as());
-			// sets id
-			internal.setId(getId());
+			// sets id and the definition of the canvas object
+			internal.setId(getId(), this);
 		}
 	}
 
+	/**
+	 * Returns the native object of the canvas object which has been stored to {@link CanvasGradientItem} or {@link CanvasPatternItem}.<br>
+	 * This is used to recreate the canvas object when it has been removed from the cache but it is still used by a chart.
+	 * 
+	 * @param canvasObject {@link CanvasGradientItem} or {@link CanvasPatternItem} instance where the canvas object has been stored
+	 * @return the native object of the canvas object or <code>null</code> if not stored
+	 */
+	static NativeObject retrieve(IsCastable canvasObject) {
+		// checks if argument is consistent
+		if (canvasObject != null) {
+			// cast to a native object in order to read the property
+			InternalGradient internal = new InternalGradient(canvasObject.as());
+			// returns the definition
+			return internal.getObject();
+		}
+		// if here, the argument is not consistent
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -229,16 +250,32 @@ public abstract class CanvasObject extends NativeObjectContainer {
 		}
 
 		/**
-		 * Sets the canvas object id to {@link CanvasGradientItem} or {@link CanvasPatternItem}.
+		 * Sets the canvas object id and definition to {@link CanvasGradientItem} or {@link CanvasPatternItem}.
 		 * 
 		 * @param id the canvas objetc id to set.
+		 * @param object the canvas object which is the definition of the item
 		 */
-		void setId(String id) {
+		void setId(String id, CanvasObject object) {
 			// sets the id ONLY is not already done
 			if (!hasId()) {
 				// stores the ID
 				setValue(Id.CHARBA_ID, id);
+				// stores the definition
+				setValue(Property.CHARBA_OBJECT, object);
+			}
+		}
+
+		/**
+		 * Returns the native object of the canvas object, stored to {@link CanvasGradientItem} or {@link CanvasPatternItem}.
+		 * 
+		 * @return the native object of the canvas object or <code>null</code> if not stored
+		 */
+		NativeObject getObject() {
+			// checks if the definition is stored
+			if (isType(Property.CHARBA_OBJECT, ObjectType.OBJECT)) {
+				return getValue(Property.CHARBA_OBJECT);
 			}
+			return null;
 		}
 	}
 
@@ -45,9 +45,12 @@ import org.pepstock.charba.client.items.IsArea;
  */
 public abstract class CanvasObjectFactory {
 
-	// cache for canvas gradients already created
-	// K = chart id, K = gradient id, V = canvas gradient
-	private final Map<String, Map<String, CanvasGradientItem>> gradientsCache = new HashMap<>();
+	// cache for canvas gradients already created, shared among charts with the same geometry
+	// K = gradient unique id plus geometry, V = canvas gradient with the count of references
+	private final Map<String, SharedGradient> sharedGradientsCache = new HashMap<>();
+	// cache for canvas gradients used by the charts
+	// K = chart id, V = gradients used by the chart
+	private final Map<String, ChartGradients> gradientsCache = new HashMap<>();
 	// cache for canvas patterns already created
 	// K = chart id, K = pattern id, V = canvas pattern
 	private final Map<String, Map<String, CanvasPatternItem>> patternCache = new HashMap<>();
@@ -125,14 +128,22 @@ public abstract class CanvasObjectFactory {
 	}
 
 	/**
-	 * Removes from cache all loaded gradients, needed during the resize of chart.
+	 * Invalidates the loaded gradients of the chart, needed during the resize of chart.<br>
+	 * The geometry of every gradient is checked again at next usage and only the gradients whose geometry has been changed are recreated.
 	 * 
-	 * @param chart chart instance on which removes all loaded gradients
+	 * @param chart chart instance on which invalidates all loaded gradients
 	 */
 	public final void resetGradients(IsChart chart) {
 		// checks if chart is consistent
 		if (IsChart.isValid(chart)) {
-			gradientsCache.remove(chart.getId());
+			// gets the gradients of the chart
+			ChartGradients chartGradients = gradientsCache.get(chart.getId());
+			// checks if there are gradients
+			if (chartGradients != null) {
+				// increments the generation
+				// in order to check the geometry again
+				chartGradients.generation++;
+			}
 		}
 	}
 
@@ -145,7 +156,15 @@ public abstract class CanvasObjectFactory {
 		// checks if chart is consistent
 		if (IsChart.isValid(chart)) {
 			patternCache.remove(chart.getId());
-			gradientsCache.remove(chart.getId());
+			// removes the gradients of the chart
+			ChartGradients chartGradients = gradientsCache.remove(chart.getId());
+			// checks if there are gradients
+			if (chartGradients != null) {
+				// releases all shared gradients used by the chart
+				for (GradientReference reference : chartGradients.references.values()) {
+					releaseSharedGradient(reference.geometryId);
+				}
+			}
 		}
 	}
 
@@ -162,22 +181,19 @@ public abstract class CanvasObjectFactory {
 		IsChart.checkIfValid(chart);
 		// checks if gradient is consistent
 		Checker.checkIfValid(gradient, "Gradient argument");
-		// checks if the gradient is already created
-		final Map<String, CanvasGradientItem> gradientsMap;
 		// creates the unique id
 		String uniqueId = createGradientUniqueId(gradient);
+		// creates the key of the gradient in the chart, adding the data set index
+		String referenceKey = uniqueId + Constants.MINUS + datasetIndex;
+		// gets the gradients of the chart
+		ChartGradients chartGradients = gradientsCache.computeIfAbsent(chart.getId(), mapKey -> new ChartGradients());
+		// gets the gradient reference
+		GradientReference reference = chartGradients.references.get(referenceKey);
 		// checks if the gradient is already created
-		if (gradientsCache.containsKey(chart.getId())) {
-			gradientsMap = gradientsCache.get(chart.getId());
-			if (gradientsMap.containsKey(uniqueId)) {
-				// returns the existing canvas gradient
-				return gradientsMap.get(uniqueId);
-			}
-		} else {
-			// new chart!
-			// creates the cache for the chart
-			gradientsMap = new HashMap<>();
-			gradientsCache.put(chart.getId(), gradientsMap);
+		// and the geometry has been already checked
+		if (reference != null && reference.generation == chartGradients.generation) {
+			// returns the existing canvas gradient
+			return reference.item;
 		}
 		// checks if chart is initialized
 		// if chart is not initialized
@@ -185,38 +201,128 @@ public abstract class CanvasObjectFactory {
 		Checker.assertCheck(chart.isInitialized() || Charts.hasNative(chart.getId()), "Chart is not initialized");
 		// creates the result instance
 		CanvasGradientItem result = null;
+		// creates the geometry id instance
+		String geometryId = null;
 		// checks if the gradient must be linear oe radial
 		if (GradientType.LINEAR.equals(gradient.getType())) {
-			// creates a linear
-			result = createLinearGradient(chart, gradient);
+			// gets the area
+			final Area area = getArea(chart, gradient);
+			// checks if area is consistent
+			Checker.checkIfValid(area, "Area for linear gradient");
+			Checker.assertCheck(IsArea.isConsistent(area), "Area for linear gradient is not consistent");
+			// creates the id by geometry
+			geometryId = createGeometryId(uniqueId, area.getTop(), area.getBottom(), area.getLeft(), area.getRight());
+			// checks if the geometry is not changed
+			if (reference != null && geometryId.equals(reference.geometryId)) {
+				// stores the current generation
+				reference.generation = chartGradients.generation;
+				// returns the existing canvas gradient
+				return reference.item;
+			}
+			// gets shared gradient, if exists
+			result = acquireSharedGradient(geometryId);
+			// checks if the canvas gradient must be created
+			if (result == null) {
+				// creates a linear
+				result = createLinearGradient(chart, gradient, area);
+			}
 		} else {
-			// creates a radial
-			result = createRadialGradient(chart, gradient, datasetIndex);
+			// these are the coordinates of center and radius of scope
+			final Center center = getCenter(chart, gradient, datasetIndex);
+			// checks if center is consistent
+			Checker.checkIfValid(center, "Center for radial gradient");
+			final Radius radius = getRadius(chart, gradient, datasetIndex);
+			// checks if radius is consistent
+			Checker.checkIfValid(radius, "Radius for radial gradient");
+			// creates the id by geometry
+			geometryId = createGeometryId(uniqueId, center.getX(), center.getY(), radius.getInner(), radius.getOuter());
+			// checks if the geometry is not changed
+			if (reference != null && geometryId.equals(reference.geometryId)) {
+				// stores the current generation
+				reference.generation = chartGradients.generation;
+				// returns the existing canvas gradient
+				return reference.item;
+			}
+			// gets shared gradient, if exists
+			result = acquireSharedGradient(geometryId);
+			// checks if the canvas gradient must be created
+			if (result == null) {
+				// creates a radial
+				result = createRadialGradient(chart, gradient, center, radius);
+			}
 		}
 		// checks if result is consistent
 		if (result != null) {
-			// stores id
-			gradient.store(result);
-			// scans all colors to add to gradient
-			for (GradientColor color : gradient.getColors()) {
-				// adds colors using offset and color
-				result.addColorStop(color.getOffset(), color.getColorAsString());
+			// checks if the shared gradient has been just created
+			if (!sharedGradientsCache.containsKey(geometryId)) {
+				// stores id
+				gradient.store(result);
+				// scans all colors to add to gradient
+				for (GradientColor color : gradient.getColors()) {
+					// adds colors using offset and color
+					result.addColorStop(color.getOffset(), color.getColorAsString());
+				}
+				// stores canvas gradient in the shared cache
+				sharedGradientsCache.put(geometryId, new SharedGradient(result));
 			}
-			// stores canvas gradient in the cache
-			gradientsMap.put(uniqueId, result);
+			// checks if the chart was using a gradient with a different geometry
+			if (reference != null) {
+				// releases previous shared gradient
+				releaseSharedGradient(reference.geometryId);
+			}
+			// stores canvas gradient in the cache of the chart
+			chartGradients.references.put(referenceKey, new GradientReference(result, geometryId, chartGradients.generation));
 		}
 		// returns result
 		return result;
 	}
 
+	/**
+	 * Returns the canvas gradient already created for the passed geometry id, incrementing its count of references, or <code>null</code> if not created yet.
+	 * 
+	 * @param geometryId gradient unique id plus geometry
+	 * @return the canvas gradient already created or <code>null</code> if not created yet
+	 */
+	private CanvasGradientItem acquireSharedGradient(String geometryId) {
+		// gets shared gradient
+		SharedGradient shared = sharedGradientsCache.get(geometryId);
+		// checks if exists
+		if (shared != null) {
+			// increments references
+			shared.references++;
+			return shared.item;
+		}
+		return null;
+	}
+
+	/**
+	 * Decrements the count of references of the canvas gradient for the passed geometry id and removes it from the cache when is not used anymore.
+	 * 
+	 * @param geometryId gradient unique id plus geometry
+	 */
+	private void releaseSharedGradient(String geometryId) {
+		// gets shared gradient
+		SharedGradient shared = sharedGradientsCache.get(geometryId);
+		// checks if exists
+		if (shared != null) {
+			// decrements references
+			shared.references--;
+			// checks if still used
+			if (shared.references <= 0) {
+				sharedGradientsCache.remove(geometryId);
+			}
+		}
+	}
+
 	/**
 	 * Creates a linear gradient, an image consisting of a progressive transition between two or more colors along a straight line.
 	 * 
 	 * @param chart chart instance which must provide a canvas instance and its context
 	 * @param gradient gradient instance created at configuration level
+	 * @param area area of the gradient
 	 * @return a linear canvas gradient
 	 */
-	private CanvasGradientItem createLinearGradient(IsChart chart, Gradient gradient) {
+	private CanvasGradientItem createLinearGradient(IsChart chart, Gradient gradient, Area area) {
 		// gets canvas and context 2d
 		Canvas canvas = chart.getCanvas();
 		Context2dItem context = canvas.getContext2d();
@@ -234,10 +340,6 @@ public abstract class CanvasObjectFactory {
 		// top - the y coordinate of the starting point of the scope
 		// right - the x coordinate of the ending point of the scope
 		// bottom - the y coordinate of the ending point of the scope
-		final Area area = getArea(chart, gradient);
-		// checks if area is consistent
-		Checker.checkIfValid(area, "Area for linear gradient");
-		Checker.assertCheck(IsArea.isConsistent(area), "Area for linear gradient is not consistent");
 		final double top = area.getTop();
 		final double bottom = area.getBottom();
 		final double left = area.getLeft();
@@ -307,10 +409,11 @@ public abstract class CanvasObjectFactory {
 	 * 
 	 * @param chart chart instance which must provide a canvas instance and its context
 	 * @param gradient gradient instance created at configuration level
-	 * @param datasetIndex data set index
+	 * @param center center of the gradient
+	 * @param radius radius of the gradient
 	 * @return a radial canvas gradient
 	 */
-	private CanvasGradientItem createRadialGradient(IsChart chart, Gradient gradient, int datasetIndex) {
+	private CanvasGradientItem createRadialGradient(IsChart chart, Gradient gradient, Center center, Radius radius) {
 		// gets canvas and context 2d
 		Canvas canvas = chart.getCanvas();
 		Context2dItem context = canvas.getContext2d();
@@ -328,14 +431,8 @@ public abstract class CanvasObjectFactory {
 		double y1 = 0;
 		double r1 = 0;
 		// these are the coordinates of center and radius of scope
-		final Center center = getCenter(chart, gradient, datasetIndex);
-		// checks if center is consistent
-		Checker.checkIfValid(center, "Center for radial gradient");
 		final double centerX = center.getX();
 		final double centerY = center.getY();
-		final Radius radius = getRadius(chart, gradient, datasetIndex);
-		// checks if radius is consistent
-		Checker.checkIfValid(radius, "Radius for radial gradient");
 		final double radius0 = radius.getInner();
 		final double radius1 = radius.getOuter();
 		// checks the orientation requires by gradient
@@ -379,6 +476,23 @@ public abstract class CanvasObjectFactory {
 		return sb.append(Constants.MINUS).append(getScope().value()).toString();
 	}
 
+	/**
+	 * Creates the id of a gradient by its geometry, the area for linear gradient or the center and radius for radial gradient.<br>
+	 * The chart and the data set index are not part of the id in order to share the same canvas gradient among charts and data sets with the same geometry.
+	 * 
+	 * @param uniqueId the unique id for gradient, using the scope
+	 * @param values coordinates which are defining the geometry of the gradient
+	 * @return the id of a gradient by its geometry
+	 */
+	private String createGeometryId(String uniqueId, double... values) {
+		StringBuilder sb = new StringBuilder(uniqueId);
+		// adds all coordinates
+		for (double value : values) {
+			sb.append(Constants.MINUS).append(value);
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Returns an area object used to define the area of LINEAR gradient.
 	 * 
@@ -408,4 +522,72 @@ public abstract class CanvasObjectFactory {
 	 */
 	protected abstract Radius getRadius(IsChart chart, Gradient gradient, int datasetIndex);
 
-}
\ No newline at end of file
+	/**
+	 * Canvas gradient shared among charts with the same geometry, with the count of references.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class SharedGradient {
+
+		private final CanvasGradientItem item;
+
+		private int references = 1;
+
+		/**
+		 * Creates the shared gradient with the first reference.
+		 * 
+		 * @param item canvas gradient instance
+		 */
+		private SharedGradient(CanvasGradientItem item) {
+			this.item = item;
+		}
+
+	}
+
+	/**
+	 * Canvas gradient used by a chart, with the geometry id and the generation when the geometry has been checked.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class GradientReference {
+
+		private final CanvasGradientItem item;
+
+		private final String geometryId;
+
+		private int generation;
+
+		/**
+		 * Creates the reference with the canvas gradient, its geometry id and the generation.
+		 * 
+		 * @param item canvas gradient instance
+		 * @param geometryId gradient unique id plus geometry
+		 * @param generation generation when the geometry has been checked
+		 */
+		private GradientReference(CanvasGradientItem item, String geometryId, int generation) {
+			this.item = item;
+			this.geometryId = geometryId;
+			this.generation = generation;
+		}
+
+	}
+
+	/**
+	 * Canvas gradients used by a chart.<br>
+	 * The generation is incremented every time the chart is resized in order to check the geometry of the gradients again.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class ChartGradients {
+
+		// K = gradient unique id plus data set index, V = gradient reference
+		private final Map<String, GradientReference> references = new HashMap<>();
+
+		private int generation = 0;
+
+	}
+
+}
@@ -18,12 +18,11 @@
 */
 package org.pepstock.charba.client.colors;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.pepstock.charba.client.commons.BoundedCache;
 import org.pepstock.charba.client.commons.Checker;
-import org.pepstock.charba.client.utils.RegExp;
-import org.pepstock.charba.client.utils.RegExpResult;
 
 /**
  * Utility to create colors by red, green and blue values, HEX value and RGB and RGBA strings.<br>
@@ -36,22 +35,14 @@ import org.pepstock.charba.client.utils.RegExpResult;
  */
 public final class ColorBuilder {
 
-	// REGEXP pattern for RGB
-	private static final String REGEXP_RGB_PATTERN = "rgb\\(\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*\\)";
-	// REGEXP pattern for RGBA
-	private static final String REGEXP_RGBA_PATTERN = "rgba\\(\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*,\\s*(\\d*\\.?\\d*)\\s*\\)";
-	// REGEXP pattern for HSL
-	private static final String REGEXP_HSL_PATTERN = "hsl\\(\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})%\\s*,\\s*(\\d{1,3})%\\s*\\)";
-	// REGEXP pattern for HSLA
-	private static final String REGEXP_HSLA_PATTERN = "hsla\\(\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})%\\s*,\\s*(\\d{1,3})%\\s*,\\s*(\\d*\\.?\\d*)\\s*\\)";
-	// REGEXP for RGB
-	private static final RegExp REGEXP_RGB = new RegExp(REGEXP_RGB_PATTERN);
-	// REGEXP for RGBA
-	private static final RegExp REGEXP_RGBA = new RegExp(REGEXP_RGBA_PATTERN);
-	// REGEXP for HSL
-	private static final RegExp REGEXP_HSL = new RegExp(REGEXP_HSL_PATTERN);
-	// REGEXP for HSLA
-	private static final RegExp REGEXP_HSLA = new RegExp(REGEXP_HSLA_PATTERN);
+	/**
+	 * Name of the cache of parsed colors, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String CACHE_NAME = "parsedColors";
+	// estimated weight in bytes of a parsed color
+	private static final int PARSED_COLOR_WEIGHT = 64;
+	// cache of the parsed colors, by the string representation
+	private static final BoundedCache<String, IsColor> PARSED_COLORS = new BoundedCache<>(CACHE_NAME, color -> PARSED_COLOR_WEIGHT);
 
 	/**
 	 * To avoid any instantiation
@@ -68,7 +59,7 @@ public final class ColorBuilder {
 	 */
 	public static List<IsColor> parse(List<String> colorsAsString) {
 		// creates result
-		final List<IsColor> colors = new LinkedList<>();
+		final List<IsColor> colors = new ArrayList<>(colorsAsString != null ? colorsAsString.size() : 0);
 		// checks if argument is consistent
 		if (colorsAsString != null) {
 			// scans all colors as strings
@@ -101,7 +92,8 @@ public final class ColorBuilder {
 		// in the GWT material color enumeration
 		for (GwtMaterialColor color : GwtMaterialColor.values()) {
 			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
+			// without creating the color instance of the enum
+			if (color.matches(r, g, b)) {
 				return color;
 			}
 		}
@@ -118,9 +110,34 @@ public final class ColorBuilder {
 		return new Color(r, g, b);
 	}
 
+	/**
+	 * Creates a color using an integer value which represents the color, as returned by {@link IsColor#toRGBs()}.<br>
+	 * The alpha channel is stored in 8 bits, therefore the transparency of the created color could differ slightly from the one of the original color.
+	 * 
+	 * <pre>
+	 *    byte     byte     byte     byte
+	 * |        |        |        |        |
+	 * +--------+--------+--------+--------+
+	 *   alpha      red     green    blue
+	 * </pre>
+	 * 
+	 * @param rgbs integer value which represents the color
+	 * @return a color instance
+	 */
+	public static IsColor build(int rgbs) {
+		// extracts the channels
+		int alpha = (rgbs >>> 24) & 0xFF;
+		int red = (rgbs >> 16) & 0xFF;
+		int green = (rgbs >> 8) & 0xFF;
+		int blue = rgbs & 0xFF;
+		// creates new color
+		return new Color(red, green, blue, alpha == 0xFF ? Color.DEFAULT_ALPHA : alpha / 255D);
+	}
+
 	/**
 	 * Returns a color parsing the string value passed as argument.<br>
-	 * It's able to parse HEX, RGB, RGBA and named color representation.
+	 * It's able to parse HEX, RGB, RGBA, HSL, HSLA and named color representation.<br>
+	 * The parsed colors are cached by the string representation.
 	 * 
 	 * @param value value to parse
 	 * @return color instance
@@ -128,6 +145,24 @@ public final class ColorBuilder {
 	public static IsColor parse(String value) {
 		// checks if the value is consistent
 		Checker.checkIfValid(value, "Color argument");
+		// checks if already parsed
+		IsColor color = PARSED_COLORS.get(value);
+		if (color == null) {
+			// parses the value and stores it
+			// colors are immutable then they can be shared
+			color = parseValue(value);
+			PARSED_COLORS.put(value, color);
+		}
+		return color;
+	}
+
+	/**
+	 * Returns a color parsing the string value passed as argument, without using the cache.
+	 * 
+	 * @param value value to parse
+	 * @return color instance
+	 */
+	private static IsColor parseValue(String value) {
 		// removes blanks to be able to check
 		// if starting with a specific label
 		String newValue = value.trim();
@@ -135,16 +170,16 @@ public final class ColorBuilder {
 		if (newValue.startsWith(ColorUtil.HEX_STARTING_CHAR)) {
 			// is a HEX
 			return buildByHexValue(newValue);
-		} else if (value.startsWith(ColorUtil.RGBA_STARTING_CHARS)) {
+		} else if (newValue.startsWith(ColorUtil.RGBA_STARTING_CHARS)) {
 			// is a RGBA. It must be checked before RGB
 			return buildByRGBAValue(newValue);
-		} else if (value.startsWith(ColorUtil.RGB_STARTING_CHARS)) {
+		} else if (newValue.startsWith(ColorUtil.RGB_STARTING_CHARS)) {
 			// is a RGB
 			return buildByRGBValue(newValue);
-		} else if (value.startsWith(ColorUtil.HSLA_STARTING_CHARS)) {
+		} else if (newValue.startsWith(ColorUtil.HSLA_STARTING_CHARS)) {
 			// is a HSLA. It must be checked before HSL
 			return buildByHSLAValue(newValue);
-		} else if (value.startsWith(ColorUtil.HSL_STARTING_CHARS)) {
+		} else if (newValue.startsWith(ColorUtil.HSL_STARTING_CHARS)) {
 			// is a HSL
 			return buildByHSLValue(newValue);
 		} else {
@@ -178,7 +213,8 @@ public final class ColorBuilder {
 		}
 		for (GwtMaterialColor color : GwtMaterialColor.values()) {
 			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
+			// without creating the color instance of the enum
+			if (color.matches(r, g, b)) {
 				return color.alpha(alpha);
 			}
 		}
@@ -204,34 +240,19 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	static IsColor buildByHexValue(String hexvalue, boolean searchOnEnum) {
-		// removes the pound
-		String newHexvalue = hexvalue.substring(1);
-		// checks if the HEX value is the short one
-		if (newHexvalue.length() == 3) {
-			// reads colors
-			String redValue = newHexvalue.substring(0, 1) + newHexvalue.substring(0, 1);
-			int red = Integer.parseInt(redValue, 16);
-			String greenValue = newHexvalue.substring(1, 2) + newHexvalue.substring(1, 2);
-			int green = Integer.parseInt(greenValue, 16);
-			String blueValue = newHexvalue.substring(2) + newHexvalue.substring(2);
-			int blue = Integer.parseInt(blueValue, 16);
-			// builds color
-			return build(red, green, blue);
-		} else if (newHexvalue.length() == 6) {
-			// checks if the HEX value
-			// reads colors
-			String redValue = newHexvalue.substring(0, 2);
-			int red = Integer.parseInt(redValue, 16);
-			String greenValue = newHexvalue.substring(2, 4);
-			int green = Integer.parseInt(greenValue, 16);
-			String blueValue = newHexvalue.substring(4);
-			int blue = Integer.parseInt(blueValue, 16);
-			// builds color
-			return searchOnEnum ? build(red, green, blue) : new Color(red, green, blue, Color.DEFAULT_ALPHA);
-		} else {
+		// checks the length of HEX value, without the pound
+		int length = hexvalue.length() - 1;
+		if (length != 3 && length != 6) {
 			// if here the hex value is not valid
 			throw new IllegalArgumentException("Color length in HEX format is not valid. Must have a length of 3 or 6 charactes");
 		}
+		// reads the channels
+		int[] channels = ColorTokenizer.tokenizeHex(hexvalue);
+		// checks if the channels are consistent
+		Checker.checkIfValid(channels, "Invalid HEX format for color: " + hexvalue);
+		// builds color
+		// the short format is always searched on enumerations
+		return searchOnEnum || length == 3 ? build(channels[0], channels[1], channels[2]) : new Color(channels[0], channels[1], channels[2], Color.DEFAULT_ALPHA);
 	}
 
 	/**
@@ -241,35 +262,12 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByRGBValue(String rgbvalue) {
-		// executes regular expression
-		RegExpResult matcher = REGEXP_RGB.exec(rgbvalue);
-		// checks if matcher instance is consistent
-		Checker.checkIfValid(matcher, "Invalid RGB format for color: " + rgbvalue);
-		// checks if matcher is consistent
-		Checker.checkIfEqualTo(matcher.length(), 4, "Invalid RGB format for color: " + rgbvalue);
-		// initializes integers values
-		int red = 0;
-		int green = 0;
-		int blue = 0;
-		// scans all token. Starts by 1
-		for (int i = 1; i < matcher.length(); i++) {
-			String groupStr = matcher.get(i);
-			switch (i) {
-			case 1:
-				red = Integer.parseInt(groupStr);
-				break;
-			case 2:
-				green = Integer.parseInt(groupStr);
-				break;
-			case 3:
-				blue = Integer.parseInt(groupStr);
-				break;
-			default:
-				break;
-			}
-		}
+		// tokenizes the value
+		double[] components = ColorTokenizer.tokenizeFunction(rgbvalue, ColorUtil.RGB_STARTING_CHARS.length(), ColorTokenizer.AMOUNT_OF_COMPONENTS, false);
+		// checks if components are consistent
+		Checker.checkIfValid(components, "Invalid RGB format for color: " + rgbvalue);
 		// builds color
-		return build(red, green, blue);
+		return build((int) components[0], (int) components[1], (int) components[2]);
 	}
 
 	/**
@@ -279,39 +277,12 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByRGBAValue(String rgbavalue) {
-		// executes regular expression
-		RegExpResult matcher = REGEXP_RGBA.exec(rgbavalue);
-		// checks if matcher instance is consistent
-		Checker.checkIfValid(matcher, "Invalid RGBA format for color: " + rgbavalue);
-		// checks if matcher is consistent
-		Checker.checkIfEqualTo(matcher.length(), 5, "Invalid RGBA format for color: " + rgbavalue);
-		// initializes integers values
-		int red = 0;
-		int green = 0;
-		int blue = 0;
-		double alpha = Color.DEFAULT_ALPHA;
-		// scans all token. Starts by 1
-		for (int i = 1; i < matcher.length(); i++) {
-			String groupStr = matcher.get(i);
-			switch (i) {
-			case 1:
-				red = Integer.parseInt(groupStr);
-				break;
-			case 2:
-				green = Integer.parseInt(groupStr);
-				break;
-			case 3:
-				blue = Integer.parseInt(groupStr);
-				break;
-			case 4:
-				alpha = Double.parseDouble(groupStr);
-				break;
-			default:
-				break;
-			}
-		}
+		// tokenizes the value
+		double[] components = ColorTokenizer.tokenizeFunction(rgbavalue, ColorUtil.RGBA_STARTING_CHARS.length(), ColorTokenizer.AMOUNT_OF_COMPONENTS_WITH_ALPHA, false);
+		// checks if components are consistent
+		Checker.checkIfValid(components, "Invalid RGBA format for color: " + rgbavalue);
 		// builds color
-		return build(red, green, blue, alpha);
+		return build((int) components[0], (int) components[1], (int) components[2], components[3]);
 	}
 
 	/**
@@ -321,35 +292,12 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByHSLValue(String hslvalue) {
-		// executes regular expression
-		RegExpResult matcher = REGEXP_HSL.exec(hslvalue);
-		// checks if matcher instance is consistent
-		Checker.checkIfValid(matcher, "Invalid HSL format for color: " + hslvalue);
-		// checks if matcher is consistent
-		Checker.checkIfEqualTo(matcher.length(), 4, "Invalid HSL format for color: " + hslvalue);
-		// initializes integers values
-		int hue = 0;
-		int saturation = 0;
-		int lightness = 0;
-		// scans all token. Starts by 1
-		for (int i = 1; i < matcher.length(); i++) {
-			String groupStr = matcher.get(i);
-			switch (i) {
-			case 1:
-				hue = Integer.parseInt(groupStr);
-				break;
-			case 2:
-				saturation = Integer.parseInt(groupStr);
-				break;
-			case 3:
-				lightness = Integer.parseInt(groupStr);
-				break;
-			default:
-				break;
-			}
-		}
+		// tokenizes the value
+		double[] components = ColorTokenizer.tokenizeFunction(hslvalue, ColorUtil.HSL_STARTING_CHARS.length(), ColorTokenizer.AMOUNT_OF_COMPONENTS, true);
+		// checks if components are consistent
+		Checker.checkIfValid(components, "Invalid HSL format for color: " + hslvalue);
 		// builds color
-		return convertHSL2RGB(hue, saturation, lightness, Double.NaN);
+		return convertHSL2RGB((int) components[0], (int) components[1], (int) components[2], Double.NaN);
 	}
 
 	/**
@@ -359,39 +307,12 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByHSLAValue(String hslavalue) {
-		// executes regular expression
-		RegExpResult matcher = REGEXP_HSLA.exec(hslavalue);
-		// checks if matcher instance is consistent
-		Checker.checkIfValid(matcher, "Invalid HSLA format for color: " + hslavalue);
-		// checks if matcher is consistent
-		Checker.checkIfEqualTo(matcher.length(), 5, "HSLA HSL format for color: " + hslavalue);
-		// initializes integers values
-		int hue = 0;
-		int saturation = 0;
-		int lightness = 0;
-		double alpha = Color.DEFAULT_ALPHA;
-		// scans all token. Starts by 1
-		for (int i = 1; i < matcher.length(); i++) {
-			String groupStr = matcher.get(i);
-			switch (i) {
-			case 1:
-				hue = Integer.parseInt(groupStr);
-				break;
-			case 2:
-				saturation = Integer.parseInt(groupStr);
-				break;
-			case 3:
-				lightness = Integer.parseInt(groupStr);
-				break;
-			case 4:
-				alpha = Double.parseDouble(groupStr);
-				break;
-			default:
-				break;
-			}
-		}
+		// tokenizes the value
+		double[] components = ColorTokenizer.tokenizeFunction(hslavalue, ColorUtil.HSLA_STARTING_CHARS.length(), ColorTokenizer.AMOUNT_OF_COMPONENTS_WITH_ALPHA, true);
+		// checks if components are consistent
+		Checker.checkIfValid(components, "Invalid HSLA format for color: " + hslavalue);
 		// builds color
-		return convertHSL2RGB(hue, saturation, lightness, alpha);
+		return convertHSL2RGB((int) components[0], (int) components[1], (int) components[2], components[3]);
 	}
 
 	/**
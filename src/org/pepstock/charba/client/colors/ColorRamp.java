@@ -0,0 +1,330 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.colors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleFunction;
+
+import org.pepstock.charba.client.commons.Checker;
+
+/**
+ * Immutable lookup table of colors, precomputed from a set of stopping colors, a {@link Gradient} or an interpolator function.<br>
+ * It maps a normalized value (between 0 and 1) to a color in constant time, without any interpolation at runtime, and can be used for continuous color scales, like
+ * the color axes of GEO charts or the heat coloring of matrix charts, where the same mapping is invoked for thousands of elements.<br>
+ * The colors are stored as integer values, as returned by {@link IsColor#toRGBs()}, while the string and {@link IsColor} representations are created on first use and
+ * then reused.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ColorRamp {
+
+	/**
+	 * Default amount of colors of the lookup table, <b>{@value DEFAULT_SIZE}</b>.
+	 */
+	public static final int DEFAULT_SIZE = 256;
+
+	/**
+	 * Minimum amount of colors of the lookup table, <b>{@value MINIMUM_SIZE}</b>.
+	 */
+	public static final int MINIMUM_SIZE = 2;
+
+	/**
+	 * Maximum amount of colors of the lookup table, <b>{@value MAXIMUM_SIZE}</b>.
+	 */
+	public static final int MAXIMUM_SIZE = 4096;
+
+	// colors of the lookup table as RGBs values
+	private final int[] rgbs;
+	// colors of the lookup table as RGBA strings, created on first use
+	private final String[] colorsAsString;
+	// colors of the lookup table, created on first use
+	private final IsColor[] colors;
+
+	/**
+	 * Creates the lookup table with the colors as RGBs values.
+	 * 
+	 * @param rgbs colors of the lookup table as RGBs values
+	 */
+	private ColorRamp(int[] rgbs) {
+		this.rgbs = rgbs;
+		this.colorsAsString = new String[rgbs.length];
+		this.colors = new IsColor[rgbs.length];
+	}
+
+	/**
+	 * Creates a lookup table with {@link ColorRamp#DEFAULT_SIZE} colors, interpolating the passed colors, evenly distributed.
+	 * 
+	 * @param colors stopping colors, at least 2
+	 * @return a lookup table of colors
+	 */
+	public static ColorRamp create(IsColor... colors) {
+		return create(DEFAULT_SIZE, colors);
+	}
+
+	/**
+	 * Creates a lookup table with the passed amount of colors, interpolating the passed colors, evenly distributed.
+	 * 
+	 * @param size amount of colors of the lookup table
+	 * @param colors stopping colors, at least 2
+	 * @return a lookup table of colors
+	 */
+	public static ColorRamp create(int size, IsColor... colors) {
+		// checks if colors are consistent
+		Checker.checkIfValid(colors, "Colors argument");
+		Checker.checkIfGreaterThan(colors.length, 1, "Amount of colors");
+		// creates the offsets
+		double[] offsets = new double[colors.length];
+		for (int i = 0; i < colors.length; i++) {
+			offsets[i] = i / (double) (colors.length - 1);
+		}
+		return create(size, offsets, colors);
+	}
+
+	/**
+	 * Creates a lookup table with {@link ColorRamp#DEFAULT_SIZE} colors, interpolating the stopping colors of the passed gradient.
+	 * 
+	 * @param gradient gradient with the stopping colors to interpolate
+	 * @return a lookup table of colors
+	 */
+	public static ColorRamp create(Gradient gradient) {
+		return create(DEFAULT_SIZE, gradient);
+	}
+
+	/**
+	 * Creates a lookup table with the passed amount of colors, interpolating the stopping colors of the passed gradient.
+	 * 
+	 * @param size amount of colors of the lookup table
+	 * @param gradient gradient with the stopping colors to interpolate
+	 * @return a lookup table of colors
+	 */
+	public static ColorRamp create(int size, Gradient gradient) {
+		// checks if gradient is consistent
+		Checker.checkIfValid(gradient, "Gradient argument");
+		// gets the stopping colors sorted by offset
+		List<GradientColor> stops = new ArrayList<>(gradient.getColors());
+		stops.sort((color1, color2) -> Double.compare(color1.getOffset(), color2.getOffset()));
+		// checks the amount of colors
+		Checker.checkIfGreaterThan(stops.size(), 0, "Amount of gradient colors");
+		// creates the offsets and colors
+		double[] offsets = new double[stops.size()];
+		IsColor[] colors = new IsColor[stops.size()];
+		for (int i = 0; i < stops.size(); i++) {
+			GradientColor stop = stops.get(i);
+			offsets[i] = stop.getOffset();
+			colors[i] = stop.getColor();
+		}
+		return create(size, offsets, colors);
+	}
+
+	/**
+	 * Creates a lookup table with the passed amount of colors, sampling the passed interpolator.<br>
+	 * The interpolator is invoked once for each color of the lookup table, with a normalized value between 0 and 1.
+	 * 
+	 * @param size amount of colors of the lookup table
+	 * @param interpolator function which returns a color for a normalized value between 0 and 1
+	 * @return a lookup table of colors
+	 */
+	public static ColorRamp create(int size, DoubleFunction<IsColor> interpolator) {
+		// checks arguments
+		Checker.checkIfBetween(size, MINIMUM_SIZE, MAXIMUM_SIZE, "Size argument");
+		Checker.checkIfValid(interpolator, "Interpolator argument");
+		// creates the lookup table
+		int[] rgbs = new int[size];
+		for (int i = 0; i < size; i++) {
+			IsColor color = interpolator.apply(i / (double) (size - 1));
+			// checks if the color is consistent
+			IsColor.checkIfValid(color);
+			rgbs[i] = color.toRGBs();
+		}
+		return new ColorRamp(rgbs);
+	}
+
+	/**
+	 * Creates a lookup table with the passed amount of colors, interpolating the passed colors at the passed offsets.
+	 * 
+	 * @param size amount of colors of the lookup table
+	 * @param offsets sorted offsets, between 0 and 1, of the stopping colors
+	 * @param colors stopping colors
+	 * @return a lookup table of colors
+	 */
+	private static ColorRamp create(int size, double[] offsets, IsColor[] colors) {
+		// checks arguments
+		Checker.checkIfBetween(size, MINIMUM_SIZE, MAXIMUM_SIZE, "Size argument");
+		for (IsColor color : colors) {
+			IsColor.checkIfValid(color);
+		}
+		// creates the lookup table
+		int[] rgbs = new int[size];
+		// index of the stopping color at the end of the current segment
+		int stop = 0;
+		for (int i = 0; i < size; i++) {
+			double offset = i / (double) (size - 1);
+			// moves to the segment which contains the offset
+			// offsets are increasing then the segment is never searched again from the beginning
+			while (stop < offsets.length && offsets[stop] < offset) {
+				stop++;
+			}
+			if (stop == 0) {
+				// before the first stopping color
+				rgbs[i] = colors[0].toRGBs();
+			} else if (stop == offsets.length) {
+				// after the last stopping color
+				rgbs[i] = colors[offsets.length - 1].toRGBs();
+			} else {
+				// interpolates between the stopping colors of the segment
+				double segment = offsets[stop] - offsets[stop - 1];
+				double factor = segment > 0 ? (offset - offsets[stop - 1]) / segment : 1D;
+				rgbs[i] = interpolate(colors[stop - 1], colors[stop], factor);
+			}
+		}
+		return new ColorRamp(rgbs);
+	}
+
+	/**
+	 * Interpolates linearly the channels of the passed colors, returning the color as RGBs value.
+	 * 
+	 * @param start starting color
+	 * @param end ending color
+	 * @param factor factor of interpolation, between 0 and 1
+	 * @return the interpolated color as RGBs value
+	 */
+	private static int interpolate(IsColor start, IsColor end, double factor) {
+		int red = (int) Math.round(start.getRed() + (end.getRed() - start.getRed()) * factor);
+		int green = (int) Math.round(start.getGreen() + (end.getGreen() - start.getGreen()) * factor);
+		int blue = (int) Math.round(start.getBlue() + (end.getBlue() - start.getBlue()) * factor);
+		double alpha = start.getAlpha() + (end.getAlpha() - start.getAlpha()) * factor;
+		return (int) Math.round(alpha * 255D) << 24 | red << 16 | green << 8 | blue;
+	}
+
+	/**
+	 * Returns the amount of colors of the lookup table.
+	 * 
+	 * @return the amount of colors of the lookup table
+	 */
+	public int size() {
+		return rgbs.length;
+	}
+
+	/**
+	 * Returns the index of the lookup table for the passed normalized value.<br>
+	 * Values out of the range between 0 and 1 are clamped and {@link Double#NaN} is mapped to the first color.
+	 * 
+	 * @param normalizedValue normalized value, between 0 and 1
+	 * @return the index of the lookup table
+	 */
+	public int getIndex(double normalizedValue) {
+		// checks if the value is consistent
+		if (Double.isNaN(normalizedValue) || normalizedValue <= 0D) {
+			return 0;
+		} else if (normalizedValue >= 1D) {
+			return rgbs.length - 1;
+		}
+		return (int) (normalizedValue * (rgbs.length - 1) + 0.5D);
+	}
+
+	/**
+	 * Returns the color, as RGBs value, for the passed normalized value.
+	 * 
+	 * @param normalizedValue normalized value, between 0 and 1
+	 * @return the color as RGBs value
+	 * @see IsColor#toRGBs()
+	 */
+	public int getColorAsRGBs(double normalizedValue) {
+		return rgbs[getIndex(normalizedValue)];
+	}
+
+	/**
+	 * Returns the color, as RGBA string, for the passed normalized value.
+	 * 
+	 * @param normalizedValue normalized value, between 0 and 1
+	 * @return the color as RGBA string
+	 */
+	public String getColorAsString(double normalizedValue) {
+		int index = getIndex(normalizedValue);
+		// checks if the string has been already created
+		if (colorsAsString[index] == null) {
+			colorsAsString[index] = getColorAt(index).toRGBA();
+		}
+		return colorsAsString[index];
+	}
+
+	/**
+	 * Returns the color for the passed normalized value.
+	 * 
+	 * @param normalizedValue normalized value, between 0 and 1
+	 * @return the color
+	 */
+	public IsColor getColor(double normalizedValue) {
+		return getColorAt(getIndex(normalizedValue));
+	}
+
+	/**
+	 * Returns the color, as RGBA string, for the passed value, normalized by the passed minimum and maximum.
+	 * 
+	 * @param value value to map to a color
+	 * @param minimum minimum value, mapped to the first color
+	 * @param maximum maximum value, mapped to the last color
+	 * @return the color as RGBA string
+	 */
+	public String getColorAsString(double value, double minimum, double maximum) {
+		return getColorAsString(normalize(value, minimum, maximum));
+	}
+
+	/**
+	 * Returns the color for the passed value, normalized by the passed minimum and maximum.
+	 * 
+	 * @param value value to map to a color
+	 * @param minimum minimum value, mapped to the first color
+	 * @param maximum maximum value, mapped to the last color
+	 * @return the color
+	 */
+	public IsColor getColor(double value, double minimum, double maximum) {
+		return getColor(normalize(value, minimum, maximum));
+	}
+
+	/**
+	 * Normalizes the passed value by the passed minimum and maximum.
+	 * 
+	 * @param value value to normalize
+	 * @param minimum minimum value
+	 * @param maximum maximum value
+	 * @return the normalized value
+	 */
+	private double normalize(double value, double minimum, double maximum) {
+		double range = maximum - minimum;
+		return range > 0 ? (value - minimum) / range : 0D;
+	}
+
+	/**
+	 * Returns the color of the lookup table at the passed index, creating it if not already created.
+	 * 
+	 * @param index index of the lookup table
+	 * @return the color
+	 */
+	private IsColor getColorAt(int index) {
+		// checks if the color has been already created
+		if (colors[index] == null) {
+			colors[index] = ColorBuilder.build(rgbs[index]);
+		}
+		return colors[index];
+	}
+
+}
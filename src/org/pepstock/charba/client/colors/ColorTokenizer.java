@@ -0,0 +1,209 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.colors;
+
+/**
+ * Single pass tokenizer of the string representation of a color, without using regular expressions.<br>
+ * It's able to tokenize HEX (<code>#rgb</code> and <code>#rrggbb</code>), RGB (<code>rgb(r, g, b)</code>), RGBA (<code>rgba(r, g, b, a)</code>), HSL
+ * (<code>hsl(h, s%, l%)</code>) and HSLA (<code>hsla(h, s%, l%, a)</code>) formats.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ColorTokenizer {
+
+	// amount of components of RGB and HSL formats
+	static final int AMOUNT_OF_COMPONENTS = 3;
+	// amount of components of RGBA and HSLA formats
+	static final int AMOUNT_OF_COMPONENTS_WITH_ALPHA = 4;
+	// maximum amount of digits of a channel
+	private static final int MAX_CHANNEL_DIGITS = 3;
+	// radix of HEX format
+	private static final int HEX_RADIX = 16;
+	// string to tokenize
+	private final String value;
+	// current position in the string
+	private int position;
+
+	/**
+	 * Creates the tokenizer for the value, starting from the passed position.
+	 * 
+	 * @param value string to tokenize
+	 * @param position starting position
+	 */
+	private ColorTokenizer(String value, int position) {
+		this.value = value;
+		this.position = position;
+	}
+
+	/**
+	 * Tokenizes a HEX color, <code>#rgb</code> or <code>#rrggbb</code>, returning the red, green and blue channels or <code>null</code> if the value is not valid.
+	 * 
+	 * @param value HEX color, already trimmed
+	 * @return an array with the red, green and blue channels or <code>null</code> if the value is not valid
+	 */
+	static int[] tokenizeHex(String value) {
+		// gets the amount of HEX digits, without the pound
+		int digits = value.length() - 1;
+		// checks if the HEX value is the short one
+		boolean isShort = digits == AMOUNT_OF_COMPONENTS;
+		// checks the length
+		if (!isShort && digits != AMOUNT_OF_COMPONENTS * 2) {
+			return null;
+		}
+		// creates the result
+		int[] result = new int[AMOUNT_OF_COMPONENTS];
+		// scans all channels
+		for (int i = 0; i < AMOUNT_OF_COMPONENTS; i++) {
+			// gets the first digit of the channel
+			int high = Character.digit(value.charAt(isShort ? i + 1 : i * 2 + 1), HEX_RADIX);
+			// gets the second digit of the channel
+			// in the short format, the digit is repeated
+			int low = isShort ? high : Character.digit(value.charAt(i * 2 + 2), HEX_RADIX);
+			// checks if digits are valid
+			if (high < 0 || low < 0) {
+				return null;
+			}
+			result[i] = high * HEX_RADIX + low;
+		}
+		return result;
+	}
+
+	/**
+	 * Tokenizes a color in functional notation, like <code>rgb(r, g, b)</code> or <code>hsla(h, s%, l%, a)</code>, returning the components or <code>null</code> if the value
+	 * is not valid.<br>
+	 * The first 3 components must be integers with maximum 3 digits, the 4th one, if requested, is the alpha as decimal number.
+	 * 
+	 * @param value color in functional notation, already trimmed
+	 * @param prefixLength length of the function name, like <code>rgb</code> or <code>hsla</code>
+	 * @param amount amount of components to read, 3 or 4
+	 * @param percentages if <code>true</code>, the 2nd and 3rd components must end with <code>%</code>, as HSL format requires
+	 * @return an array with the components or <code>null</code> if the value is not valid
+	 */
+	static double[] tokenizeFunction(String value, int prefixLength, int amount, boolean percentages) {
+		// creates the tokenizer after the function name
+		ColorTokenizer tokenizer = new ColorTokenizer(value, prefixLength);
+		// checks the opening parenthesis
+		if (!tokenizer.consume('(')) {
+			return null;
+		}
+		// creates the result
+		double[] result = new double[amount];
+		// scans all components
+		for (int i = 0; i < amount; i++) {
+			tokenizer.skipWhitespaces();
+			// checks if it's reading a channel or the alpha
+			if (i < AMOUNT_OF_COMPONENTS) {
+				// reads integer
+				int channel = tokenizer.readInteger();
+				// checks if the percentage is required
+				if (channel < 0 || (percentages && i > 0 && !tokenizer.consume('%'))) {
+					return null;
+				}
+				result[i] = channel;
+			} else {
+				// reads alpha
+				double alpha = tokenizer.readDecimal();
+				// checks if valid
+				if (Double.isNaN(alpha)) {
+					return null;
+				}
+				result[i] = alpha;
+			}
+			tokenizer.skipWhitespaces();
+			// checks the separator or the closing parenthesis
+			if (!tokenizer.consume(i < amount - 1 ? ',' : ')')) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Consumes the passed char if it's the current one.
+	 * 
+	 * @param expected char to consume
+	 * @return <code>true</code> if the char has been consumed
+	 */
+	private boolean consume(char expected) {
+		// checks if the current char is the expected one
+		if (position < value.length() && value.charAt(position) == expected) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Skips all white spaces from the current position.
+	 */
+	private void skipWhitespaces() {
+		while (position < value.length() && Character.isWhitespace(value.charAt(position))) {
+			position++;
+		}
+	}
+
+	/**
+	 * Reads an integer, with maximum 3 digits, from the current position.
+	 * 
+	 * @return the integer or <code>-1</code> if there is not any valid integer
+	 */
+	private int readInteger() {
+		int result = 0;
+		int digits = 0;
+		// scans the digits
+		while (position < value.length() && Character.isDigit(value.charAt(position))) {
+			// checks the maximum amount of digits
+			if (digits == MAX_CHANNEL_DIGITS) {
+				return -1;
+			}
+			result = result * 10 + (value.charAt(position) - '0');
+			digits++;
+			position++;
+		}
+		return digits > 0 ? result : -1;
+	}
+
+	/**
+	 * Reads a decimal number, like <code>1</code>, <code>0.5</code> or <code>.5</code>, from the current position.
+	 * 
+	 * @return the decimal number or {@link Double#NaN} if there is not any valid number
+	 */
+	private double readDecimal() {
+		int start = position;
+		int digits = 0;
+		// scans the integer part
+		while (position < value.length() && Character.isDigit(value.charAt(position))) {
+			digits++;
+			position++;
+		}
+		// checks if there is the decimal part
+		if (consume('.')) {
+			// scans the decimal part
+			while (position < value.length() && Character.isDigit(value.charAt(position))) {
+				digits++;
+				position++;
+			}
+		}
+		// parses the scanned digits at once
+		// in order to get the same value of the literal, without rounding drift
+		return digits > 0 ? Double.parseDouble(value.substring(start, position)) : Double.NaN;
+	}
+
+}
@@ -19,13 +19,12 @@
 package org.pepstock.charba.client.colors;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayUtil;
+import org.pepstock.charba.client.commons.BoundedCache;
 import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Id;
@@ -47,9 +46,17 @@ import org.pepstock.charba.client.utils.Utilities;
  */
 public final class GradientBuilder {
 
+	/**
+	 * Name of the cache of the gradients, <b>{@value CACHE_NAME}</b>, to use to get statistics and to tune its limits by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String CACHE_NAME = "gradients";
+	// estimated bytes of a gradient without colors
+	private static final int GRADIENT_BYTES = 128;
+	// estimated bytes of a gradient color
+	private static final int GRADIENT_COLOR_BYTES = 64;
 	// cache for the gradients created in order to build only when needed
 	// K = canvas object id, V = gradient instance
-	private static final Map<String, Gradient> GRADIENTS = new HashMap<>();
+	private static final BoundedCache<String, Gradient> GRADIENTS = new BoundedCache<>(CACHE_NAME, gradient -> GRADIENT_BYTES + gradient.getColors().size() * GRADIENT_COLOR_BYTES);
 	// gradient type instance
 	private final GradientType type;
 	// gradient orientation instance
@@ -253,9 +260,10 @@ public final class GradientBuilder {
 		// generates id
 		String id = generateId();
 		// checks if gradient is cached
-		if (GRADIENTS.containsKey(id)) {
+		Gradient cached = GRADIENTS.get(id);
+		if (cached != null) {
 			// returns the cached object
-			return GRADIENTS.get(id);
+			return cached;
 		}
 		// gets gradient reference
 		Gradient result = new Gradient(id, type, orientation, scope, colors);
@@ -279,9 +287,10 @@ public final class GradientBuilder {
 		// checks if id is consistent
 		Checker.assertCheck(id != null, Utilities.applyTemplate(CanvasObject.MISSING_PROPERTY, CanvasObject.Property.CHARBA_OBJECT_ID.value()));
 		// checks if gradient is cached
-		if (GRADIENTS.containsKey(id)) {
+		Gradient cached = GRADIENTS.get(id);
+		if (cached != null) {
 			// returns the cached object
-			return GRADIENTS.get(id);
+			return cached;
 		}
 		// creates new gradient
 		Gradient result = new Gradient(nativeObject);
@@ -292,12 +301,13 @@ public final class GradientBuilder {
 	}
 
 	/**
-	 * Retrieves a cached pattern by a {@link CanvasGradientItem} instance.<br>
-	 * If the pattern doesn't exist, returns <code>null</code>.
+	 * Retrieves a cached gradient by a {@link CanvasGradientItem} instance.<br>
+	 * If the gradient has been removed from the cache, it is recreated by the definition stored into the canvas gradient.<br>
+	 * If the gradient doesn't exist, returns <code>null</code>.
 	 * 
 	 * @param canvasGradient the canvas gradient to use for searching
-	 * @return a cached pattern by a {@link CanvasGradientItem} instance.<br>
-	 *         If the pattern doesn't exist, returns <code>null</code>
+	 * @return a cached gradient by a {@link CanvasGradientItem} instance.<br>
+	 *         If the gradient doesn't exist, returns <code>null</code>
 	 */
 	public static Gradient retrieve(CanvasGradientItem canvasGradient) {
 		// checks if argument is consistent
@@ -305,10 +315,22 @@ public final class GradientBuilder {
 			// casts to native object
 			// extracts the id from object
 			String id = Id.get((NativeObject) canvasGradient.as());
-			// checks if gradient is cached and id is consistent
-			if (id != null && GRADIENTS.containsKey(id)) {
-				// returns the cached object
-				return GRADIENTS.get(id);
+			// checks if id is consistent
+			if (id != null) {
+				// gets the cached object, if there is
+				Gradient cached = GRADIENTS.get(id);
+				// checks if the object has been removed from the cache
+				// but the canvas item is still used by a chart
+				if (cached == null) {
+					// gets the definition stored into canvas item
+					NativeObject definition = CanvasObject.retrieve(canvasGradient);
+					// checks if the definition is consistent
+					if (definition != null) {
+						// recreates the object, storing it into cache again
+						return build(definition);
+					}
+				}
+				return cached;
 			}
 		}
 		// if here, the argument is not consistent or
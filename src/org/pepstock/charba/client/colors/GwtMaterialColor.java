@@ -1134,16 +1134,23 @@ public enum GwtMaterialColor implements IsEnumeratedColor
 	 */
 	WHITE("#ffffff");
 
-	// color instance
-	private final IsColor color;
+	// color string representation in HEX
+	private final String hexValue;
+	// red, green and blue channels packed in an integer
+	private final int rgb;
+	// color instance, created at first usage
+	private IsColor color = null;
 
 	/**
-	 * Creates a color with HEX value.
+	 * Creates a color with HEX value.<br>
+	 * The color instance is created only when the color is used for the first time.
 	 * 
 	 * @param hexValue color string representation in HEX
 	 */
 	private GwtMaterialColor(String hexValue) {
-		color = ColorBuilder.buildByHexValue(hexValue, false);
+		this.hexValue = hexValue;
+		// parses the HEX value, without the pound
+		this.rgb = Integer.parseInt(hexValue.substring(1), 16);
 	}
 
 	/*
@@ -1153,6 +1160,23 @@ public enum GwtMaterialColor implements IsEnumeratedColor
 	 */
 	@Override
 	public IsColor getColor() {
+		// checks if the color has been already created
+		if (color == null) {
+			color = ColorBuilder.buildByHexValue(hexValue, false);
+		}
 		return color;
 	}
+
+	/**
+	 * Returns <code>true</code> if the color has got the passed red, green and blue channels.<br>
+	 * This is comparing the packed channels without creating the color instance.
+	 * 
+	 * @param r red channel
+	 * @param g green channel
+	 * @param b blue channel
+	 * @return <code>true</code> if the color has got the passed red, green and blue channels
+	 */
+	boolean matches(int r, int g, int b) {
+		return rgb == (r << 16 | g << 8 | b);
+	}
 }
\ No newline at end of file
@@ -18,10 +18,8 @@
 */
 package org.pepstock.charba.client.colors;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.pepstock.charba.client.colors.tiles.TilesFactoryDefaults;
+import org.pepstock.charba.client.commons.BoundedCache;
 import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Id;
@@ -42,9 +40,15 @@ import org.pepstock.charba.client.utils.Utilities;
  */
 public final class PatternBuilder {
 
+	/**
+	 * Name of the cache of the patterns, <b>{@value CACHE_NAME}</b>, to use to get statistics and to tune its limits by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String CACHE_NAME = "patterns";
+	// estimated bytes of a pixel of the pattern (RGBA)
+	private static final int PIXEL_BYTES = 4;
 	// cache for the patterns created in order to build only when needed
 	// K = canvas object id, V = pattern instance
-	private static final Map<String, Pattern> PATTERNS = new HashMap<>();
+	private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(CACHE_NAME, pattern -> Math.max(pattern.getWidth(), 1) * Math.max(pattern.getHeight(), 1) * PIXEL_BYTES);
 	// image id prefix
 	private static final String IMG_PREFIX = "Img";
 	// pattern id prefix
@@ -170,9 +174,10 @@ public final class PatternBuilder {
 		// generates id
 		String id = generateId();
 		// checks if pattern is cached
-		if (PATTERNS.containsKey(id)) {
+		Pattern cached = PATTERNS.get(id);
+		if (cached != null) {
 			// returns the cached object
-			return PATTERNS.get(id);
+			return cached;
 		}
 		// gets pattern reference
 		Pattern result;
@@ -204,9 +209,10 @@ public final class PatternBuilder {
 		// checks id consistency
 		Checker.assertCheck(id != null, Utilities.applyTemplate(CanvasObject.MISSING_PROPERTY, CanvasObject.Property.CHARBA_OBJECT_ID.value()));
 		// checks if pattern is cached
-		if (PATTERNS.containsKey(id)) {
+		Pattern cached = PATTERNS.get(id);
+		if (cached != null) {
 			// returns the cached object
-			return PATTERNS.get(id);
+			return cached;
 		}
 		// creates new pattern
 		Pattern result = new Pattern(nativeObject);
@@ -219,6 +225,7 @@ public final class PatternBuilder {
 
 	/**
 	 * Retrieves a cached pattern by a {@link CanvasPatternItem} instance.<br>
+	 * If the pattern has been removed from the cache, it is recreated by the definition stored into the canvas pattern.<br>
 	 * If the pattern doesn't exist, returns <code>null</code>.
 	 * 
 	 * @param canvasPattern the canvas pattern to use for searching
@@ -231,10 +238,22 @@ public final class PatternBuilder {
 			// casts to native object
 			// extracts the id from object
 			String id = Id.get((NativeObject) canvasPattern.as());
-			// checks if pattern is cached and id is consistent
-			if (id != null && PATTERNS.containsKey(id)) {
-				// returns the cached object
-				return PATTERNS.get(id);
+			// checks if id is consistent
+			if (id != null) {
+				// gets the cached object, if there is
+				Pattern cached = PATTERNS.get(id);
+				// checks if the object has been removed from the cache
+				// but the canvas item is still used by a chart
+				if (cached == null) {
+					// gets the definition stored into canvas item
+					NativeObject definition = CanvasObject.retrieve(canvasPattern);
+					// checks if the definition is consistent
+					if (definition != null) {
+						// recreates the object, storing it into cache again
+						return build(definition);
+					}
+				}
+				return cached;
 			}
 		}
 		// if here, the argument is not consistent or
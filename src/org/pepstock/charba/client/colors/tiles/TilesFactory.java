@@ -18,13 +18,12 @@
 */
 package org.pepstock.charba.client.colors.tiles;
 
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
 import org.pepstock.charba.client.colors.PatternBuilder;
+import org.pepstock.charba.client.commons.BoundedCache;
 import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.dom.DOMBuilder;
@@ -46,12 +45,27 @@ public final class TilesFactory {
 
 	// static instance for singleton
 	private static final TilesFactory INSTANCE = new TilesFactory();
+	/**
+	 * Name of the cache of the canvas patterns, <b>{@value TILES_CACHE_NAME}</b>, to use to get statistics and to tune its limits by
+	 * {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String TILES_CACHE_NAME = "tiles";
+	/**
+	 * Name of the cache of the HTML legend items pictures, <b>{@value HTML_LEGEND_ITEMS_CACHE_NAME}</b>, to use to get statistics and to tune its limits by
+	 * {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String HTML_LEGEND_ITEMS_CACHE_NAME = "htmlLegendItems";
+	// estimated bytes of a pixel of the canvas pattern (RGBA)
+	private static final int PIXEL_BYTES = 4;
+	// estimated bytes of a char of base64 picture (UTF-16)
+	private static final int CHAR_BYTES = 2;
 	// cache of canvas patterns to avoid to create the same canvas pattern if already used
-	private static final Map<String, CanvasPatternItem> CANVAS_PATTERNS = new HashMap<>();
+	// the size is stored with the canvas pattern because it can not be read from the native object
+	private static final BoundedCache<String, SizedCanvasPattern> CANVAS_PATTERNS = new BoundedCache<>(TILES_CACHE_NAME, pattern -> pattern.size * pattern.size * PIXEL_BYTES);
 	// message to show when the browser can't support canvas
 	private static final String CANVAS_NOT_SUPPORTED_MESSAGE = "Ops... Canvas element is not supported...";
-	// cache of canvas patterns to avoid to create the same canvas pattern if already used
-	private static final Map<String, String> HTML_LEGEND_ITEMS = new HashMap<>();
+	// cache of point style pictures in base64 PNG format to avoid to create the same picture if already used
+	private static final BoundedCache<String, String> HTML_LEGEND_ITEMS = new BoundedCache<>(HTML_LEGEND_ITEMS_CACHE_NAME, picture -> picture.length() * CHAR_BYTES);
 	// string format to trim blanks
 	private static final String REGEXP_TRIM_SPACES_PATTERN = "\\s+";
 	// gets if Canvas is supported
@@ -392,14 +406,15 @@ public final class TilesFactory {
 		keyBuilder.append(backgroundColor).append(shapeColor).append(size);
 		String key = keyBuilder.toString().replace(REGEXP_TRIM_SPACES_PATTERN, Constants.EMPTY_STRING).toLowerCase(Locale.getDefault());
 		// checks if the canvas pattern is already created with those parameters
-		if (CANVAS_PATTERNS.containsKey(key)) {
+		SizedCanvasPattern cached = CANVAS_PATTERNS.get(key);
+		if (cached != null) {
 			// if yes returns the cached one
-			return CANVAS_PATTERNS.get(key);
+			return cached.pattern;
 		}
 		// creates a canvas pattern
 		CanvasPatternItem pattern = shapeParam.getDrawer().createTile(INSTANCE.canvas, backgroundColorParam, shapeColorParam, sizeParam);
 		// stores it in the cache
-		CANVAS_PATTERNS.put(key, pattern);
+		CANVAS_PATTERNS.put(key, new SizedCanvasPattern(pattern, sizeParam));
 		return pattern;
 	}
 
@@ -421,8 +436,9 @@ public final class TilesFactory {
 			// gets unique key
 			String key = htmlLegendItem.toUniqueKey();
 			// checks if item is cached
-			if (key != null && HTML_LEGEND_ITEMS.containsKey(key)) {
-				return HTML_LEGEND_ITEMS.get(key);
+			String cached = key != null ? HTML_LEGEND_ITEMS.get(key) : null;
+			if (cached != null) {
+				return cached;
 			}
 			// gets point style
 			PointStyle pointStyle = htmlLegendItem.getLegendItem().getPointStyle();
@@ -453,8 +469,33 @@ public final class TilesFactory {
 		if (htmlLegendItem != null) {
 			// scans items by key
 			// remove by key
-			HTML_LEGEND_ITEMS.keySet().removeIf(key -> key.startsWith(htmlLegendItem.getChart().getId()));
+			HTML_LEGEND_ITEMS.removeIf(key -> key.startsWith(htmlLegendItem.getChart().getId()));
 		}
 	}
 
+	/**
+	 * Canvas pattern stored in the cache with the size used to create it, in order to estimate the retained bytes.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class SizedCanvasPattern {
+
+		private final CanvasPatternItem pattern;
+
+		private final int size;
+
+		/**
+		 * Creates the cache entry with the canvas pattern and its size.
+		 * 
+		 * @param pattern canvas pattern instance
+		 * @param size size of canvas pattern
+		 */
+		private SizedCanvasPattern(CanvasPatternItem pattern, int size) {
+			this.pattern = pattern;
+			this.size = size;
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import org.pepstock.charba.client.items.Undefined;
+
+/**
+ * Utility to search values into an array of native objects, by a numeric property, in O(log n) when the array is sorted by that property.<br>
+ * It is used to look up the items of time series or of datasets which have been parsed and sorted by CHART.JS.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ArraySearch {
+
+	/**
+	 * An empty immutable index range.
+	 */
+	public static final int[] EMPTY_RANGE = {};
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ArraySearch() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the index of the item of the array which has got the value of the property nearest to the value passed as argument.<br>
+	 * The array must be sorted, in ascending order, by the property.
+	 * 
+	 * @param array array of native objects, sorted by the property
+	 * @param key property of the native objects to use for searching
+	 * @param value value to search
+	 * @return the index of the nearest item or {@link Undefined#INTEGER} if the array is empty or the value is not consistent
+	 */
+	public static int nearestIndex(ArrayObject array, Key key, double value) {
+		return nearestIndex(array, key, value, true);
+	}
+
+	/**
+	 * Returns the index of the item of the array which has got the value of the property nearest to the value passed as argument.<br>
+	 * If the array is not sorted by the property, all items are scanned.
+	 * 
+	 * @param array array of native objects
+	 * @param key property of the native objects to use for searching
+	 * @param value value to search
+	 * @param sorted if <code>true</code> the array is sorted, in ascending order, by the property
+	 * @return the index of the nearest item or {@link Undefined#INTEGER} if the array is empty or the value is not consistent
+	 */
+	public static int nearestIndex(ArrayObject array, Key key, double value, boolean sorted) {
+		// checks arguments
+		if (!isConsistent(array, key) || Double.isNaN(value)) {
+			return Undefined.INTEGER;
+		}
+		// checks if the array is sorted
+		if (!sorted) {
+			// scans all items
+			int result = Undefined.INTEGER;
+			double bestDistance = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < array.length(); i++) {
+				double distance = Math.abs(getValue(array, key, i) - value);
+				// checks if nearer
+				// NaN values are ignored
+				if (distance < bestDistance) {
+					bestDistance = distance;
+					result = i;
+				}
+			}
+			return result;
+		}
+		// gets the first item greater than or equals to the value
+		int index = lowerBound(array, key, value);
+		// checks if all items are less than the value
+		if (index >= array.length()) {
+			return array.length() - 1;
+		}
+		// checks if the previous item is nearer
+		if (index > 0 && value - getValue(array, key, index - 1) <= getValue(array, key, index) - value) {
+			return index - 1;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the first and last indexes (both included) of the items of the array which have got the value of the property between the values passed as argument.<br>
+	 * The array must be sorted, in ascending order, by the property.
+	 * 
+	 * @param array array of native objects, sorted by the property
+	 * @param key property of the native objects to use for searching
+	 * @param from first value of the range
+	 * @param to last value of the range
+	 * @return an array with the first and last indexes or {@link #EMPTY_RANGE} if there is not any item in the range
+	 */
+	public static int[] indexRange(ArrayObject array, Key key, double from, double to) {
+		return indexRange(array, key, from, to, true);
+	}
+
+	/**
+	 * Returns the first and last indexes (both included) of the items of the array which have got the value of the property between the values passed as argument.<br>
+	 * If the array is not sorted by the property, all items are scanned and the range contains also the items, between the first and last ones, which are outside of
+	 * the values.
+	 * 
+	 * @param array array of native objects
+	 * @param key property of the native objects to use for searching
+	 * @param from first value of the range
+	 * @param to last value of the range
+	 * @param sorted if <code>true</code> the array is sorted, in ascending order, by the property
+	 * @return an array with the first and last indexes or {@link #EMPTY_RANGE} if there is not any item in the range
+	 */
+	public static int[] indexRange(ArrayObject array, Key key, double from, double to, boolean sorted) {
+		// checks arguments
+		if (!isConsistent(array, key) || Double.isNaN(from) || Double.isNaN(to)) {
+			return EMPTY_RANGE;
+		}
+		// normalizes the range
+		double min = Math.min(from, to);
+		double max = Math.max(from, to);
+		int start;
+		int end;
+		// checks if the array is sorted
+		if (sorted) {
+			start = lowerBound(array, key, min);
+			end = upperBound(array, key, max) - 1;
+		} else {
+			// scans all items
+			start = Integer.MAX_VALUE;
+			end = Integer.MIN_VALUE;
+			for (int i = 0; i < array.length(); i++) {
+				double value = getValue(array, key, i);
+				// checks if inside
+				if (value >= min && value <= max) {
+					start = Math.min(start, i);
+					end = Math.max(end, i);
+				}
+			}
+		}
+		// checks if the range is empty
+		if (start > end) {
+			return EMPTY_RANGE;
+		}
+		return new int[] { start, end };
+	}
+
+	/**
+	 * Returns the index of the first item which has got the value of the property greater than or equals to the value.
+	 * 
+	 * @param array array of native objects, sorted by the property
+	 * @param key property of the native objects to use for searching
+	 * @param value value to search
+	 * @return the index of the first item which has got the value greater than or equals to the value, or the length of the array
+	 */
+	private static int lowerBound(ArrayObject array, Key key, double value) {
+		int low = 0;
+		int high = array.length();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getValue(array, key, middle) < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first item which has got the value of the property greater than the value.
+	 * 
+	 * @param array array of native objects, sorted by the property
+	 * @param key property of the native objects to use for searching
+	 * @param value value to search
+	 * @return the index of the first item which has got the value greater than the value, or the length of the array
+	 */
+	private static int upperBound(ArrayObject array, Key key, double value) {
+		int low = 0;
+		int high = array.length();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getValue(array, key, middle) <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the value of the property of the item of the array at the index.
+	 * 
+	 * @param array array of native objects
+	 * @param key property of the native objects
+	 * @param index index of the item
+	 * @return the value of the property or {@link Double#NaN} if the item or the property is not consistent
+	 */
+	private static double getValue(ArrayObject array, Key key, int index) {
+		NativeObject item = array.get(index);
+		// checks if the item is consistent
+		if (item == null) {
+			return Double.NaN;
+		}
+		return NativeObjectUtil.getDoubleProperty(item, key.value(), Double.NaN);
+	}
+
+	/**
+	 * Checks if the array and the key are consistent for searching.
+	 * 
+	 * @param array array of native objects
+	 * @param key property of the native objects
+	 * @return <code>true</code> if the array is not empty and the key is consistent
+	 */
+	private static boolean isConsistent(ArrayObject array, Key key) {
+		return array != null && !array.isEmpty() && Key.isValid(key);
+	}
+
+}
@@ -0,0 +1,347 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache with <b>least recently used</b> eviction policy, used by CHARBA to store objects which are expensive to create (i.e. canvas patterns or gradients).<br>
+ * The cache is limited by a maximum amount of entries and by a maximum amount of (estimated) bytes. When one of the limits is exceeded, the least recently used entries are
+ * removed.<br>
+ * Every cache counts hits, misses and evictions. All caches are registered into {@link Caches} which provides the statistics.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ * @param <K> type of the key of the cache
+ * @param <V> type of the value of the cache
+ */
+public final class BoundedCache<K, V> {
+
+	/**
+	 * Default maximum amount of entries of a cache, <b>{@value DEFAULT_MAX_ENTRIES}</b>.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	/**
+	 * Default maximum amount of estimated bytes of a cache, <b>{@value DEFAULT_MAX_BYTES}</b> (8 MB).
+	 */
+	public static final int DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+	/**
+	 * Estimates the amount of bytes retained by a value stored in the cache.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <V> type of the value of the cache
+	 */
+	@FunctionalInterface
+	public interface Weigher<V> {
+
+		/**
+		 * Returns the estimated amount of bytes retained by the value.
+		 * 
+		 * @param value value to be weighed
+		 * @return the estimated amount of bytes retained by the value
+		 */
+		int weigh(V value);
+
+	}
+
+	// name of the cache
+	private final String name;
+	// weigher instance
+	private final Weigher<V> weigher;
+	// map with the access order in order to have the least recently used entry at the head
+	// K = key, V = cache entry
+	private final Map<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75F, true);
+	// maximum amount of entries
+	private int maxEntries;
+	// maximum amount of bytes
+	private int maxBytes;
+	// current amount of bytes
+	private int bytes = 0;
+	// counters
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * Creates a cache with default limits, {@link BoundedCache#DEFAULT_MAX_ENTRIES} and {@link BoundedCache#DEFAULT_MAX_BYTES}, and registers it into {@link Caches}.
+	 * 
+	 * @param name name of the cache, must be unique
+	 * @param weigher instance to estimate the bytes retained by a value
+	 */
+	public BoundedCache(String name, Weigher<V> weigher) {
+		this(name, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES, weigher);
+	}
+
+	/**
+	 * Creates a cache with the passed limits and registers it into {@link Caches}.
+	 * 
+	 * @param name name of the cache, must be unique
+	 * @param maxEntries maximum amount of entries
+	 * @param maxBytes maximum amount of estimated bytes
+	 * @param weigher instance to estimate the bytes retained by a value
+	 */
+	public BoundedCache(String name, int maxEntries, int maxBytes, Weigher<V> weigher) {
+		// checks arguments
+		Checker.checkIfValid(name, "Cache name");
+		Checker.checkIfValid(weigher, "Weigher");
+		this.name = name;
+		this.weigher = weigher;
+		this.maxEntries = Checker.checkAndGetIfGreaterThan(maxEntries, 0, "Maximum entries");
+		this.maxBytes = Checker.checkAndGetIfGreaterThan(maxBytes, 0, "Maximum bytes");
+		// registers the cache
+		Caches.register(this);
+	}
+
+	/**
+	 * Returns the name of the cache.
+	 * 
+	 * @return the name of the cache
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the maximum amount of entries.
+	 * 
+	 * @return the maximum amount of entries
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Sets the maximum amount of entries.<br>
+	 * If the cache exceeds the new limit, the least recently used entries are removed.
+	 * 
+	 * @param maxEntries the maximum amount of entries
+	 */
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = Checker.checkAndGetIfGreaterThan(maxEntries, 0, "Maximum entries");
+		// applies the new limit
+		evict();
+	}
+
+	/**
+	 * Returns the maximum amount of estimated bytes.
+	 * 
+	 * @return the maximum amount of estimated bytes
+	 */
+	public int getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Sets the maximum amount of estimated bytes.<br>
+	 * If the cache exceeds the new limit, the least recently used entries are removed.
+	 * 
+	 * @param maxBytes the maximum amount of estimated bytes
+	 */
+	public void setMaxBytes(int maxBytes) {
+		this.maxBytes = Checker.checkAndGetIfGreaterThan(maxBytes, 0, "Maximum bytes");
+		// applies the new limit
+		evict();
+	}
+
+	/**
+	 * Returns the value stored by the key or <code>null</code> if not cached.<br>
+	 * Every invocation counts a hit or a miss.
+	 * 
+	 * @param key key of the value
+	 * @return the value stored by the key or <code>null</code> if not cached
+	 */
+	public V get(K key) {
+		// gets the entry
+		// access order is updated by the map
+		CacheEntry<V> entry = key != null ? entries.get(key) : null;
+		// checks if cached
+		if (entry != null) {
+			hits++;
+			return entry.value;
+		}
+		misses++;
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the key is cached.<br>
+	 * This method does not change the access order and the counters.
+	 * 
+	 * @param key key to check
+	 * @return <code>true</code> if the key is cached
+	 */
+	public boolean containsKey(K key) {
+		return key != null && entries.containsKey(key);
+	}
+
+	/**
+	 * Stores the value by the key.<br>
+	 * If the cache exceeds the limits, the least recently used entries are removed.
+	 * 
+	 * @param key key of the value
+	 * @param value value to store
+	 */
+	public void put(K key, V value) {
+		// checks if arguments are consistent
+		if (key != null && value != null) {
+			// creates the entry
+			CacheEntry<V> entry = new CacheEntry<>(value, Math.max(0, weigher.weigh(value)));
+			// stores the entry
+			CacheEntry<V> previous = entries.put(key, entry);
+			// checks if a previous entry must be discounted
+			if (previous != null) {
+				bytes -= previous.bytes;
+			}
+			bytes += entry.bytes;
+			// applies limits
+			evict();
+		}
+	}
+
+	/**
+	 * Removes the value stored by the key.
+	 * 
+	 * @param key key of the value to remove
+	 * @return the removed value or <code>null</code> if not cached
+	 */
+	public V remove(K key) {
+		// removes the entry
+		CacheEntry<V> entry = key != null ? entries.remove(key) : null;
+		// checks if the entry has been removed
+		if (entry != null) {
+			bytes -= entry.bytes;
+			return entry.value;
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all values whose key satisfies the predicate.
+	 * 
+	 * @param filter predicate to apply to the keys
+	 */
+	public void removeIf(Predicate<K> filter) {
+		// checks if argument is consistent
+		if (filter != null) {
+			// scans all entries
+			Iterator<Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Entry<K, CacheEntry<V>> entry = iterator.next();
+				// checks if the entry must be removed
+				if (filter.test(entry.getKey())) {
+					bytes -= entry.getValue().bytes;
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all values from the cache.<br>
+	 * The counters are not reset.
+	 */
+	public void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Returns the amount of cached entries.
+	 * 
+	 * @return the amount of cached entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the amount of estimated bytes of cached entries.
+	 * 
+	 * @return the amount of estimated bytes of cached entries
+	 */
+	public int getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Resets the hits, misses and evictions counters.
+	 */
+	public void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the cache.
+	 * 
+	 * @return a snapshot of the statistics of the cache
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(name, entries.size(), bytes, maxEntries, maxBytes, hits, misses, evictions);
+	}
+
+	/**
+	 * Removes the least recently used entries until the cache is within its limits.
+	 */
+	private void evict() {
+		// gets iterator from the head, the least recently used
+		Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+		// removes until the limits are respected
+		while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+			CacheEntry<V> entry = iterator.next();
+			bytes -= entry.bytes;
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Entry of the cache, with the value and its estimated bytes.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <V> type of the value of the cache
+	 */
+	private static final class CacheEntry<V> {
+
+		private final V value;
+
+		private final int bytes;
+
+		/**
+		 * Creates the entry with the value and its estimated bytes.
+		 * 
+		 * @param value value to store
+		 * @param bytes estimated bytes of the value
+		 */
+		private CacheEntry(V value, int bytes) {
+			this.value = value;
+			this.bytes = bytes;
+		}
+
+	}
+}
@@ -0,0 +1,166 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+/**
+ * Immutable snapshot of the statistics of a {@link BoundedCache}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class CacheStatistics {
+
+	private final String name;
+
+	private final int size;
+
+	private final int bytes;
+
+	private final int maxEntries;
+
+	private final int maxBytes;
+
+	private final long hits;
+
+	private final long misses;
+
+	private final long evictions;
+
+	/**
+	 * Creates the snapshot with all statistics values.
+	 * 
+	 * @param name name of the cache
+	 * @param size amount of cached entries
+	 * @param bytes amount of estimated bytes of cached entries
+	 * @param maxEntries maximum amount of entries
+	 * @param maxBytes maximum amount of estimated bytes
+	 * @param hits amount of hits
+	 * @param misses amount of misses
+	 * @param evictions amount of evictions
+	 */
+	CacheStatistics(String name, int size, int bytes, int maxEntries, int maxBytes, long hits, long misses, long evictions) {
+		this.name = name;
+		this.size = size;
+		this.bytes = bytes;
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	/**
+	 * Returns the name of the cache.
+	 * 
+	 * @return the name of the cache
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the amount of cached entries.
+	 * 
+	 * @return the amount of cached entries
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the amount of estimated bytes of cached entries.
+	 * 
+	 * @return the amount of estimated bytes of cached entries
+	 */
+	public int getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the maximum amount of entries.
+	 * 
+	 * @return the maximum amount of entries
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Returns the maximum amount of estimated bytes.
+	 * 
+	 * @return the maximum amount of estimated bytes
+	 */
+	public int getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the amount of hits.
+	 * 
+	 * @return the amount of hits
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the amount of misses.
+	 * 
+	 * @return the amount of misses
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the amount of evictions.
+	 * 
+	 * @return the amount of evictions
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the ratio between hits and requests (hits plus misses), between 0 and 1.<br>
+	 * If there was not any request, returns 0.
+	 * 
+	 * @return the ratio between hits and requests
+	 */
+	public double getHitRatio() {
+		// gets the amount of requests
+		long requests = hits + misses;
+		return requests > 0 ? (double) hits / requests : 0D;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(name);
+		sb.append(" [size=").append(size).append('/').append(maxEntries);
+		sb.append(", bytes=").append(bytes).append('/').append(maxBytes);
+		sb.append(", hits=").append(hits).append(", misses=").append(misses).append(", evictions=").append(evictions).append(']');
+		return sb.toString();
+	}
+
+}
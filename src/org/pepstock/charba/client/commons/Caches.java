@@ -0,0 +1,124 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point to get the statistics and to tune the limits of all {@link BoundedCache} instances used by CHARBA, in order to control the memory in long-running
+ * sessions.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class Caches {
+
+	// registered caches
+	// K = cache name, V = cache instance
+	private static final Map<String, BoundedCache<?, ?>> CACHES = new LinkedHashMap<>();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private Caches() {
+		// do nothing
+	}
+
+	/**
+	 * Registers a cache. Invoked by the cache itself when created.
+	 * 
+	 * @param cache cache instance to register
+	 */
+	static void register(BoundedCache<?, ?> cache) {
+		// checks if the name is already used
+		Checker.assertCheck(!CACHES.containsKey(cache.getName()), "Cache name '" + cache.getName() + "' is already registered");
+		// stores the cache
+		CACHES.put(cache.getName(), cache);
+	}
+
+	/**
+	 * Returns the list of the names of all registered caches.
+	 * 
+	 * @return the list of the names of all registered caches
+	 */
+	public static List<String> getNames() {
+		return Collections.unmodifiableList(new LinkedList<>(CACHES.keySet()));
+	}
+
+	/**
+	 * Returns the cache registered by the name or <code>null</code> if not registered.<br>
+	 * The cache can be used to change its limits.
+	 * 
+	 * @param name name of the cache
+	 * @return the cache registered by the name or <code>null</code> if not registered
+	 */
+	public static BoundedCache<?, ?> get(String name) {
+		return name != null ? CACHES.get(name) : null;
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of all registered caches.
+	 * 
+	 * @return a snapshot of the statistics of all registered caches
+	 */
+	public static List<CacheStatistics> getStatistics() {
+		// creates the result
+		List<CacheStatistics> result = new LinkedList<>();
+		// scans all caches
+		for (BoundedCache<?, ?> cache : CACHES.values()) {
+			result.add(cache.getStatistics());
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the cache registered by the name or <code>null</code> if not registered.
+	 * 
+	 * @param name name of the cache
+	 * @return a snapshot of the statistics of the cache or <code>null</code> if not registered
+	 */
+	public static CacheStatistics getStatistics(String name) {
+		// gets the cache
+		BoundedCache<?, ?> cache = get(name);
+		return cache != null ? cache.getStatistics() : null;
+	}
+
+	/**
+	 * Resets the hits, misses and evictions counters of all registered caches.
+	 */
+	public static void resetStatistics() {
+		for (BoundedCache<?, ?> cache : CACHES.values()) {
+			cache.resetStatistics();
+		}
+	}
+
+	/**
+	 * Removes all values from all registered caches.
+	 */
+	public static void clear() {
+		for (BoundedCache<?, ?> cache : CACHES.values()) {
+			cache.clear();
+		}
+	}
+
+}
@@ -240,6 +240,23 @@ public final class JsHelper {
 		return Undefined.INTEGER;
 	}
 
+	/**
+	 * Returns the property value from java script object, when it is stored as double.
+	 * 
+	 * @param key the key to search inside the object
+	 * @param nativeObject java script object
+	 * @return the property value or {@link Undefined#DOUBLE} if not exist
+	 */
+	public double getDoubleProperty(Key key, NativeObject nativeObject) {
+		// checks if arguments are consistent and property exists
+		if (Key.isValid(key) && nativeObject != null && NativeObjectUtil.hasProperty(nativeObject, key.value())) {
+			// returns value
+			return NativeObjectUtil.getDoubleProperty(nativeObject, key.value(), Undefined.DOUBLE);
+		}
+		// property doesn't exist
+		return Undefined.DOUBLE;
+	}
+
 	/**
 	 * Returns the property value from java script object, when it is stored as boolean.
 	 * 
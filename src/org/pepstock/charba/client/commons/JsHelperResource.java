@@ -46,8 +46,11 @@ final class JsHelperResource extends AbstractInjectableResource {
 		"CharbaJsChartHelper.getTooltipActiveElements=function($chart$$){return null!=$chart$$&&null!=$chart$$.tooltip?$chart$$.tooltip.getActiveElements():[]};CharbaJsChartHelper.getSubtitle=function($chart$$){return null!=$chart$$&&null!=$chart$$.titleBlock&&null!=$chart$$.boxes?$chart$$.boxes.filter(function($box$$){return $box$$.constructor.name===$chart$$.titleBlock.constructor.name&&$box$$!==$chart$$.titleBlock}).pop():null};function CharbaJsZoomHelper(){}",
 		"CharbaJsZoomHelper.getZoomLevel=function($chart$$){return null!=$chart$$&&\"function\"===typeof $chart$$.getZoomLevel?$chart$$.getZoomLevel.call($chart$$):NaN};CharbaJsZoomHelper.resetZoom=function($chart$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.resetZoom&&$chart$$.resetZoom.call($chart$$,$mode$$)};CharbaJsZoomHelper.pan=function($chart$$,$amount$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.pan&&$chart$$.pan.call($chart$$,$amount$$,void 0,$mode$$)};",
 		"CharbaJsZoomHelper.zoom=function($chart$$,$amount$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.zoom&&$chart$$.zoom.call($chart$$,$amount$$,$mode$$)};CharbaJsZoomHelper.zoomScale=function($chart$$,$scaleId$$,$range$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.zoomScale&&$chart$$.zoomScale.call($chart$$,$scaleId$$,$range$$,$mode$$)};",
-		"CharbaJsZoomHelper.zoomRect=function($chart$$,$p0$$,$p1$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.zoomRect&&$chart$$.zoomRect.call($chart$$,$p0$$,$p1$$,$mode$$)};CharbaJsZoomHelper.isZoomedOrPanned=function($chart$$){return null!=$chart$$&&\"function\"===typeof $chart$$.isZoomedOrPanned?$chart$$.isZoomedOrPanned.call($chart$$):!1};function CharbaJsAnnotationHelper(){}",
-		"CharbaJsAnnotationHelper.inRange=function($element$$,$x$$,$y$$,$useFinalPosition$$){return null!=$element$$?$element$$.inRange($x$$,$y$$,$useFinalPosition$$):!1};function CharbaJsDataLabelsHelper(){}CharbaJsDataLabelsHelper.register=function(){Chart.register(ChartDataLabels)};function CharbaJsGradientHelper(){}CharbaJsGradientHelper.register=function(){Chart.register(window[\"chartjs-plugin-gradient\"])};function CharbaJsItemsHelper(){}",
+		"CharbaJsZoomHelper.zoomRect=function($chart$$,$p0$$,$p1$$,$mode$$){null!=$chart$$&&\"function\"===typeof $chart$$.zoomRect&&$chart$$.zoomRect.call($chart$$,$p0$$,$p1$$,$mode$$)};CharbaJsZoomHelper.refreshScales=function($chart$$){if(null!=$chart$$&&null!=$chart$$.scales){for(var $id$$ in $chart$$.scales){var $scale$$=$chart$$.scales[$id$$],$min$$=$scale$$.parse($scale$$.options.min),$max$$=$scale$$.parse($scale$$.options.max);\"number\"===typeof $min$$&&\"number\"===typeof $max$$&&isFinite($min$$)&&isFinite($max$$)&&$min$$<$max$$&&($scale$$.min=$min$$,$scale$$.max=$max$$,$scale$$.configure())}}};CharbaJsZoomHelper.isZoomedOrPanned=function($chart$$){return null!=$chart$$&&\"function\"===typeof $chart$$.isZoomedOrPanned?$chart$$.isZoomedOrPanned.call($chart$$):!1};function CharbaJsAnnotationHelper(){}",
+		"CharbaJsAnnotationHelper.inRange=function($element$$,$x$$,$y$$,$useFinalPosition$$){return null!=$element$$?$element$$.inRange($x$$,$y$$,$useFinalPosition$$):!1};function CharbaJsDataLabelsHelper(){}CharbaJsDataLabelsHelper.register=function(){Chart.register(ChartDataLabels)};CharbaJsDataLabelsHelper.newBatchFormatter=function($id$$,$loader$$){return function($value$$,$context$$){var $texts$$=CharbaJsDataLabelsHelper.getBatchTexts($context$$.chart,$id$$,$context$$.datasetIndex);null===$texts$$&&($texts$$=$loader$$($context$$));$texts$$=null!=$texts$$&&$context$$.dataIndex<$texts$$.length?$texts$$[$context$$.dataIndex]:null;return null!=$texts$$?$texts$$:ChartDataLabels.defaults.formatter($value$$,$context$$)}};",
+		"CharbaJsDataLabelsHelper.getBatchTexts=function($chart$$,$id$$,$datasetIndex$$){var $store$$=$chart$$.$charbaBatchTexts;return null!=$store$$&&null!=$store$$[$id$$]&&null!=$store$$[$id$$][$datasetIndex$$]?$store$$[$id$$][$datasetIndex$$]:null};CharbaJsDataLabelsHelper.setBatchTexts=function($chart$$,$id$$,$datasetIndex$$,$texts$$){null==$chart$$.$charbaBatchTexts&&($chart$$.$charbaBatchTexts={});null==$chart$$.$charbaBatchTexts[$id$$]&&($chart$$.$charbaBatchTexts[$id$$]=[]);$chart$$.$charbaBatchTexts[$id$$][$datasetIndex$$]=$texts$$};",
+		"CharbaJsDataLabelsHelper.formatTexts=function($chart$$,$datasetIndex$$,$formatter$$){var $dataset$$=$chart$$.data.datasets[$datasetIndex$$],$data$$=$dataset$$.data||[],$format$$=\"function\"===typeof $formatter$$?$formatter$$:ChartDataLabels.defaults.formatter,$texts$$=[];for(var $i$$=0;$i$$<$data$$.length;$i$$++){var $text$$=$format$$($data$$[$i$$],{active:!1,chart:$chart$$,dataIndex:$i$$,dataset:$dataset$$,datasetIndex:$datasetIndex$$});void 0===$text$$&&($text$$=$data$$[$i$$]);$texts$$.push(null==$text$$?null:Array.isArray($text$$)?$text$$.join(\"\\n\"):String($text$$))}return $texts$$};",
+		"CharbaJsDataLabelsHelper.resetBatchTexts=function($chart$$){delete $chart$$.$charbaBatchTexts};function CharbaJsGradientHelper(){}CharbaJsGradientHelper.register=function(){Chart.register(window[\"chartjs-plugin-gradient\"])};function CharbaJsItemsHelper(){}",
 		"CharbaJsItemsHelper.isCanvasPattern=function($obj$$,$key$$){return $obj$$[$key$$]instanceof CanvasPattern};CharbaJsItemsHelper.isCanvasGradient=function($obj$$,$key$$){return $obj$$[$key$$]instanceof CanvasGradient};CharbaJsItemsHelper.getDecimalForPixel=function($obj$$,$pixel$$){return $obj$$.getDecimalForPixel($pixel$$)};CharbaJsItemsHelper.getPixelForDecimal=function($obj$$,$decimal$$){return $obj$$.getPixelForDecimal($decimal$$)};CharbaJsItemsHelper.getPixelForTick=function($obj$$,$index$$){return $obj$$.getPixelForTick($index$$)};",
 		"CharbaJsItemsHelper.getLabelForValue=function($obj$$,$value$$){return $obj$$.getLabelForValue($value$$)};CharbaJsItemsHelper.getPixelForStringValue=function($obj$$,$value$$,$index$$){return $obj$$.getPixelForValue($value$$,$index$$)};CharbaJsItemsHelper.getPixelForValue=function($obj$$,$value$$,$index$$){return $obj$$.getPixelForValue($value$$,$index$$)};CharbaJsItemsHelper.getValueForPixel=function($obj$$,$pixel$$){return $obj$$.getValueForPixel($pixel$$)};CharbaJsItemsHelper.getBaseValue=function($obj$$){return $obj$$.getBaseValue()};",
 		"CharbaJsItemsHelper.getBasePixel=function($obj$$){return $obj$$.getBasePixel()};CharbaJsItemsHelper.getLabelItems=function($obj$$){return $obj$$.getLabelItems()};CharbaJsItemsHelper.getDistanceFromCenterForValue=function($obj$$,$value$$){return $obj$$.getDistanceFromCenterForValue($value$$)};CharbaJsItemsHelper.getValueForDistanceFromCenter=function($obj$$,$value$$){return $obj$$.getValueForDistanceFromCenter($value$$)};CharbaJsItemsHelper.isHorizontal=function($obj$$){return $obj$$.isHorizontal()};",
@@ -58,7 +61,9 @@ final class JsHelperResource extends AbstractInjectableResource {
 		"CharbaJsDateAdapterHelper.getEpochByOrdinal=function($year$$,$ordinal$$,$options$$){return luxon.DateTime.fromObject({ordinal:$ordinal$$,year:$year$$},$options$$).toMillis()};function CharbaJsGeoHelper(){}",
 		"CharbaJsGeoHelper.features=function($parsedFeatures_topojson$$,$featureProperty$$){return\"undefined\"!==typeof $parsedFeatures_topojson$$.objects&&\"undefined\"!==typeof $parsedFeatures_topojson$$.objects[$featureProperty$$]&&($parsedFeatures_topojson$$=ChartGeo.topojson.feature($parsedFeatures_topojson$$,$parsedFeatures_topojson$$.objects[$featureProperty$$]),null!=$parsedFeatures_topojson$$)?$parsedFeatures_topojson$$.features:null};",
 		"CharbaJsGeoHelper.projection=function($chart$$,$latitude$$,$longitude$$){return $chart$$.scales.projection.projection([$longitude$$,$latitude$$])};CharbaJsGeoHelper.invert=function($chart$$,$projection_x$$,$y$$){return($projection_x$$=$chart$$.scales.projection.geoPath.projection())&&\"function\"===typeof $projection_x$$.invert?$chart$$.scales.projection.geoPath.projection().invert([p[0],p[1]]):null};CharbaJsGeoHelper.getColorForValue=function($chart$$,$value$$){return $chart$$.scales.color.getColorForValue($value$$)};",
-		"CharbaJsGeoHelper.getSizeForValue=function($chart$$,$value$$){return $chart$$.scales.size.getSizeForValue($value$$)};function CharbaJsMLHelper(){}CharbaJsMLHelper.predict=function($regression$$,$values$$){return $regression$$.predict($values$$)};CharbaJsMLHelper.toFormula=function($regression$$,$precision$$){return $regression$$.toString($precision$$)};"
+		"CharbaJsGeoHelper.getSizeForValue=function($chart$$,$value$$){return $chart$$.scales.size.getSizeForValue($value$$)};function CharbaJsMLHelper(){}CharbaJsMLHelper.predict=function($regression$$,$values$$){return $regression$$.predict($values$$)};CharbaJsMLHelper.toFormula=function($regression$$,$precision$$){return $regression$$.toString($precision$$)};",
+		"CharbaJsDateAdapterHelper.formatAll=function($adapter$$,$times$$,$format$$){for(var $result$$=[],$i$$=0;$i$$<$times$$.length;$i$$++)$result$$.push($adapter$$.format($times$$[$i$$],$format$$));return $result$$};CharbaJsDateAdapterHelper.parseAll=function($adapter$$,$values$$,$format$$){for(var $result$$=[],$i$$=0;$i$$<$values$$.length;$i$$++)$result$$.push($adapter$$.parse($values$$[$i$$],$format$$));return $result$$};CharbaJsDateAdapterHelper.startOfAll=function($adapter$$,$times$$,$unit$$,$weekday$$){for(var $result$$=[],$i$$=0;$i$$<$times$$.length;$i$$++)$result$$.push($adapter$$.startOf($times$$[$i$$],$unit$$,$weekday$$));return $result$$};",
+		"CharbaJsItemsHelper.getPixelForValues=function($obj$$,$values$$){for(var $result$$=[],$i$$=0;$i$$<$values$$.length;$i$$++)$result$$.push($obj$$.getPixelForValue($values$$[$i$$]));return $result$$};CharbaJsItemsHelper.getValueForPixels=function($obj$$,$pixels$$){for(var $result$$=[],$i$$=0;$i$$<$pixels$$.length;$i$$++)$result$$.push($obj$$.getValueForPixel($pixels$$[$i$$]));return $result$$};CharbaJsItemsHelper.getPixelForDecimals=function($obj$$,$decimals$$){for(var $result$$=[],$i$$=0;$i$$<$decimals$$.length;$i$$++)$result$$.push($obj$$.getPixelForDecimal($decimals$$[$i$$]));return $result$$};CharbaJsItemsHelper.getDecimalForPixels=function($obj$$,$pixels$$){for(var $result$$=[],$i$$=0;$i$$<$pixels$$.length;$i$$++)$result$$.push($obj$$.getDecimalForPixel($pixels$$[$i$$]));return $result$$};"
 	};
 	
 	/**
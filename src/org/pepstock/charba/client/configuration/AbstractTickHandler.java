@@ -85,6 +85,17 @@ abstract class AbstractTickHandler<T extends Tick, C> extends AxisContainer {
 		this.callback = callback;
 		// stores and manages callback
 		getAxis().setCallback(configuration.getConfiguration(), Tick.Property.CALLBACK, callback, getProxy());
+		// notifies the change
+		onCallbackChanged(callback);
+	}
+
+	/**
+	 * Invoked when the user callback instance has been set or removed. By default, it does nothing.
+	 * 
+	 * @param callback the callback which has been set, or <code>null</code> if removed
+	 */
+	void onCallbackChanged(C callback) {
+		// do nothing
 	}
 
 }
\ No newline at end of file
@@ -132,6 +132,8 @@ public abstract class Axis extends ConfigurationContainer<ExtendedScale> {
 	private AxisUpdateCallback axisUpdateCallback = null;
 	// user callback implementation for building ticks
 	private AxisBuildTicksCallback axisBuildTicksCallback = null;
+	// internal listener, used by ticks handlers, that runs before/after of the ticks building
+	private AxisBuildTicksCallback buildTicksListener = null;
 
 	// ----------------------------------------
 	// -- USERS AXIS CALLBACKS x PROPERTIES ---
@@ -823,10 +825,33 @@ public abstract class Axis extends ConfigurationContainer<ExtendedScale> {
 	public void setAxisBuildTicksCallback(AxisBuildTicksCallback axisBuildTicksCallback) {
 		// sets the callback
 		this.axisBuildTicksCallback = axisBuildTicksCallback;
+		// stores and manages callbacks
+		storeBuildTicksCallbacks();
+	}
+
+	/**
+	 * Sets the internal listener that runs before/after of the ticks building, used by ticks handlers to prepare the ticks formatting once for each layout.<br>
+	 * It is invoked before the user callback.
+	 * 
+	 * @param buildTicksListener the internal listener that runs before/after of the ticks building
+	 */
+	final void setBuildTicksListener(AxisBuildTicksCallback buildTicksListener) {
+		// sets the listener
+		this.buildTicksListener = buildTicksListener;
+		// stores and manages callbacks
+		storeBuildTicksCallbacks();
+	}
+
+	/**
+	 * Stores or removes the BUILD TICKS callbacks proxies, which are needed if the user callback or the internal listener is set.
+	 */
+	private void storeBuildTicksCallbacks() {
+		// gets the instance which activates the proxies
+		Object activator = axisBuildTicksCallback != null ? axisBuildTicksCallback : buildTicksListener;
 		// stores and manages callback
-		setCallback(getConfiguration(), CallbackProperty.BEFORE_BUILD_TICKS, axisBuildTicksCallback, beforeBuildTicksCallbackProxy);
+		setCallback(getConfiguration(), CallbackProperty.BEFORE_BUILD_TICKS, activator, beforeBuildTicksCallbackProxy);
 		// stores and manages callback
-		setCallback(getConfiguration(), CallbackProperty.AFTER_BUILD_TICKS, axisBuildTicksCallback, afterBuildTicksCallbackProxy);
+		setCallback(getConfiguration(), CallbackProperty.AFTER_BUILD_TICKS, activator, afterBuildTicksCallbackProxy);
 	}
 
 	/**
@@ -1126,10 +1151,20 @@ public abstract class Axis extends ConfigurationContainer<ExtendedScale> {
 	private void onBeforeBuildTicksCallback(NativeObject item) {
 		// gets callback
 		AxisBuildTicksCallback callback = getAxisBuildTicksCallback();
-		// if user callback is consistent
-		if (callback != null) {
-			// then it is called
-			callback.onBeforeBuildTicks(this, new AxisItem(new ConfigurationEnvelop<>(item, true)));
+		// checks if there is something to invoke
+		if (callback != null || buildTicksListener != null) {
+			// creates the item once for listener and callback
+			AxisItem axisItem = new AxisItem(new ConfigurationEnvelop<>(item, true));
+			// if internal listener is consistent
+			if (buildTicksListener != null) {
+				// then it is called
+				buildTicksListener.onBeforeBuildTicks(this, axisItem);
+			}
+			// if user callback is consistent
+			if (callback != null) {
+				// then it is called
+				callback.onBeforeBuildTicks(this, axisItem);
+			}
 		}
 	}
 
@@ -1141,10 +1176,20 @@ public abstract class Axis extends ConfigurationContainer<ExtendedScale> {
 	private void onAfterBuildTicksCallback(NativeObject item) {
 		// gets callback
 		AxisBuildTicksCallback callback = getAxisBuildTicksCallback();
-		// if user callback is consistent
-		if (callback != null) {
-			// then it is called
-			callback.onAfterBuildTicks(this, new AxisItem(new ConfigurationEnvelop<>(item, true)));
+		// checks if there is something to invoke
+		if (callback != null || buildTicksListener != null) {
+			// creates the item once for listener and callback
+			AxisItem axisItem = new AxisItem(new ConfigurationEnvelop<>(item, true));
+			// if internal listener is consistent
+			if (buildTicksListener != null) {
+				// then it is called
+				buildTicksListener.onAfterBuildTicks(this, axisItem);
+			}
+			// if user callback is consistent
+			if (callback != null) {
+				// then it is called
+				callback.onAfterBuildTicks(this, axisItem);
+			}
 		}
 	}
 
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.adapters.DateAdapter;
+import org.pepstock.charba.client.callbacks.AxisBuildTicksCallback;
 import org.pepstock.charba.client.callbacks.ScriptableUtil;
 import org.pepstock.charba.client.callbacks.TimeTickCallback;
 import org.pepstock.charba.client.commons.ArrayListHelper;
@@ -33,6 +34,7 @@ import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.ImmutableDate;
 import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.enums.TimeUnit;
+import org.pepstock.charba.client.items.AxisItem;
 import org.pepstock.charba.client.items.ScaleItem;
 import org.pepstock.charba.client.items.ScaleTickItem;
 
@@ -80,6 +82,37 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 
 	// gets date adapter
 	private final CartesianTimeAxis timeAxis;
+	// listener of the ticks building, to prepare the formatting context
+	private final AxisBuildTicksCallback buildTicksListener = new AxisBuildTicksCallback() {
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.callbacks.AxisBuildTicksCallback#onBeforeBuildTicks(org.pepstock.charba.client.configuration.Axis,
+		 * org.pepstock.charba.client.items.AxisItem)
+		 */
+		@Override
+		public void onBeforeBuildTicks(Axis axis, AxisItem item) {
+			// ticks are going to be rebuilt
+			// then the context is not valid anymore
+			formattingContext = null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.callbacks.AxisBuildTicksCallback#onAfterBuildTicks(org.pepstock.charba.client.configuration.Axis,
+		 * org.pepstock.charba.client.items.AxisItem)
+		 */
+		@Override
+		public void onAfterBuildTicks(Axis axis, AxisItem item) {
+			// creates the context for the current layout
+			formattingContext = new FormattingContext(item);
+		}
+
+	};
+	// formatting context of the current layout
+	private FormattingContext formattingContext = null;
 
 	/**
 	 * Builds the object storing the axis instance and options element, based on different kind of axis.
@@ -101,27 +134,14 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		tickCallbackProxy.setCallback((value, index, values) -> {
+			// gets the formatting context
+			FormattingContext context = getFormattingContext();
 			// get default label
-			String label = Constants.EMPTY_STRING;
-			// gets chart
-			IsChart chart = getAxis().getChart();
-			// gets scale item
-			ScaleItem scale = chart.getNode().getScales().getItems().get(getAxis().getId().value());
-			// checks if scale is consistent
-			if (scale != null) {
-				// creates adapter
-				DateAdapter adapter = scale.getDateAdapter();
-				// get time unit
-				TimeUnit unit = timeAxis.getTime().getUnit();
-				// gets format
-				String format = timeAxis.getTime().getDisplayFormats().getDisplayFormat(unit);
-				// stores default label
-				label = adapter.format((long) value, format);
-			}
+			String label = context.format(value, index, values);
 			// checks if callback is consistent
 			if (getCallback() != null) {
-				// gets as list the tick items
-				List<ScaleTickItem> tickItems = getTickItems(values);
+				// gets as list the tick items, shared by all ticks of the layout
+				List<ScaleTickItem> tickItems = context.getTickItems(values);
 				// retrieves the current value
 				Date dtValue = new ImmutableDate((long) value);
 				// then calls user callback
@@ -136,6 +156,43 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 
 	}
 
+	/**
+	 * Returns the formatting context of the current layout.<br>
+	 * If the ticks have been built without notifying the handler, the context is created by the scale item of the chart.
+	 * 
+	 * @return the formatting context of the current layout
+	 */
+	private FormattingContext getFormattingContext() {
+		// checks if the context is consistent
+		if (formattingContext != null) {
+			return formattingContext;
+		}
+		// gets chart
+		IsChart chart = getAxis().getChart();
+		// gets scale item
+		ScaleItem scale = chart.getNode().getScales().getItem(getAxis().getId().value());
+		// creates the context
+		FormattingContext context = new FormattingContext(scale);
+		// stores the context only if the scale is consistent
+		if (scale != null) {
+			formattingContext = context;
+		}
+		return context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.configuration.AbstractTickHandler#onCallbackChanged(java.lang.Object)
+	 */
+	@Override
+	void onCallbackChanged(TimeTickCallback callback) {
+		// the ticks building is listened only when the tick callback is set
+		getAxis().setBuildTicksListener(callback != null ? buildTicksListener : null);
+		// resets the context
+		formattingContext = null;
+	}
+
 	/**
 	 * Returns a list of time tick items from an array of native objects passed by CHART.JS.
 	 * 
@@ -156,4 +213,99 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 		return tickCallbackProxy.getProxy();
 	}
 
+	/**
+	 * Formatting context of the ticks of a layout, which resolves the date adapter, the time unit and the display format once.<br>
+	 * It also stores the list of tick items, shared by all ticks of the layout.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private final class FormattingContext {
+
+		// date adapter of the scale, null if the scale is not consistent
+		private final DateAdapter adapter;
+		// display format of the time unit
+		private final String format;
+		// array of ticks values which the list of tick items has been created by
+		private ArrayObject values = null;
+		// list of tick items, created on first use
+		private List<ScaleTickItem> tickItems = null;
+		// array of ticks values which the labels have been formatted by
+		private ArrayObject labelsValues = null;
+		// labels of all ticks, formatted on first use
+		private String[] labels = null;
+
+		/**
+		 * Creates the context resolving the date adapter, the time unit and the display format.
+		 * 
+		 * @param scale scale item of the axis, could be <code>null</code>
+		 */
+		private FormattingContext(ScaleItem scale) {
+			// checks if scale is consistent
+			if (scale != null) {
+				// creates adapter
+				this.adapter = scale.getDateAdapter();
+				// get time unit
+				TimeUnit unit = timeAxis.getTime().getUnit();
+				// gets format
+				this.format = timeAxis.getTime().getDisplayFormats().getDisplayFormat(unit);
+			} else {
+				this.adapter = null;
+				this.format = null;
+			}
+		}
+
+		/**
+		 * Returns the default label of the tick.<br>
+		 * The labels of all ticks of the layout are formatted at the first invocation, by a single call to the date adapter.
+		 * 
+		 * @param value the timestamp of the tick
+		 * @param index index of tick
+		 * @param values array with all values of ticks
+		 * @return the default label of the tick or an empty string if the scale is not consistent
+		 */
+		private String format(double value, int index, ArrayObject values) {
+			// checks if adapter is consistent
+			if (adapter == null) {
+				return Constants.EMPTY_STRING;
+			}
+			// checks if the labels must be formatted
+			if (labels == null || labelsValues != values) {
+				// gets the tick items
+				List<ScaleTickItem> items = getTickItems(values);
+				// extracts the timestamps
+				long[] times = new long[items.size()];
+				for (int i = 0; i < times.length; i++) {
+					times[i] = (long) items.get(i).getValue();
+				}
+				// formats all ticks at once
+				labels = adapter.format(times, format);
+				labelsValues = values;
+			}
+			// checks if index is in range
+			if (index >= 0 && index < labels.length) {
+				return labels[index];
+			}
+			// if here, the tick is not in the array
+			// then formats only the value
+			return adapter.format((long) value, format);
+		}
+
+		/**
+		 * Returns the list of tick items, creating it only if the array of ticks values is changed.
+		 * 
+		 * @param values an array of native objects passed by CHART.JS
+		 * @return a list of time tick items
+		 */
+		private List<ScaleTickItem> getTickItems(ArrayObject values) {
+			// checks if the list must be created
+			if (tickItems == null || this.values != values) {
+				this.values = values;
+				this.tickItems = TimeTickHandler.this.getTickItems(values);
+			}
+			return tickItems;
+		}
+
+	}
+
 }
\ No newline at end of file
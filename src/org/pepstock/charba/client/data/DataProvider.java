@@ -0,0 +1,39 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.data;
+
+/**
+ * Source of data points which is queried by a {@link DataProviderHandler} with the range of values currently visible on the X axis of a chart, i.e. after a zoom or a pan.<br>
+ * The data points can be provided synchronously or asynchronously, by {@link DataRequest#complete(java.util.List)}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface DataProvider {
+
+	/**
+	 * Loads the data points for the range of the request.<br>
+	 * When the data points are available, they must be passed to {@link DataRequest#complete(java.util.List)}.<br>
+	 * The request could be cancelled by a newer one, before completion. In this case the data points are ignored.
+	 * 
+	 * @param request request with the range of values and the available pixels
+	 */
+	void load(DataRequest request);
+
+}
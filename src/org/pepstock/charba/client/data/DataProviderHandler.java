@@ -0,0 +1,314 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.items.ScaleItem;
+import org.pepstock.charba.client.utils.CScheduler;
+import org.pepstock.charba.client.utils.CSchedulerRegistration;
+
+/**
+ * Binds a {@link DataProvider} to a data set of a chart, loading the data points of the range of values currently visible on the X axis.<br>
+ * The data points are requested when the chart is initialized and every time {@link #refresh()} is invoked, i.e. by the completed callbacks of zoom and pan.<br>
+ * The requests are debounced, the superseded requests are cancelled and the data points of the recently fetched ranges are cached and reused when they cover the
+ * requested range with the same or higher resolution.<br>
+ * The data points are sorted by X value before being loaded into the data set, as required by the index lookups of the sorted data.<br>
+ * When the data set is empty, the range of the X scale is not derived from any data, therefore the refreshes are skipped until a range is known, by the data
+ * points of the data set or by a request sent by {@link #load(double, double, double)}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class DataProviderHandler {
+
+	/**
+	 * Default delay in milliseconds to wait before requesting the data points, <b>{@value DEFAULT_DEBOUNCE}</b>.
+	 */
+	public static final int DEFAULT_DEBOUNCE = 150;
+
+	/**
+	 * Default amount of fetched ranges maintained in the cache, <b>{@value DEFAULT_CACHE_SIZE}</b>.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 8;
+
+	// chart instance
+	private final IsChart chart;
+	// data set to load
+	private final LineDataset dataset;
+	// data provider
+	private final DataProvider provider;
+	// cache of fetched ranges, in access order
+	private final Map<DataRequest, List<DataPoint>> cache = new LinkedHashMap<>(16, 0.75F, true);
+	// delay to wait before requesting the data points
+	private int debounce = DEFAULT_DEBOUNCE;
+	// amount of fetched ranges to cache
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+	// registration of the scheduled refresh
+	private CSchedulerRegistration scheduled = null;
+	// request sent to the provider and not completed yet
+	private DataRequest pending = null;
+	// if a range has been requested at least once
+	private boolean rangeRequested = false;
+
+	/**
+	 * Creates the handler and binds it to the chart.
+	 * 
+	 * @param chart chart instance
+	 * @param dataset data set to load
+	 * @param provider data provider
+	 */
+	DataProviderHandler(IsChart chart, LineDataset dataset, DataProvider provider) {
+		// checks arguments
+		IsChart.checkIfValid(chart);
+		this.chart = chart;
+		this.dataset = Checker.checkAndGetIfValid(dataset, "Data set");
+		this.provider = Checker.checkAndGetIfValid(provider, "Data provider");
+		// binds the handler to the chart
+		DataProviders.get().add(this);
+	}
+
+	/**
+	 * Returns the chart where the data set belongs to.
+	 * 
+	 * @return the chart where the data set belongs to
+	 */
+	public IsChart getChart() {
+		return chart;
+	}
+
+	/**
+	 * Returns the data provider.
+	 * 
+	 * @return the data provider
+	 */
+	public DataProvider getProvider() {
+		return provider;
+	}
+
+	/**
+	 * Returns the delay in milliseconds to wait before requesting the data points.
+	 * 
+	 * @return the delay in milliseconds to wait before requesting the data points
+	 */
+	public int getDebounce() {
+		return debounce;
+	}
+
+	/**
+	 * Sets the delay in milliseconds to wait before requesting the data points.<br>
+	 * Every call to {@link #refresh()} during the delay postpones the request.
+	 * 
+	 * @param debounce the delay in milliseconds to wait before requesting the data points
+	 */
+	public void setDebounce(int debounce) {
+		this.debounce = Checker.positiveOrZero(debounce);
+	}
+
+	/**
+	 * Returns the amount of fetched ranges maintained in the cache.
+	 * 
+	 * @return the amount of fetched ranges maintained in the cache
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Sets the amount of fetched ranges maintained in the cache.<br>
+	 * By <code>0</code>, the cache is disabled.
+	 * 
+	 * @param cacheSize the amount of fetched ranges maintained in the cache
+	 */
+	public void setCacheSize(int cacheSize) {
+		this.cacheSize = Checker.positiveOrZero(cacheSize);
+		// removes the exceeding ranges
+		evict();
+	}
+
+	/**
+	 * Removes all fetched ranges from the cache.
+	 */
+	public void clearCache() {
+		cache.clear();
+	}
+
+	/**
+	 * Requests the data points of the range of values currently visible on the X axis of the data set, after the debounce delay.<br>
+	 * The request is skipped when the data set is empty and a range has never been requested, because the range of the X scale is not derived from any data.
+	 */
+	public void refresh() {
+		// cancels the scheduled refresh
+		cancelScheduled();
+		// schedules the refresh
+		scheduled = CScheduler.get().submit(this::executeRefresh, debounce);
+	}
+
+	/**
+	 * Requests immediately the data points of the range passed as argument.
+	 * 
+	 * @param min minimum value of the range
+	 * @param max maximum value of the range
+	 * @param pixelWidth pixels width where the data points will be drawn
+	 */
+	public void load(double min, double max, double pixelWidth) {
+		// cancels the scheduled refresh and the pending request
+		cancel();
+		// creates the request
+		DataRequest request = new DataRequest(this, Math.min(min, max), Math.max(min, max), Checker.positiveOrZero(pixelWidth));
+		rangeRequested = true;
+		// searches in the cache
+		for (Entry<DataRequest, List<DataPoint>> entry : cache.entrySet()) {
+			// checks if the cached range can be used
+			if (entry.getKey().covers(request)) {
+				// touches the entry for the access order
+				cache.get(entry.getKey());
+				apply(entry.getValue());
+				return;
+			}
+		}
+		// stores the pending request
+		pending = request;
+		// invokes the provider
+		provider.load(request);
+	}
+
+	/**
+	 * Cancels the scheduled refresh and the pending request, if any.
+	 */
+	public void cancel() {
+		cancelScheduled();
+		// checks if there is a pending request
+		if (pending != null) {
+			pending.cancel();
+			pending = null;
+		}
+	}
+
+	/**
+	 * Unbinds the handler from the chart, cancelling the pending requests and clearing the cache.
+	 */
+	public void unbind() {
+		cancel();
+		clearCache();
+		DataProviders.get().remove(this);
+	}
+
+	/**
+	 * Invoked by the request when completed, sorting the data points by X value, storing them in the cache and loading them into the data set.
+	 * 
+	 * @param request request completed
+	 * @param dataPoints data points of the request
+	 */
+	void onCompleted(DataRequest request, List<DataPoint> dataPoints) {
+		// checks if the request is the pending one
+		if (request == pending) {
+			pending = null;
+			List<DataPoint> sortedDataPoints = sort(dataPoints);
+			// checks if the cache is enabled
+			if (cacheSize > 0) {
+				cache.put(request, sortedDataPoints);
+				evict();
+			}
+			apply(sortedDataPoints);
+		}
+	}
+
+	/**
+	 * Reads the range of values currently visible on the X axis of the data set and requests the data points.
+	 */
+	private void executeRefresh() {
+		scheduled = null;
+		// checks if the chart is initialized and
+		// if the range of the scale is known
+		if (chart.isInitialized() && (rangeRequested || dataset.getDataCount() > 0)) {
+			// gets the X scale of the data set
+			ScaleItem scale = chart.getNode().getScales().getItem(dataset.getXAxisID());
+			// checks if the scale is consistent
+			if (scale != null && !Double.isNaN(scale.getMin()) && !Double.isNaN(scale.getMax())) {
+				load(scale.getMin(), scale.getMax(), scale.getWidth());
+			}
+		}
+	}
+
+	/**
+	 * Loads the data points into the data set and updates the chart.
+	 * 
+	 * @param dataPoints data points to load
+	 */
+	private void apply(List<DataPoint> dataPoints) {
+		dataset.setDataPoints(dataPoints);
+		// checks if the chart is initialized
+		if (chart.isInitialized()) {
+			chart.update();
+		}
+	}
+
+	/**
+	 * Cancels the scheduled refresh, if any.
+	 */
+	private void cancelScheduled() {
+		// checks if there is a scheduled refresh
+		if (scheduled != null) {
+			scheduled.cancel();
+			scheduled = null;
+		}
+	}
+
+	/**
+	 * Removes the least recently used ranges exceeding the cache size.
+	 */
+	private void evict() {
+		Iterator<DataRequest> iterator = cache.keySet().iterator();
+		// removes the oldest ranges
+		while (cache.size() > cacheSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+
+	/**
+	 * Returns the data points sorted by X value. If the data points are already sorted, the same list is returned.
+	 * 
+	 * @param dataPoints data points to sort
+	 * @return the data points sorted by X value
+	 */
+	private static List<DataPoint> sort(List<DataPoint> dataPoints) {
+		// checks if the data points are already sorted
+		for (int i = 1; i < dataPoints.size(); i++) {
+			if (Double.compare(dataPoints.get(i - 1).getX(), dataPoints.get(i).getX()) > 0) {
+				// copies the data points because the list could be immutable
+				List<DataPoint> result = new ArrayList<>(dataPoints);
+				result.sort(Comparator.comparingDouble(DataPoint::getX));
+				return result;
+			}
+		}
+		return dataPoints;
+	}
+
+}
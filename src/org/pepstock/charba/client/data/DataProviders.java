@@ -0,0 +1,128 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.ChartsLifecycleListener;
+import org.pepstock.charba.client.IsChart;
+
+/**
+ * Maintains the data provider handlers by chart, requesting the data points when the charts are initialized and cancelling the pending requests when the charts are
+ * destroyed.<br>
+ * The handlers remain bound to their chart until they are unbound, therefore the data points are requested again when a destroyed chart is drawn again.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+final class DataProviders implements ChartsLifecycleListener {
+
+	// singleton instance
+	private static final DataProviders INSTANCE = new DataProviders();
+	// map with handlers
+	// K = chart id, V = list of handlers
+	private final Map<String, List<DataProviderHandler>> handlers = new HashMap<>();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private DataProviders() {
+		// registers itself as chart life cycle listener
+		Charts.addLifecycleListener(this);
+	}
+
+	/**
+	 * Singleton method to get static instance.
+	 * 
+	 * @return common instance
+	 */
+	static DataProviders get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Adds a handler for its chart.<br>
+	 * If the chart is already initialized, the data points are requested.
+	 * 
+	 * @param handler data provider handler to add
+	 */
+	void add(DataProviderHandler handler) {
+		handlers.computeIfAbsent(handler.getChart().getId(), mapKey -> new ArrayList<>()).add(handler);
+		// checks if the chart is already initialized
+		if (handler.getChart().isInitialized()) {
+			handler.refresh();
+		}
+	}
+
+	/**
+	 * Removes a handler.
+	 * 
+	 * @param handler data provider handler to remove
+	 */
+	void remove(DataProviderHandler handler) {
+		// gets the handlers of the chart
+		List<DataProviderHandler> chartHandlers = handlers.get(handler.getChart().getId());
+		// checks if consistent
+		if (chartHandlers != null) {
+			chartHandlers.remove(handler);
+			// checks if there are other handlers for the chart
+			if (chartHandlers.isEmpty()) {
+				handlers.remove(handler.getChart().getId());
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.ChartsLifecycleListener#onAfterInit(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterInit(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart) && handlers.containsKey(chart.getId())) {
+			// requests the data points
+			for (DataProviderHandler handler : handlers.get(chart.getId())) {
+				handler.refresh();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.ChartsLifecycleListener#onBeforeDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onBeforeDestroy(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart) && handlers.containsKey(chart.getId())) {
+			// cancels the pending requests only
+			// the handlers remain bound to the chart, which could be drawn again,
+			// until they are unbound
+			for (DataProviderHandler handler : handlers.get(chart.getId())) {
+				handler.cancel();
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Request of data points sent to a {@link DataProvider}, with the range of values on the X axis and the amount of pixels where they will be drawn.<br>
+ * The pixels width can be used by the provider to decimate the data points.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class DataRequest {
+
+	// handler which sent the request
+	private final DataProviderHandler handler;
+	// minimum value of the range
+	private final double min;
+	// maximum value of the range
+	private final double max;
+	// pixels width where the data points will be drawn
+	private final double pixelWidth;
+	// if the request has been cancelled
+	private boolean cancelled = false;
+	// if the request has been completed
+	private boolean completed = false;
+
+	/**
+	 * Creates the request.
+	 * 
+	 * @param handler handler which sent the request
+	 * @param min minimum value of the range
+	 * @param max maximum value of the range
+	 * @param pixelWidth pixels width where the data points will be drawn
+	 */
+	DataRequest(DataProviderHandler handler, double min, double max, double pixelWidth) {
+		this.handler = handler;
+		this.min = min;
+		this.max = max;
+		this.pixelWidth = pixelWidth;
+	}
+
+	/**
+	 * Returns the minimum value of the range.<br>
+	 * For time series, it is the epoch in milliseconds.
+	 * 
+	 * @return the minimum value of the range
+	 */
+	public double getMin() {
+		return min;
+	}
+
+	/**
+	 * Returns the maximum value of the range.<br>
+	 * For time series, it is the epoch in milliseconds.
+	 * 
+	 * @return the maximum value of the range
+	 */
+	public double getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the pixels width where the data points will be drawn.
+	 * 
+	 * @return the pixels width where the data points will be drawn
+	 */
+	public double getPixelWidth() {
+		return pixelWidth;
+	}
+
+	/**
+	 * Returns <code>true</code> if the request has been cancelled by a newer one or by the handler.
+	 * 
+	 * @return <code>true</code> if the request has been cancelled
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns <code>true</code> if the request has been completed.
+	 * 
+	 * @return <code>true</code> if the request has been completed
+	 */
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Completes the request with the data points of the range.<br>
+	 * The data points are sorted by X value by the handler, if not already sorted.<br>
+	 * If the request has been cancelled or already completed, the data points are ignored.
+	 * 
+	 * @param dataPoints data points of the range
+	 */
+	public void complete(DataPoint... dataPoints) {
+		complete(dataPoints != null ? Arrays.asList(dataPoints) : Collections.emptyList());
+	}
+
+	/**
+	 * Completes the request with the data points of the range.<br>
+	 * The data points are sorted by X value by the handler, if not already sorted.<br>
+	 * If the request has been cancelled or already completed, the data points are ignored.
+	 * 
+	 * @param dataPoints data points of the range
+	 */
+	public void complete(List<DataPoint> dataPoints) {
+		// checks if the request is still pending
+		if (!cancelled && !completed) {
+			completed = true;
+			handler.onCompleted(this, dataPoints != null ? dataPoints : Collections.emptyList());
+		}
+	}
+
+	/**
+	 * Cancels the request.
+	 */
+	void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Returns <code>true</code> if the data points of this request can be used for the range of the request passed as argument, because they cover the range with the same
+	 * or higher resolution.
+	 * 
+	 * @param request request to check
+	 * @return <code>true</code> if the data points of this request can be used for the range of the request passed as argument
+	 */
+	boolean covers(DataRequest request) {
+		// checks the range
+		if (min > request.min || max < request.max) {
+			return false;
+		}
+		// checks the resolution, as pixels by unit of value
+		double resolution = (max - min) > 0 ? pixelWidth / (max - min) : Double.POSITIVE_INFINITY;
+		double requestResolution = (request.max - request.min) > 0 ? request.pixelWidth / (request.max - request.min) : Double.POSITIVE_INFINITY;
+		return resolution >= requestResolution;
+	}
+
+}
@@ -19,6 +19,7 @@
 package org.pepstock.charba.client.data;
 
 import org.pepstock.charba.client.ChartType;
+import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.Type;
 import org.pepstock.charba.client.callbacks.FillCallback;
 import org.pepstock.charba.client.callbacks.NativeCallback;
@@ -151,4 +152,16 @@ public final class ScatterDataset extends LineDataset {
 		super.setFill(Fill.FALSE);
 	}
 
+	/**
+	 * Binds a data provider to this data set, in order to load the data points of the range of values currently visible on the X axis, when the chart is initialized and
+	 * every time {@link DataProviderHandler#refresh()} is invoked, i.e. by the completed callbacks of zoom and pan.
+	 * 
+	 * @param chart chart where this data set belongs to
+	 * @param provider data provider to bind
+	 * @return the handler to refresh, configure and unbind the data provider
+	 */
+	public DataProviderHandler bindDataProvider(IsChart chart, DataProvider provider) {
+		return new DataProviderHandler(chart, this, provider);
+	}
+
 }
\ No newline at end of file
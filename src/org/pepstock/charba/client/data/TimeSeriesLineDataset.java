@@ -18,10 +18,15 @@
 */
 package org.pepstock.charba.client.data;
 
+import java.util.Date;
 import java.util.List;
 
+import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.Type;
+import org.pepstock.charba.client.commons.ArraySearch;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
+import org.pepstock.charba.client.items.ScaleItem;
+import org.pepstock.charba.client.items.Undefined;
 
 /**
  * The time series line chart allows a number of properties to be specified for each dataset. These are used to set display properties for a specific dataset.<br>
@@ -132,4 +137,87 @@ public class TimeSeriesLineDataset extends LineDataset implements HasTimeSeriesI
 	public final List<String> getDataString(boolean binding) {
 		throw new UnsupportedOperationException(INVALID_DATA_STRING_CALL);
 	}
+
+	/**
+	 * Returns the index of the time series item nearest to the time passed as argument.<br>
+	 * The time series items are sorted by time when they are set, therefore the time is searched by a binary search.
+	 * 
+	 * @param time time to search
+	 * @return the index of the nearest item or {@link Undefined#INTEGER} if there is not any item or the time is not consistent
+	 */
+	public final int getNearestIndex(Date time) {
+		// checks if time is consistent
+		if (time == null) {
+			return Undefined.INTEGER;
+		}
+		return getNearestIndex(time.getTime());
+	}
+
+	/**
+	 * Returns the index of the time series item nearest to the time, in milliseconds, passed as argument.<br>
+	 * The time series items are sorted by time when they are set, therefore the time is searched by a binary search.
+	 * 
+	 * @param time time to search, in milliseconds
+	 * @return the index of the nearest item or {@link Undefined#INTEGER} if there is not any item
+	 */
+	public final int getNearestIndex(long time) {
+		return ArraySearch.nearestIndex(getArrayValue(CommonProperty.DATA), AbstractXYDataPoint.XYProperty.X, time);
+	}
+
+	/**
+	 * Returns the index of the time series item nearest to the pixel passed as argument, converting the pixel to a time by the scale passed as argument.
+	 * 
+	 * @param scale time scale used by the dataset
+	 * @param pixel pixel to convert
+	 * @return the index of the nearest item or {@link Undefined#INTEGER} if there is not any item or the scale is not consistent
+	 */
+	public final int getNearestIndex(ScaleItem scale, double pixel) {
+		// checks if scale is consistent
+		if (scale == null) {
+			return Undefined.INTEGER;
+		}
+		return ArraySearch.nearestIndex(getArrayValue(CommonProperty.DATA), AbstractXYDataPoint.XYProperty.X, scale.getValueForPixel(pixel));
+	}
+
+	/**
+	 * Returns the first and last indexes (both included) of the time series items between the times, in milliseconds, passed as argument.<br>
+	 * The time series items are sorted by time when they are set, therefore the times are searched by a binary search.
+	 * 
+	 * @param from first time of the range, in milliseconds
+	 * @param to last time of the range, in milliseconds
+	 * @return an array with the first and last indexes or an empty array if there is not any item in the range
+	 */
+	public final int[] getIndexRange(long from, long to) {
+		return ArraySearch.indexRange(getArrayValue(CommonProperty.DATA), AbstractXYDataPoint.XYProperty.X, from, to);
+	}
+
+	/**
+	 * Returns the first and last indexes (both included) of the time series items inside the pixels window passed as argument, converting the pixels to times by
+	 * the scale passed as argument.
+	 * 
+	 * @param scale time scale used by the dataset
+	 * @param fromPixel first pixel of the window
+	 * @param toPixel last pixel of the window
+	 * @return an array with the first and last indexes or an empty array if there is not any item in the window or the scale is not consistent
+	 */
+	public final int[] getIndexRange(ScaleItem scale, double fromPixel, double toPixel) {
+		// checks if scale is consistent
+		if (scale == null) {
+			return ArraySearch.EMPTY_RANGE;
+		}
+		return ArraySearch.indexRange(getArrayValue(CommonProperty.DATA), AbstractXYDataPoint.XYProperty.X, scale.getValueForPixel(fromPixel), scale.getValueForPixel(toPixel));
+	}
+
+	/**
+	 * Binds a data provider to this data set, in order to load the data points of the range of values currently visible on the X axis, when the chart is initialized and
+	 * every time {@link DataProviderHandler#refresh()} is invoked, i.e. by the completed callbacks of zoom and pan.
+	 * 
+	 * @param chart chart where this data set belongs to
+	 * @param provider data provider to bind
+	 * @return the handler to refresh, configure and unbind the data provider
+	 */
+	public final DataProviderHandler bindDataProvider(IsChart chart, DataProvider provider) {
+		return new DataProviderHandler(chart, this, provider);
+	}
+
 }
\ No newline at end of file
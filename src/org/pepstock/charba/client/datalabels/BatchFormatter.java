@@ -0,0 +1,199 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.datalabels;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.Defaults;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.callbacks.ScriptableUtil;
+import org.pepstock.charba.client.commons.ArrayString;
+import org.pepstock.charba.client.commons.CallbackProxy;
+import org.pepstock.charba.client.commons.NativeObject;
+import org.pepstock.charba.client.data.Dataset;
+import org.pepstock.charba.client.datalabels.callbacks.BatchFormatterCallback;
+import org.pepstock.charba.client.datalabels.callbacks.FormatterCallback;
+import org.pepstock.charba.client.datalabels.callbacks.MultilineBatchFormatterCallback;
+import org.pepstock.charba.client.items.DataItem;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Formatter which invokes a batch formatter once per data set and per update of the chart.<br>
+ * The formatted texts are stored in the native chart and the labels are served by a native formatter function, which reads the text by the data index, without
+ * invoking any java code. The texts are removed from the chart at every update by {@link BatchFormatterHandler}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class BatchFormatter implements FormatterCallback {
+
+	// ---------------------------
+	// -- JAVASCRIPT FUNCTIONS ---
+	// ---------------------------
+
+	/**
+	 * Java script FUNCTION callback called to load the texts of a data set, when they are missing.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	@JsFunction
+	interface ProxyBatchTextsLoader {
+
+		/**
+		 * Method of function to be called to load the texts of a data set.
+		 * 
+		 * @param context native object as context
+		 * @return the texts of the data set
+		 */
+		ArrayString call(NativeObject context);
+	}
+
+	// string used to join the lines of a label
+	private static final String NEW_LINE = "\n";
+	// counter of the batch formatters, used as unique id
+	private static int counter = 0;
+
+	// unique id of the batch formatter, used to store the texts in the chart
+	private final int id;
+	// label item which the formatter is set to
+	private final LabelItem label;
+	// batch formatter callback
+	private final BatchFormatterCallback callback;
+	// native formatter function to set as formatter of the label
+	private final CallbackProxy.Proxy proxy;
+
+	/**
+	 * Creates the formatter by a batch formatter callback.
+	 * 
+	 * @param label label item which the formatter is set to
+	 * @param callback batch formatter callback
+	 */
+	BatchFormatter(LabelItem label, BatchFormatterCallback callback) {
+		this.label = label;
+		this.callback = callback;
+		this.id = counter++;
+		// creates the native formatter
+		// which invokes the loader only when the texts of the data set are missing
+		this.proxy = JsDataLabelsHelper.get().newBatchFormatter(id, this::onLoad);
+		// registers the handler to reset the texts at every update of the charts
+		Defaults.get().getPlugins().register(BatchFormatterHandler.get());
+	}
+
+	/**
+	 * Creates the formatter by a batch formatter callback by labels on multiple lines.
+	 * 
+	 * @param label label item which the formatter is set to
+	 * @param callback batch formatter callback by labels on multiple lines
+	 */
+	BatchFormatter(LabelItem label, MultilineBatchFormatterCallback callback) {
+		this(label, (BatchFormatterCallback) (chart, dataset, datasetIndex) -> join(callback.invoke(chart, dataset, datasetIndex)));
+	}
+
+	/**
+	 * Returns the native formatter function to set as formatter of the label.
+	 * 
+	 * @return the native formatter function to set as formatter of the label
+	 */
+	CallbackProxy.Proxy getProxy() {
+		return proxy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.datalabels.callbacks.FormatterCallback#invoke(org.pepstock.charba.client.datalabels.DataLabelsContext,
+	 * org.pepstock.charba.client.items.DataItem)
+	 */
+	@Override
+	public String invoke(DataLabelsContext context, DataItem dataItem) {
+		// gets the texts of the data set
+		ArrayString texts = getTexts(context.getChart(), context.getDatasetIndex());
+		int dataIndex = context.getDataIndex();
+		// checks if the text is available
+		// if not, the plugin uses the value without any format
+		return texts != null && dataIndex >= 0 && dataIndex < texts.length() ? texts.get(dataIndex) : null;
+	}
+
+	/**
+	 * Invoked by the native formatter when the texts of a data set are missing.
+	 * 
+	 * @param context native object as context
+	 * @return the texts of the data set
+	 */
+	private ArrayString onLoad(NativeObject context) {
+		// creates the context
+		DataLabelsContext dataLabelsContext = new DataLabelsContext(label, context);
+		// checks if the context is consistent
+		if (ScriptableUtil.isContextConsistent(dataLabelsContext)) {
+			return getTexts(dataLabelsContext.getChart(), dataLabelsContext.getDatasetIndex());
+		}
+		// if here, the context is not consistent
+		// then the plugin uses the values without any format
+		return null;
+	}
+
+	/**
+	 * Returns the formatted texts of a data set of the chart, stored in the native chart.<br>
+	 * If missing, the callback is invoked and the result is stored in the native chart, until the next update.
+	 * 
+	 * @param chart chart instance
+	 * @param datasetIndex data set index
+	 * @return the formatted texts of the data set or <code>null</code> if not available
+	 */
+	private ArrayString getTexts(IsChart chart, int datasetIndex) {
+		// gets the native chart
+		Chart nativeChart = Charts.getNative(chart);
+		// checks if the chart and the data set index are consistent
+		if (nativeChart == null || datasetIndex < 0 || datasetIndex >= chart.getData().getDatasets().size()) {
+			return null;
+		}
+		// gets the texts stored in the chart
+		ArrayString texts = JsDataLabelsHelper.get().getBatchTexts(nativeChart, id, datasetIndex);
+		// checks if the data set must be formatted
+		if (texts == null) {
+			Dataset dataset = chart.getData().getDatasets().get(datasetIndex);
+			// an empty array is stored when the callback does not return anything
+			// in order to invoke it only once
+			texts = ArrayString.fromOrEmpty(callback.invoke(chart, dataset, datasetIndex));
+			JsDataLabelsHelper.get().setBatchTexts(nativeChart, id, datasetIndex, texts);
+		}
+		return texts;
+	}
+
+	/**
+	 * Joins the lines of the labels by the newline character.
+	 * 
+	 * @param lines labels by data index and line
+	 * @return labels by data index
+	 */
+	private static String[] join(String[][] lines) {
+		// checks if consistent
+		if (lines == null) {
+			return null;
+		}
+		String[] result = new String[lines.length];
+		// scans all labels
+		for (int i = 0; i < lines.length; i++) {
+			result[i] = lines[i] != null ? String.join(NEW_LINE, lines[i]) : null;
+		}
+		return result;
+	}
+
+}
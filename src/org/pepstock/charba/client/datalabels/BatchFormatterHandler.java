@@ -0,0 +1,72 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.datalabels;
+
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.items.PluginUpdateArgument;
+import org.pepstock.charba.client.plugins.SmartPlugin;
+import org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook;
+
+/**
+ * Global plugin which removes the texts stored in the charts by the batch formatters, before every update of the chart, in order to format the labels again by the
+ * batch formatter callbacks.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class BatchFormatterHandler extends SmartPlugin implements BeforeUpdateHook {
+
+	// plugin ID
+	static final String ID = "charbadatalabelsbatchformatter";
+	// singleton instance
+	private static final BatchFormatterHandler INSTANCE = new BatchFormatterHandler();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private BatchFormatterHandler() {
+		super(ID);
+		// stores itself as hook handler
+		setBeforeUpdateHook(this);
+	}
+
+	/**
+	 * Singleton method to get static instance.
+	 * 
+	 * @return plugin instance
+	 */
+	static BatchFormatterHandler get() {
+		return INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook#onBeforeUpdate(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.PluginUpdateArgument)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart, PluginUpdateArgument argument) {
+		// removes the texts of the previous update
+		JsDataLabelsHelper.get().resetBatchTexts(Charts.getNative(chart));
+		return true;
+	}
+
+}
@@ -0,0 +1,224 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.datalabels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.callbacks.DisplayCallback;
+import org.pepstock.charba.client.callbacks.OffsetCallback;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.enums.Display;
+import org.pepstock.charba.client.items.Undefined;
+
+/**
+ * Display callback which resolves the overlaps of the labels of {@link DataLabelsPlugin#ID} plugin.<br>
+ * When invoked for the first label of an update of the chart, it measures all labels once, by the text metrics cache, and places them by priority, by a spatial
+ * hash. Then every label is served by the computed placement, without any further calculation.<br>
+ * Every data set is measured by the labels which use the resolver for it, by their own options and by the texts formatted by their formatters.<br>
+ * The labels which overlap are moved along their alignment direction, by the offset, and hidden when they can not be placed.<br>
+ * To move the labels, the offset callback provided by {@link #getOffsetCallback()} must be set to the label as well:
+ * 
+ * <pre>
+ * DataLabelsCollisionResolver resolver = new DataLabelsCollisionResolver();
+ * option.setDisplay(resolver);
+ * option.setOffset(resolver.getOffsetCallback());
+ * </pre>
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class DataLabelsCollisionResolver implements DisplayCallback<DataLabelsContext> {
+
+	/**
+	 * Default minimum distance between labels, in pixels, <b>{@value DEFAULT_SPACING}</b>.
+	 */
+	public static final double DEFAULT_SPACING = 2D;
+
+	/**
+	 * Default maximum amount of attempts to move a label which overlaps, <b>{@value DEFAULT_MAX_SHIFTS}</b>.
+	 */
+	public static final int DEFAULT_MAX_SHIFTS = 2;
+
+	// placements by chart id, computed by the labels of each data set
+	private final Map<String, DataLabelsPlacement> placements = new HashMap<>();
+	// offset callback which uses the placements
+	private final OffsetCallback<DataLabelsContext> offsetCallback = this::getOffset;
+	// minimum distance between labels
+	private double spacing = DEFAULT_SPACING;
+	// maximum amount of attempts to move a label
+	private int maxShifts = DEFAULT_MAX_SHIFTS;
+
+	/**
+	 * Returns the minimum distance between labels, in pixels.
+	 * 
+	 * @return the minimum distance between labels, in pixels
+	 */
+	public double getSpacing() {
+		return spacing;
+	}
+
+	/**
+	 * Sets the minimum distance between labels, in pixels.
+	 * 
+	 * @param spacing the minimum distance between labels, in pixels
+	 */
+	public void setSpacing(double spacing) {
+		this.spacing = Checker.positiveOrZero(spacing);
+		// resets the placements
+		placements.clear();
+	}
+
+	/**
+	 * Returns the maximum amount of attempts to move a label which overlaps.
+	 * 
+	 * @return the maximum amount of attempts to move a label which overlaps
+	 */
+	public int getMaxShifts() {
+		return maxShifts;
+	}
+
+	/**
+	 * Sets the maximum amount of attempts to move a label which overlaps.<br>
+	 * By <code>0</code>, the labels which overlap are hidden without moving them.
+	 * 
+	 * @param maxShifts the maximum amount of attempts to move a label which overlaps
+	 */
+	public void setMaxShifts(int maxShifts) {
+		this.maxShifts = Checker.positiveOrZero(maxShifts);
+		// resets the placements
+		placements.clear();
+	}
+
+	/**
+	 * Returns the offset callback to set to the label in order to move the labels which overlap.
+	 * 
+	 * @return the offset callback to set to the label
+	 */
+	public OffsetCallback<DataLabelsContext> getOffsetCallback() {
+		return offsetCallback;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.callbacks.Scriptable#invoke(org.pepstock.charba.client.callbacks.ChartContext)
+	 */
+	@Override
+	public Object invoke(DataLabelsContext context) {
+		// gets the placement
+		DataLabelsPlacement placement = getPlacement(context);
+		// checks if the placement is consistent
+		if (placement != null) {
+			return placement.isDisplay(context.getLabel(), context.getDatasetIndex(), context.getDataIndex());
+		}
+		// if here, the context is not consistent
+		// then the label is shown
+		return Display.TRUE;
+	}
+
+	/**
+	 * Returns the offset of the label, computed by the placement.
+	 * 
+	 * @param context context of the label
+	 * @return the offset of the label
+	 */
+	private Integer getOffset(DataLabelsContext context) {
+		// gets the placement
+		DataLabelsPlacement placement = getPlacement(context);
+		// checks if the placement is consistent
+		if (placement != null) {
+			int offset = placement.getOffset(context.getLabel(), context.getDatasetIndex(), context.getDataIndex());
+			// checks if the offset has been computed
+			if (Undefined.isNot(offset)) {
+				return offset;
+			}
+		}
+		// if here, uses the offset of the label
+		return context.getLabel().getOffset();
+	}
+
+	/**
+	 * Returns the placement of the labels for the chart of the context, computing it if the chart has been updated or if the label of the context has not been
+	 * used for its data set.<br>
+	 * The placement is computed by the labels which requested it during the previous update. When the chart is updated for the first time, the label of the
+	 * context is used for all data sets without any known label.
+	 * 
+	 * @param context context of the label
+	 * @return the placement of the labels or <code>null</code> if the context is not consistent
+	 */
+	private DataLabelsPlacement getPlacement(DataLabelsContext context) {
+		// checks if the context is consistent
+		if (context == null || !IsChart.isValid(context.getChart()) || !context.getChart().isInitialized()) {
+			return null;
+		}
+		IsChart chart = context.getChart();
+		LabelItem label = context.getLabel();
+		int datasetIndex = context.getDatasetIndex();
+		// gets the stored placement
+		DataLabelsPlacement placement = placements.get(chart.getId());
+		// checks if the placement has been computed for the current update and for the label
+		if (placement == null || !placement.isValid(chart) || !placement.contains(label, datasetIndex)) {
+			// removes the placements of the destroyed charts
+			removeDestroyedCharts();
+			boolean sameUpdate = placement != null && placement.isValid(chart);
+			// gets the labels which requested the placement
+			Map<Integer, List<LabelItem>> labels = placement != null ? placement.getRequestedLabels() : new HashMap<>();
+			labels.computeIfAbsent(datasetIndex, mapKey -> new ArrayList<>()).add(label);
+			// the labels of the unknown data sets are guessed only for the first update
+			boolean guess = placement == null || (sameUpdate && placement.isGuessed());
+			// computes the placement
+			DataLabelsPlacement newPlacement = new DataLabelsPlacement(chart, labels, guess ? label : null, spacing, maxShifts);
+			// keeps the labels which already requested the placement during this update
+			if (sameUpdate) {
+				for (Entry<Integer, List<LabelItem>> entry : labels.entrySet()) {
+					for (LabelItem requested : entry.getValue()) {
+						newPlacement.request(requested, entry.getKey());
+					}
+				}
+			}
+			placement = newPlacement;
+			placements.put(chart.getId(), placement);
+		}
+		// stores the label as requester
+		placement.request(label, datasetIndex);
+		return placement;
+	}
+
+	/**
+	 * Removes the placements of the charts which have been destroyed.
+	 */
+	private void removeDestroyedCharts() {
+		// scans all placements
+		Iterator<Entry<String, DataLabelsPlacement>> iterator = placements.entrySet().iterator();
+		while (iterator.hasNext()) {
+			// checks if the chart is still alive
+			if (Charts.get(iterator.next().getKey()) == null) {
+				iterator.remove();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,441 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.datalabels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.Helpers;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.ArrayString;
+import org.pepstock.charba.client.datalabels.enums.Align;
+import org.pepstock.charba.client.datalabels.enums.Anchor;
+import org.pepstock.charba.client.dom.elements.Context2dItem;
+import org.pepstock.charba.client.dom.elements.TextMetricsCache;
+import org.pepstock.charba.client.enums.IndexAxis;
+import org.pepstock.charba.client.items.DatasetItem;
+import org.pepstock.charba.client.items.Undefined;
+import org.pepstock.charba.client.options.IsImmutableFont;
+
+/**
+ * Computes the placement of all labels of a chart, once per update, resolving the overlaps by a spatial hash.<br>
+ * Every data set is measured by its own labels, using their font, padding, anchor, align and offset, and the texts formatted by their formatters.<br>
+ * The labels are placed by priority (labels of active elements first, then by data set and data index) and a label which overlaps with an already placed one is
+ * moved along its alignment direction, by the offset, or hidden when it can not be placed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DataLabelsPlacement {
+
+	// string used to split the lines of a label
+	private static final String NEW_LINE = "\n";
+
+	// chart node when the placement has been computed
+	private final Object node;
+	// labels used to compute the placement, K = data set index, V = labels of the data set
+	private final Map<Integer, List<LabelItem>> labels = new HashMap<>();
+	// labels which requested the placement, K = data set index, V = labels of the data set
+	private final Map<Integer, List<LabelItem>> requestedLabels = new HashMap<>();
+	// display flags by label, data set and data index
+	private final Map<LabelItem, boolean[][]> display = new HashMap<>();
+	// offsets by label, data set and data index
+	private final Map<LabelItem, int[][]> offsets = new HashMap<>();
+	// if the labels of the data sets without any label have been guessed
+	private final boolean guessed;
+	// spatial hash, K = cell key, V = list of placed boxes
+	private final Map<Integer, List<double[]>> cells = new HashMap<>();
+	// size of the cells of the spatial hash
+	private double cellSize = 0D;
+
+	/**
+	 * Computes the placement of the labels of the chart.
+	 * 
+	 * @param chart chart instance
+	 * @param labels labels to place, by data set index
+	 * @param defaultLabel label to use for the data sets without any label. If <code>null</code>, those data sets are ignored
+	 * @param spacing minimum distance between labels, in pixels
+	 * @param maxShifts maximum amount of attempts to move a label which overlaps
+	 */
+	DataLabelsPlacement(IsChart chart, Map<Integer, List<LabelItem>> labels, LabelItem defaultLabel, double spacing, int maxShifts) {
+		this.node = chart.getNode();
+		this.guessed = defaultLabel != null;
+		// gets the amount of data sets
+		int datasetsCount = chart.getData().getDatasets().size();
+		Chart nativeChart = Charts.getNative(chart);
+		Context2dItem ctx = chart.getCanvas().getContext2d();
+		// collects all labels
+		List<double[]> boxes = new ArrayList<>();
+		List<int[]> indexes = new ArrayList<>();
+		List<LabelItem> owners = new ArrayList<>();
+		for (int datasetIndex = 0; datasetIndex < datasetsCount; datasetIndex++) {
+			// gets the labels of the data set
+			List<LabelItem> datasetLabels = labels.get(datasetIndex);
+			if (datasetLabels == null || datasetLabels.isEmpty()) {
+				// checks if the data set must be ignored
+				if (defaultLabel == null) {
+					continue;
+				}
+				datasetLabels = new ArrayList<>();
+				datasetLabels.add(defaultLabel);
+			}
+			this.labels.put(datasetIndex, new ArrayList<>(datasetLabels));
+			// checks if the data set is visible
+			if (nativeChart == null || !chart.isDatasetVisible(datasetIndex)) {
+				for (LabelItem label : datasetLabels) {
+					getDisplay(label, datasetsCount)[datasetIndex] = new boolean[0];
+					getOffsets(label, datasetsCount)[datasetIndex] = new int[0];
+				}
+				continue;
+			}
+			DatasetItem item = chart.getDatasetItem(datasetIndex);
+			int count = item.getElementsCount();
+			// loads the elements positions
+			double[] xs = new double[count];
+			double[] ys = new double[count];
+			double[] bases = new double[count];
+			boolean[] actives = new boolean[count];
+			item.loadElementsX(xs);
+			item.loadElementsY(ys);
+			item.loadElementsBase(bases);
+			item.loadElementsActive(actives);
+			boolean vertical = IndexAxis.X.equals(item.getIndexAxis());
+			for (LabelItem label : datasetLabels) {
+				getDisplay(label, datasetsCount)[datasetIndex] = new boolean[count];
+				getOffsets(label, datasetsCount)[datasetIndex] = new int[count];
+				// gets the texts of the labels, formatted as the plugin does
+				ArrayString texts = JsDataLabelsHelper.get().formatTexts(nativeChart, datasetIndex, label.getFormatterProxy());
+				int textsCount = texts != null ? texts.length() : 0;
+				// gets the font and the sizes of label
+				IsImmutableFont font = Helpers.get().toFont(label.getFont());
+				String fontString = font.toCSSString();
+				Padding padding = label.getPadding();
+				double lineHeight = font.getLineHeight();
+				double verticalPadding = padding.getTop() + padding.getBottom();
+				double horizontalPadding = padding.getLeft() + padding.getRight();
+				for (int dataIndex = 0; dataIndex < count; dataIndex++) {
+					// checks if the element is consistent
+					if (Double.isNaN(xs[dataIndex]) || Double.isNaN(ys[dataIndex])) {
+						continue;
+					}
+					String text = dataIndex < textsCount ? texts.get(dataIndex) : null;
+					// checks if there is a text to show
+					if (text == null || text.isEmpty()) {
+						continue;
+					}
+					// measures all lines of the label
+					String[] lines = text.split(NEW_LINE);
+					double width = 0D;
+					for (String line : lines) {
+						width = Math.max(width, TextMetricsCache.getWidth(ctx, fontString, line));
+					}
+					width = width + horizontalPadding;
+					double height = lineHeight * lines.length + verticalPadding;
+					// box: anchor x, anchor y, width, height, direction x, direction y, align is center (1) or not (0)
+					double[] box = createBox(label, xs[dataIndex], ys[dataIndex], bases[dataIndex], vertical, width, height);
+					boxes.add(box);
+					// priority: active elements first
+					indexes.add(new int[] { datasetIndex, dataIndex, actives[dataIndex] ? 0 : 1 });
+					owners.add(label);
+					cellSize = Math.max(cellSize, Math.max(width, height) + spacing);
+				}
+			}
+		}
+		// sorts the labels by priority
+		// the sort is stable therefore data set and data index orders are kept
+		List<Integer> order = new ArrayList<>(boxes.size());
+		for (int i = 0; i < boxes.size(); i++) {
+			order.add(i);
+		}
+		order.sort((index1, index2) -> Integer.compare(indexes.get(index1)[2], indexes.get(index2)[2]));
+		// places the labels
+		for (Integer index : order) {
+			place(owners.get(index), boxes.get(index), indexes.get(index), spacing, maxShifts);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the placement has been computed for the current update of the chart.
+	 * 
+	 * @param chart chart instance
+	 * @return <code>true</code> if the placement has been computed for the current update of the chart
+	 */
+	boolean isValid(IsChart chart) {
+		return node == chart.getNode();
+	}
+
+	/**
+	 * Returns <code>true</code> if the labels of the data sets without any label have been guessed by a default label.
+	 * 
+	 * @return <code>true</code> if the labels of the data sets without any label have been guessed by a default label
+	 */
+	boolean isGuessed() {
+		return guessed;
+	}
+
+	/**
+	 * Returns <code>true</code> if the label has been used to compute the placement of the data set.
+	 * 
+	 * @param label label options
+	 * @param datasetIndex data set index
+	 * @return <code>true</code> if the label has been used to compute the placement of the data set
+	 */
+	boolean contains(LabelItem label, int datasetIndex) {
+		List<LabelItem> datasetLabels = labels.get(datasetIndex);
+		return datasetLabels != null && datasetLabels.contains(label);
+	}
+
+	/**
+	 * Stores the label as requester of the placement of the data set.
+	 * 
+	 * @param label label options
+	 * @param datasetIndex data set index
+	 */
+	void request(LabelItem label, int datasetIndex) {
+		List<LabelItem> datasetLabels = requestedLabels.computeIfAbsent(datasetIndex, mapKey -> new ArrayList<>());
+		// checks if the label is already stored
+		if (!datasetLabels.contains(label)) {
+			datasetLabels.add(label);
+		}
+	}
+
+	/**
+	 * Returns a copy of the labels which requested the placement, by data set index.
+	 * 
+	 * @return a copy of the labels which requested the placement, by data set index
+	 */
+	Map<Integer, List<LabelItem>> getRequestedLabels() {
+		Map<Integer, List<LabelItem>> result = new HashMap<>();
+		for (Entry<Integer, List<LabelItem>> entry : requestedLabels.entrySet()) {
+			result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns <code>true</code> if the label of the element must be displayed.
+	 * 
+	 * @param label label options
+	 * @param datasetIndex data set index
+	 * @param dataIndex data index
+	 * @return <code>true</code> if the label of the element must be displayed
+	 */
+	boolean isDisplay(LabelItem label, int datasetIndex, int dataIndex) {
+		boolean[][] labelDisplay = display.get(label);
+		// checks if the indexes are in range
+		if (labelDisplay != null && datasetIndex >= 0 && datasetIndex < labelDisplay.length && labelDisplay[datasetIndex] != null && dataIndex >= 0 && dataIndex < labelDisplay[datasetIndex].length) {
+			return labelDisplay[datasetIndex][dataIndex];
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the offset to apply to the label of the element or {@link Undefined#INTEGER} if not computed.
+	 * 
+	 * @param label label options
+	 * @param datasetIndex data set index
+	 * @param dataIndex data index
+	 * @return the offset to apply to the label of the element or {@link Undefined#INTEGER} if not computed
+	 */
+	int getOffset(LabelItem label, int datasetIndex, int dataIndex) {
+		int[][] labelOffsets = offsets.get(label);
+		// checks if the indexes are in range
+		if (labelOffsets != null && datasetIndex >= 0 && datasetIndex < labelOffsets.length && labelOffsets[datasetIndex] != null && dataIndex >= 0 && dataIndex < labelOffsets[datasetIndex].length) {
+			return labelOffsets[datasetIndex][dataIndex];
+		}
+		return Undefined.INTEGER;
+	}
+
+	/**
+	 * Returns the display flags of the label, by data set and data index, creating them if missing.
+	 * 
+	 * @param label label options
+	 * @param datasetsCount amount of data sets
+	 * @return the display flags of the label
+	 */
+	private boolean[][] getDisplay(LabelItem label, int datasetsCount) {
+		return display.computeIfAbsent(label, mapKey -> new boolean[datasetsCount][]);
+	}
+
+	/**
+	 * Returns the offsets of the label, by data set and data index, creating them if missing.
+	 * 
+	 * @param label label options
+	 * @param datasetsCount amount of data sets
+	 * @return the offsets of the label
+	 */
+	private int[][] getOffsets(LabelItem label, int datasetsCount) {
+		return offsets.computeIfAbsent(label, mapKey -> new int[datasetsCount][]);
+	}
+
+	/**
+	 * Creates the box of a label, with the anchor point and the direction where the label is moved by the offset.
+	 * 
+	 * @param label label options
+	 * @param x x coordinate of the element
+	 * @param y y coordinate of the element
+	 * @param base base of the element or {@link Double#NaN}
+	 * @param vertical if the index axis of the data set is X
+	 * @param width width of the label
+	 * @param height height of the label
+	 * @return an array with anchor x, anchor y, width, height, direction x, direction y and if the label is centered (1) or not (0)
+	 */
+	private double[] createBox(LabelItem label, double x, double y, double base, boolean vertical, double width, double height) {
+		boolean hasBase = !Double.isNaN(base);
+		// calculates the anchor point
+		double anchorX = x;
+		double anchorY = y;
+		Anchor anchor = label.getAnchor();
+		if (Anchor.START.equals(anchor) && hasBase) {
+			anchorX = vertical ? x : base;
+			anchorY = vertical ? base : y;
+		} else if (Anchor.CENTER.equals(anchor) && hasBase) {
+			anchorX = vertical ? x : (x + base) / 2D;
+			anchorY = vertical ? (y + base) / 2D : y;
+		}
+		// calculates the direction
+		Align align = label.getAlign();
+		double degrees;
+		if (Align.CENTER.equals(align)) {
+			return new double[] { anchorX, anchorY, width, height, 0D, 0D, 1D };
+		} else if (Align.START.equals(align) || Align.END.equals(align)) {
+			// direction from base to element
+			boolean reverse = hasBase && (vertical ? y > base : x < base);
+			boolean end = Align.END.equals(align) ^ reverse;
+			if (vertical) {
+				degrees = end ? Align.TOP.getDegrees() : Align.BOTTOM.getDegrees();
+			} else {
+				degrees = end ? Align.RIGHT.getDegrees() : Align.LEFT.getDegrees();
+			}
+		} else {
+			degrees = label.getAlignDegrees();
+		}
+		double radians = Math.toRadians(degrees);
+		return new double[] { anchorX, anchorY, width, height, Math.cos(radians), Math.sin(radians), 0D };
+	}
+
+	/**
+	 * Places the label, moving it along its direction until it does not overlap with the labels already placed.
+	 * 
+	 * @param label label options
+	 * @param box box of the label
+	 * @param index data set index and data index of the label
+	 * @param spacing minimum distance between labels
+	 * @param maxShifts maximum amount of attempts to move the label
+	 */
+	private void place(LabelItem label, double[] box, int[] index, double spacing, int maxShifts) {
+		int offset = label.getOffset();
+		boolean[] labelDisplay = display.get(label)[index[0]];
+		int[] labelOffsets = offsets.get(label)[index[0]];
+		double width = box[2];
+		double height = box[3];
+		double directionX = box[4];
+		double directionY = box[5];
+		boolean centered = box[6] > 0D;
+		// distance from the anchor to the center of the label, along the direction
+		double halfExtent = Math.abs(directionX) * width / 2D + Math.abs(directionY) * height / 2D;
+		// step to use to move the label
+		double step = Math.abs(directionX) * width + Math.abs(directionY) * height + spacing;
+		// the centered labels can not be moved
+		int attempts = centered ? 0 : Math.max(0, maxShifts);
+		for (int attempt = 0; attempt <= attempts; attempt++) {
+			int currentOffset = offset + (int) Math.ceil(step * attempt);
+			double distance = centered ? 0D : currentOffset + halfExtent;
+			double left = box[0] + directionX * distance - width / 2D - spacing / 2D;
+			double top = box[1] + directionY * distance - height / 2D - spacing / 2D;
+			double[] rect = new double[] { left, top, left + width + spacing, top + height + spacing };
+			// checks if the label overlaps
+			if (!overlaps(rect)) {
+				insert(rect);
+				labelDisplay[index[1]] = true;
+				labelOffsets[index[1]] = currentOffset;
+				return;
+			}
+		}
+		// if here, the label can not be placed
+		labelDisplay[index[1]] = false;
+		labelOffsets[index[1]] = offset;
+	}
+
+	/**
+	 * Returns <code>true</code> if the rectangle overlaps with a label already placed.
+	 * 
+	 * @param rect rectangle as left, top, right and bottom
+	 * @return <code>true</code> if the rectangle overlaps with a label already placed
+	 */
+	private boolean overlaps(double[] rect) {
+		// scans all cells covered by the rectangle
+		for (int cellX = toCell(rect[0]); cellX <= toCell(rect[2]); cellX++) {
+			for (int cellY = toCell(rect[1]); cellY <= toCell(rect[3]); cellY++) {
+				List<double[]> placed = cells.get(toKey(cellX, cellY));
+				// checks if the cell contains labels
+				if (placed != null) {
+					for (double[] other : placed) {
+						// checks the intersection
+						if (rect[0] < other[2] && other[0] < rect[2] && rect[1] < other[3] && other[1] < rect[3]) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Stores the rectangle in all cells covered by it.
+	 * 
+	 * @param rect rectangle as left, top, right and bottom
+	 */
+	private void insert(double[] rect) {
+		// scans all cells covered by the rectangle
+		for (int cellX = toCell(rect[0]); cellX <= toCell(rect[2]); cellX++) {
+			for (int cellY = toCell(rect[1]); cellY <= toCell(rect[3]); cellY++) {
+				cells.computeIfAbsent(toKey(cellX, cellY), mapKey -> new ArrayList<>()).add(rect);
+			}
+		}
+	}
+
+	/**
+	 * Returns the cell index of the coordinate.
+	 * 
+	 * @param value coordinate
+	 * @return the cell index of the coordinate
+	 */
+	private int toCell(double value) {
+		return (int) Math.floor(value / cellSize);
+	}
+
+	/**
+	 * Returns the key of the cell in the spatial hash.
+	 * 
+	 * @param cellX cell index on x axis
+	 * @param cellY cell index on y axis
+	 * @return the key of the cell
+	 */
+	private static int toKey(int cellX, int cellY) {
+		return (cellX << 16) ^ cellY;
+	}
+
+}
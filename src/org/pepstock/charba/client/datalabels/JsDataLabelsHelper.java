@@ -18,7 +18,11 @@
 */
 package org.pepstock.charba.client.datalabels;
 
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.commons.ArrayString;
+import org.pepstock.charba.client.commons.CallbackProxy;
 import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.datalabels.BatchFormatter.ProxyBatchTextsLoader;
 
 /**
  * Internal utility for {@link DataLabelsPlugin} to register the plugin globally to Chart.js.<br>
@@ -58,4 +62,65 @@ final class JsDataLabelsHelper {
 		NativeJsDataLabelsHelper.register();
 	}
 
+	/**
+	 * Creates a formatter function which reads the labels of a data set from the texts stored in the chart.<br>
+	 * The texts of a data set are loaded by the loader function only when missing.
+	 * 
+	 * @param id unique id of the batch formatter
+	 * @param loader function which loads, stores in the chart and returns the texts of the data set of the context
+	 * @return a formatter function
+	 */
+	CallbackProxy.Proxy newBatchFormatter(int id, ProxyBatchTextsLoader loader) {
+		return NativeJsDataLabelsHelper.newBatchFormatter(id, loader);
+	}
+
+	/**
+	 * Returns the texts of a data set, stored in the chart by a batch formatter, or <code>null</code> if not loaded yet.
+	 * 
+	 * @param chart chart instance
+	 * @param id unique id of the batch formatter
+	 * @param datasetIndex index of the data set
+	 * @return the texts of the data set or <code>null</code> if not loaded yet
+	 */
+	ArrayString getBatchTexts(Chart chart, int id, int datasetIndex) {
+		return NativeJsDataLabelsHelper.getBatchTexts(chart, id, datasetIndex);
+	}
+
+	/**
+	 * Stores the texts of a data set in the chart, for a batch formatter.
+	 * 
+	 * @param chart chart instance
+	 * @param id unique id of the batch formatter
+	 * @param datasetIndex index of the data set
+	 * @param texts the texts of the data set
+	 */
+	void setBatchTexts(Chart chart, int id, int datasetIndex, ArrayString texts) {
+		NativeJsDataLabelsHelper.setBatchTexts(chart, id, datasetIndex, texts);
+	}
+
+	/**
+	 * Returns the texts of the labels of a data set, formatted by the formatter function of a label, as the plugin does.<br>
+	 * If the formatter function is <code>null</code>, the default formatter of the plugin is used.
+	 * 
+	 * @param chart chart instance
+	 * @param datasetIndex index of the data set
+	 * @param formatter formatter function of the label or <code>null</code>
+	 * @return the texts of the labels of the data set, by data index
+	 */
+	ArrayString formatTexts(Chart chart, int datasetIndex, CallbackProxy.Proxy formatter) {
+		return NativeJsDataLabelsHelper.formatTexts(chart, datasetIndex, formatter);
+	}
+
+	/**
+	 * Removes all texts stored in the chart by the batch formatters.
+	 * 
+	 * @param chart chart instance
+	 */
+	void resetBatchTexts(Chart chart) {
+		// checks if the chart is consistent
+		if (chart != null) {
+			NativeJsDataLabelsHelper.resetBatchTexts(chart);
+		}
+	}
+
 }
\ No newline at end of file
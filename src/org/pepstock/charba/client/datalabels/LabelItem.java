@@ -48,9 +48,11 @@ import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.datalabels.callbacks.AlignCallback;
 import org.pepstock.charba.client.datalabels.callbacks.AnchorCallback;
+import org.pepstock.charba.client.datalabels.callbacks.BatchFormatterCallback;
 import org.pepstock.charba.client.datalabels.callbacks.ClampCallback;
 import org.pepstock.charba.client.datalabels.callbacks.ClipCallback;
 import org.pepstock.charba.client.datalabels.callbacks.FormatterCallback;
+import org.pepstock.charba.client.datalabels.callbacks.MultilineBatchFormatterCallback;
 import org.pepstock.charba.client.datalabels.callbacks.OpacityCallback;
 import org.pepstock.charba.client.datalabels.callbacks.TextShadowBlurCallback;
 import org.pepstock.charba.client.datalabels.enums.Align;
@@ -1056,6 +1058,59 @@ public class LabelItem extends AbstractPluginOptions implements IsDefaultDataLab
 		FORMATTER_PROPERTY_HANDLER.setCallback(this, DataLabelsPlugin.ID, formatterCallback, formatterCallbackProxy.getProxy());
 	}
 
+	/**
+	 * Sets the batch formatter callback, invoked once per data set for each update of the chart.<br>
+	 * The result is stored in the chart and the labels are served by a native formatter function, without invoking any java code for each label.
+	 * 
+	 * @param formatterCallback the batch formatter callback to set
+	 */
+	public final void setBatchFormatter(BatchFormatterCallback formatterCallback) {
+		applyBatchFormatter(formatterCallback != null ? new BatchFormatter(this, formatterCallback) : null);
+	}
+
+	/**
+	 * Sets the batch formatter callback by labels on multiple lines, invoked once per data set for each update of the chart.<br>
+	 * The result is stored in the chart and the labels are served by a native formatter function, without invoking any java code for each label.
+	 * 
+	 * @param formatterCallback the batch formatter callback by labels on multiple lines to set
+	 */
+	public final void setMultilineBatchFormatter(MultilineBatchFormatterCallback formatterCallback) {
+		applyBatchFormatter(formatterCallback != null ? new BatchFormatter(this, formatterCallback) : null);
+	}
+
+	/**
+	 * Sets the batch formatter, storing the native formatter function of the batch formatter.
+	 * 
+	 * @param batchFormatter the batch formatter to set
+	 */
+	private void applyBatchFormatter(BatchFormatter batchFormatter) {
+		// checks if the formatter is consistent
+		if (batchFormatter != null) {
+			FORMATTER_PROPERTY_HANDLER.setCallback(this, DataLabelsPlugin.ID, batchFormatter, batchFormatter.getProxy());
+		} else {
+			// resets the formatter
+			setFormatter((FormatterCallback) null);
+		}
+	}
+
+	/**
+	 * Returns the native formatter function which formats the labels as the plugin does or <code>null</code> if the default formatter of the plugin is used.
+	 * 
+	 * @return the native formatter function or <code>null</code> if the default formatter of the plugin is used
+	 */
+	CallbackProxy.Proxy getFormatterProxy() {
+		// gets the formatter, also from the defaults
+		FormatterCallback formatterCallback = getFormatterCallback();
+		// checks if the formatter is a batch formatter
+		if (formatterCallback instanceof BatchFormatter) {
+			return ((BatchFormatter) formatterCallback).getProxy();
+		} else if (formatterCallback != null) {
+			return formatterCallbackProxy.getProxy();
+		}
+		// if here, uses the default formatter of the plugin
+		return null;
+	}
+
 	/**
 	 * Returns the align callback, if set, otherwise <code>null</code>.
 	 * 
@@ -0,0 +1,45 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.datalabels.callbacks;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.data.Dataset;
+import org.pepstock.charba.client.datalabels.DataLabelsPlugin;
+
+/**
+ * Callback interface of {@link DataLabelsPlugin#ID} plugin to set <code>formatter</code> property for a whole data set at once, by labels on multiple lines.<br>
+ * It is invoked once per data set for each update of the chart and the result is used to format all labels of the data set.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface MultilineBatchFormatterCallback {
+
+	/**
+	 * Returns the formatted label values of the data set, by data index, where each item of a label represents a new line.<br>
+	 * If a value is <code>null</code> or missing, the label shows the value without any format.
+	 * 
+	 * @param chart chart instance
+	 * @param dataset data set whose labels must be formatted
+	 * @param datasetIndex index of the data set
+	 * @return the label values to be showed, by data index and line
+	 */
+	String[][] invoke(IsChart chart, Dataset dataset, int datasetIndex);
+
+}
@@ -0,0 +1,119 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.dom.elements;
+
+import org.pepstock.charba.client.commons.BoundedCache;
+import org.pepstock.charba.client.commons.Checker;
+
+/**
+ * Shared cache of the widths of the texts measured on a canvas by {@link Context2dItem#measureText(String)}, by font and text.<br>
+ * Measuring a text is expensive and the labels drawn on the canvas, like the value of meter charts or the labels of the plugins, are measured with the same font
+ * and text at every drawing, therefore the cache measures them only once.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class TextMetricsCache {
+
+	/**
+	 * Name of the cache of text widths, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String CACHE_NAME = "textMetrics";
+
+	/**
+	 * Default maximum amount of text widths stored in the cache, <b>{@value DEFAULT_MAX_ENTRIES}</b>.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 5000;
+
+	// separator between font and text in the key
+	private static final String SEPARATOR = "\u0000";
+	// estimated weight in bytes of a width, adding the key length
+	private static final int WIDTH_WEIGHT = 16;
+	// cache of text widths, by font and text
+	private static final BoundedCache<String, Double> WIDTHS = new BoundedCache<>(CACHE_NAME, DEFAULT_MAX_ENTRIES, BoundedCache.DEFAULT_MAX_BYTES, width -> WIDTH_WEIGHT);
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private TextMetricsCache() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the width of the text using the font currently set to the canvas context.
+	 * 
+	 * @param ctx canvas context to use to measure the text
+	 * @param text text to measure
+	 * @return the width of the text
+	 */
+	public static double getWidth(Context2dItem ctx, String text) {
+		// checks if context is consistent
+		Checker.checkIfValid(ctx, "Context");
+		return getWidth(ctx, ctx.getFont(), text);
+	}
+
+	/**
+	 * Returns the width of the text using the font passed as argument.<br>
+	 * When the text has not been measured yet, the font is set to the canvas context only to measure the text and then the previous font is restored.
+	 * 
+	 * @param ctx canvas context to use to measure the text
+	 * @param font font to use, as CSS string
+	 * @param text text to measure
+	 * @return the width of the text
+	 */
+	public static double getWidth(Context2dItem ctx, String font, String text) {
+		// checks arguments
+		Checker.checkIfValid(ctx, "Context");
+		Checker.checkIfValid(font, "Font");
+		// checks if text is consistent
+		if (text == null || text.isEmpty()) {
+			return 0D;
+		}
+		// creates the key
+		String key = font + SEPARATOR + text;
+		// checks if already measured
+		Double width = WIDTHS.get(key);
+		if (width == null) {
+			// stores the current font
+			String currentFont = ctx.getFont();
+			// checks if the font must be changed
+			boolean changeFont = !font.equals(currentFont);
+			if (changeFont) {
+				ctx.setFont(font);
+			}
+			// measures the text
+			width = ctx.measureText(text).getWidth();
+			// restores the font
+			if (changeFont) {
+				ctx.setFont(currentFont);
+			}
+			// stores the width
+			WIDTHS.put(key, width);
+		}
+		return width;
+	}
+
+	/**
+	 * Removes all text widths from the cache, for instance after loading a web font which was not available when the texts have been measured.
+	 */
+	public static void clear() {
+		WIDTHS.clear();
+	}
+
+}
@@ -19,6 +19,7 @@
 package org.pepstock.charba.client.geo;
 
 import org.pepstock.charba.client.Controller;
+import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.Injector;
 import org.pepstock.charba.client.configuration.AxisType;
 import org.pepstock.charba.client.controllers.AbstractController;
@@ -84,6 +85,9 @@ final class BaseGeoController extends AbstractController {
 			Injector.ensureInjected(RESOURCE);
 			// registers the geo feature elements
 			ChartElementFactories.get().register(GeoFeatureElement.FACTORY);
+			// registers the plugin to simplify the features
+			// if already registered, the registration is ignored
+			Defaults.get().getPlugins().register(FeatureSimplifier.get());
 			// creates and returns an fake controller
 			return new BaseGeoController(controllerType);
 		}
@@ -23,6 +23,7 @@ import java.util.List;
 import org.pepstock.charba.client.commons.AbstractNode;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.ObjectType;
@@ -39,6 +40,10 @@ class CommonOptionsHandler extends AbstractNode {
 
 	// default value of show outline
 	static final boolean DEFAULT_SHOW_LINE = false;
+	// default value of simplify
+	static final boolean DEFAULT_SIMPLIFY = false;
+	// default value of simplification tolerance
+	static final double DEFAULT_SIMPLIFICATION_TOLERANCE = 1D;
 
 	/**
 	 * Name of properties of native object.
@@ -48,7 +53,9 @@ class CommonOptionsHandler extends AbstractNode {
 		OUTLINE("outline"),
 		SHOW_OUTLINE("showOutline"),
 		SHOW_GRATICULE("showGraticule"),
-		CLIP_MAP("clipMap");
+		CLIP_MAP("clipMap"),
+		SIMPLIFY("simplify"),
+		SIMPLIFICATION_TOLERANCE("simplificationTolerance");
 
 		// name value of property
 		private final String value;
@@ -242,4 +249,59 @@ class CommonOptionsHandler extends AbstractNode {
 		// then returns default
 		return ClipMap.FALSE;
 	}
+
+	/**
+	 * Sets <code>true</code> to simplify the geometries of the features, removing the vertices which are not visible at the current projected size.
+	 * 
+	 * @param simplify <code>true</code> to simplify the geometries of the features
+	 */
+	final void setSimplify(boolean simplify) {
+		setValue(Property.SIMPLIFY, simplify);
+	}
+
+	/**
+	 * Returns <code>true</code> to simplify the geometries of the features, removing the vertices which are not visible at the current projected size.
+	 * 
+	 * @return <code>true</code> to simplify the geometries of the features
+	 */
+	final boolean isSimplify() {
+		return getValue(Property.SIMPLIFY, DEFAULT_SIMPLIFY);
+	}
+
+	/**
+	 * Returns <code>true</code> if the simplification of the geometries has been set.
+	 * 
+	 * @return <code>true</code> if the simplification of the geometries has been set
+	 */
+	final boolean hasSimplify() {
+		return has(Property.SIMPLIFY);
+	}
+
+	/**
+	 * Sets the tolerance, in pixels, of the simplification of the geometries.<br>
+	 * A vertex is removed when the area of the triangle formed with its adjacent vertices is less than the square of the tolerance.
+	 * 
+	 * @param tolerance the tolerance, in pixels, of the simplification of the geometries
+	 */
+	final void setSimplificationTolerance(double tolerance) {
+		setValue(Property.SIMPLIFICATION_TOLERANCE, Checker.checkAndGetIfGreaterThan(tolerance, 0D, "Simplification tolerance"));
+	}
+
+	/**
+	 * Returns the tolerance, in pixels, of the simplification of the geometries.
+	 * 
+	 * @return the tolerance, in pixels, of the simplification of the geometries
+	 */
+	final double getSimplificationTolerance() {
+		return getValue(Property.SIMPLIFICATION_TOLERANCE, DEFAULT_SIMPLIFICATION_TOLERANCE);
+	}
+
+	/**
+	 * Returns <code>true</code> if the tolerance of the simplification of the geometries has been set.
+	 * 
+	 * @return <code>true</code> if the tolerance of the simplification of the geometries has been set
+	 */
+	final boolean hasSimplificationTolerance() {
+		return has(Property.SIMPLIFICATION_TOLERANCE);
+	}
 }
\ No newline at end of file
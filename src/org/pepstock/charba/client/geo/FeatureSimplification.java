@@ -0,0 +1,1284 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.geo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import org.pepstock.charba.client.commons.ArrayDouble;
+import org.pepstock.charba.client.commons.ArrayMixedObject;
+import org.pepstock.charba.client.commons.BoundedCache;
+import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.commons.NativeObject;
+import org.pepstock.charba.client.commons.NativeObjectContainer;
+import org.pepstock.charba.client.commons.ObjectType;
+
+/**
+ * Hierarchy of simplified geometries of a feature, computed by <a href="https://bost.ocks.org/mike/simplify/">Visvalingam-Whyatt</a> algorithm.<br>
+ * The effective area of every vertex is computed once, in squared degrees, and the simplified geometries are created, when requested, for a set of levels whose
+ * tolerance is the same for all features: the level <code>n</code> removes all vertices with an effective area less than <code>(360 * 180) / 4<sup>n</sup></code>.<br>
+ * The features which are drawn together are prepared together, in order the borders shared by adjacent features keep the same vertices at the same level: as
+ * TopoJSON does, the lines and rings are split into arcs at the junctions, the vertices where the shared borders start or end, and the effective areas are
+ * computed for every arc, always in the same direction. Then a shared arc gets the same effective areas in all features which are using it.<br>
+ * The junctions and the ends of every line are always kept and every ring keeps at least 4 vertices, in order to remain a valid polygon.<br>
+ * The hierarchies are stored in a cache, by the native feature, then they are computed once for every feature of a {@link TopoJson} and kept across the redraws.<br>
+ * The simplified collections of features are stored in a cache as well, by the native collection and the levels selected for its features, then the same object is
+ * returned until the selected levels change.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class FeatureSimplification {
+
+	/**
+	 * Name of the cache of simplified features, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	static final String CACHE_NAME = "geoSimplifications";
+
+	/**
+	 * Name of the cache of simplified collections of features, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	static final String COLLECTIONS_CACHE_NAME = "geoSimplifiedCollections";
+
+	/**
+	 * Maximum level of detail, <b>{@value MAX_LEVEL}</b>. Greater detail uses the original feature.
+	 */
+	static final int MAX_LEVEL = 20;
+
+	// types of features
+	private static final String FEATURE = "Feature";
+	private static final String FEATURE_COLLECTION = "FeatureCollection";
+	// types of geometries
+	private static final String GEOMETRY_COLLECTION = "GeometryCollection";
+	private static final String LINE_STRING = "LineString";
+	private static final String MULTI_LINE_STRING = "MultiLineString";
+	private static final String POLYGON = "Polygon";
+	private static final String MULTI_POLYGON = "MultiPolygon";
+	// ratio between the tolerance of 2 consecutive levels
+	private static final double LEVEL_RATIO = 4D;
+	// area of the whole globe, in squared degrees, used as tolerance of the level 0
+	private static final double WORLD_AREA = 360D * 180D;
+	// separator of the coordinates in the key of a point
+	private static final char COORDINATES_SEPARATOR = ':';
+	// separator of the neighbors in the key of a vertex
+	private static final char NEIGHBORS_SEPARATOR = '|';
+	// minimum amount of distinct vertices of a valid ring
+	private static final int MIN_RING_VERTICES = 3;
+	// estimated weight in bytes of a vertex
+	private static final int VERTEX_WEIGHT = 16;
+	// estimated weight in bytes of a reference to a simplified feature
+	private static final int REFERENCE_WEIGHT = 8;
+	// maximum amount of simplified collections, by selected levels, kept for a collection
+	private static final int MAX_COLLECTIONS = MAX_LEVEL + 1;
+	// separator of the levels of the features in the key of a simplified collection
+	private static final char LEVEL_SEPARATOR = ',';
+	// delimiters of the levels of a nested collection in the key of a simplified collection
+	private static final char COLLECTION_START = '[';
+	private static final char COLLECTION_END = ']';
+	// cache of hierarchies, by native feature
+	private static final BoundedCache<NativeObject, FeatureSimplification> SIMPLIFICATIONS = new BoundedCache<>(CACHE_NAME, simplification -> Math.max(simplification.vertices, 1) * VERTEX_WEIGHT);
+	// cache of simplified collections, by native collection
+	private static final BoundedCache<NativeObject, SimplifiedCollections> COLLECTIONS = new BoundedCache<>(COLLECTIONS_CACHE_NAME, collections -> Math.max(collections.features, 1) * MAX_COLLECTIONS * REFERENCE_WEIGHT);
+
+	/**
+	 * Name of properties of native object.
+	 */
+	private enum Property implements Key
+	{
+		ID("id"),
+		TYPE("type"),
+		PROPERTIES("properties"),
+		GEOMETRY("geometry"),
+		FEATURES("features"),
+		GEOMETRIES("geometries"),
+		COORDINATES("coordinates");
+
+		// name value of property
+		private final String value;
+
+		/**
+		 * Creates with the property value to use in the native object.
+		 * 
+		 * @param value value of property name
+		 */
+		private Property(String value) {
+			this.value = value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.commons.Key#value()
+		 */
+		@Override
+		public String value() {
+			return value;
+		}
+
+	}
+
+	// original feature
+	private final GeoObject feature;
+	// tree of the geometry of the feature
+	private final Part geometry;
+	// simplified features by level
+	private final NativeObject[] levels = new NativeObject[MAX_LEVEL + 1];
+	// bounding box of the feature, in degrees
+	private double minLongitude = Double.POSITIVE_INFINITY;
+	private double minLatitude = Double.POSITIVE_INFINITY;
+	private double maxLongitude = Double.NEGATIVE_INFINITY;
+	private double maxLatitude = Double.NEGATIVE_INFINITY;
+	// amount of vertices
+	private int vertices = 0;
+
+	/**
+	 * Creates the hierarchy of the feature, computing the effective area of all vertices.
+	 * 
+	 * @param feature native feature
+	 * @param junctions junctions of the features prepared together with this one
+	 */
+	private FeatureSimplification(NativeObject feature, Junctions junctions) {
+		this.feature = new GeoObject(feature);
+		// gets the geometry
+		NativeObject geometryObject = this.feature.getObject(Property.GEOMETRY);
+		this.geometry = geometryObject != null ? createPart(new GeoObject(geometryObject), junctions) : null;
+	}
+
+	/**
+	 * Returns the hierarchy of the feature, computing it only if not already cached.<br>
+	 * When computed here, the junctions are searched only in the feature itself.
+	 * 
+	 * @param feature native feature
+	 * @return the hierarchy of the feature
+	 */
+	static FeatureSimplification get(NativeObject feature) {
+		// gets the cached hierarchy
+		FeatureSimplification simplification = SIMPLIFICATIONS.get(feature);
+		// checks if cached
+		if (simplification == null) {
+			// searches the junctions of the feature
+			Junctions junctions = new Junctions();
+			junctions.scanFeature(new GeoObject(feature));
+			// computes and stores the hierarchy
+			simplification = new FeatureSimplification(feature, junctions);
+			SIMPLIFICATIONS.put(feature, simplification);
+		}
+		return simplification;
+	}
+
+	/**
+	 * Returns the hierarchies of all features of the passed native objects, features or collections of features, which are drawn together.<br>
+	 * The hierarchies which are not cached are computed using the junctions of all features, in order the shared borders keep the same vertices at every level.
+	 * 
+	 * @param objects native objects, features or collections of features, which are drawn together
+	 * @return the hierarchies of all features
+	 */
+	static List<FeatureSimplification> prepare(List<NativeObject> objects) {
+		// collects all features
+		List<NativeObject> features = new ArrayList<>();
+		for (NativeObject object : objects) {
+			collectFeatures(object, features);
+		}
+		List<FeatureSimplification> result = new ArrayList<>(features.size());
+		Junctions junctions = null;
+		// scans all features
+		for (NativeObject feature : features) {
+			// gets the cached hierarchy
+			FeatureSimplification simplification = SIMPLIFICATIONS.get(feature);
+			// checks if cached
+			if (simplification == null) {
+				// searches the junctions of all features only once
+				if (junctions == null) {
+					junctions = new Junctions();
+					for (NativeObject item : features) {
+						junctions.scanFeature(new GeoObject(item));
+					}
+				}
+				// computes and stores the hierarchy
+				simplification = new FeatureSimplification(feature, junctions);
+				SIMPLIFICATIONS.put(feature, simplification);
+			}
+			result.add(simplification);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the simplified native object, a feature or a collection of features, using the level of detail selected for every feature by the passed function.<br>
+	 * A collection of features is created only when the combination of the selected levels has not been used recently, otherwise the same object is returned.<br>
+	 * Any other GeoJSON object is returned as is.
+	 * 
+	 * @param object native object, a feature or a collection of features, to simplify
+	 * @param levelSelector function which returns the level of detail of a feature by its hierarchy
+	 * @return the simplified native object
+	 */
+	static NativeObject simplify(NativeObject object, ToIntFunction<FeatureSimplification> levelSelector) {
+		return simplify(object, levelSelector, new StringBuilder());
+	}
+
+	/**
+	 * Removes all hierarchies and simplified collections from the cache.
+	 */
+	static void clear() {
+		SIMPLIFICATIONS.clear();
+		COLLECTIONS.clear();
+	}
+
+	/**
+	 * Adds the features of the passed native object, a feature or a collection of features, to the list.
+	 * 
+	 * @param object native object, a feature or a collection of features
+	 * @param features list where the features are added
+	 */
+	private static void collectFeatures(NativeObject object, List<NativeObject> features) {
+		GeoObject geoObject = new GeoObject(object);
+		String type = geoObject.getString(Property.TYPE);
+		// checks the type of object
+		if (FEATURE.equals(type)) {
+			features.add(object);
+		} else if (FEATURE_COLLECTION.equals(type)) {
+			ArrayMixedObject array = geoObject.getArray(Property.FEATURES);
+			int size = array != null ? array.length() : 0;
+			// scans all features of the collection
+			for (int i = 0; i < size; i++) {
+				NativeObject child = JsHelper.get().cast(array.get(i));
+				collectFeatures(child, features);
+			}
+		}
+	}
+
+	/**
+	 * Returns the simplified native object, a feature or a collection of features, appending the selected levels to the passed key.
+	 * 
+	 * @param object native object, a feature or a collection of features, to simplify
+	 * @param levelSelector function which returns the level of detail of a feature by its hierarchy
+	 * @param levels key of the levels selected for the features, where the levels of this object are appended
+	 * @return the simplified native object
+	 */
+	private static NativeObject simplify(NativeObject object, ToIntFunction<FeatureSimplification> levelSelector, StringBuilder levels) {
+		GeoObject geoObject = new GeoObject(object);
+		String type = geoObject.getString(Property.TYPE);
+		// checks the type of object
+		if (FEATURE.equals(type)) {
+			FeatureSimplification simplification = get(object);
+			// normalizes the level, in order to have the same key for the same simplified feature
+			int level = simplification.isSimplifiable() ? Math.max(1, Math.min(levelSelector.applyAsInt(simplification), MAX_LEVEL + 1)) : 0;
+			levels.append(level).append(LEVEL_SEPARATOR);
+			return simplification.getFeature(level);
+		} else if (FEATURE_COLLECTION.equals(type)) {
+			ArrayMixedObject array = geoObject.getArray(Property.FEATURES);
+			NativeObject[] features = new NativeObject[array != null ? array.length() : 0];
+			StringBuilder collectionLevels = new StringBuilder();
+			// scans all features of the collection
+			for (int i = 0; i < features.length; i++) {
+				NativeObject child = JsHelper.get().cast(array.get(i));
+				features[i] = simplify(child, levelSelector, collectionLevels);
+			}
+			levels.append(COLLECTION_START).append(collectionLevels).append(COLLECTION_END);
+			// gets the cached simplified collections
+			SimplifiedCollections collections = COLLECTIONS.get(object);
+			// checks if cached
+			if (collections == null) {
+				collections = new SimplifiedCollections(features.length);
+				COLLECTIONS.put(object, collections);
+			}
+			return collections.get(collectionLevels.toString(), type, features);
+		}
+		// if here, the object can not be simplified
+		return object;
+	}
+
+	/**
+	 * Returns <code>true</code> if the feature has got a geometry which can be simplified.
+	 * 
+	 * @return <code>true</code> if the feature has got a geometry which can be simplified
+	 */
+	boolean isSimplifiable() {
+		return geometry != null && vertices > 0 && maxLongitude > minLongitude && maxLatitude > minLatitude;
+	}
+
+	/**
+	 * Returns the minimum longitude of the bounding box of the feature.
+	 * 
+	 * @return the minimum longitude of the bounding box of the feature
+	 */
+	double getMinLongitude() {
+		return minLongitude;
+	}
+
+	/**
+	 * Returns the minimum latitude of the bounding box of the feature.
+	 * 
+	 * @return the minimum latitude of the bounding box of the feature
+	 */
+	double getMinLatitude() {
+		return minLatitude;
+	}
+
+	/**
+	 * Returns the maximum longitude of the bounding box of the feature.
+	 * 
+	 * @return the maximum longitude of the bounding box of the feature
+	 */
+	double getMaxLongitude() {
+		return maxLongitude;
+	}
+
+	/**
+	 * Returns the maximum latitude of the bounding box of the feature.
+	 * 
+	 * @return the maximum latitude of the bounding box of the feature
+	 */
+	double getMaxLatitude() {
+		return maxLatitude;
+	}
+
+	/**
+	 * Returns the level of detail to use in order to remove only the vertices whose effective area is less than the passed one.<br>
+	 * The levels are the same for all features, then the features drawn with the same level keep the same vertices on the shared borders.
+	 * 
+	 * @param area maximum effective area, in squared degrees, of the vertices which can be removed
+	 * @return the level of detail, greater than {@link FeatureSimplification#MAX_LEVEL} if the original feature must be used
+	 */
+	static int getLevel(double area) {
+		// checks if argument is consistent
+		if (!(area > 0)) {
+			return MAX_LEVEL + 1;
+		}
+		// calculates the level as the smallest one
+		// whose tolerance is not greater than the area
+		double level = Math.ceil(Math.log(WORLD_AREA / area) / Math.log(LEVEL_RATIO));
+		return (int) Math.max(1D, Math.min(level, MAX_LEVEL + 1D));
+	}
+
+	/**
+	 * Returns the native feature simplified for the level of detail, creating it only the first time.
+	 * 
+	 * @param level level of detail
+	 * @return the native feature simplified for the level of detail or the original if the level is greater than {@link FeatureSimplification#MAX_LEVEL}
+	 */
+	NativeObject getFeature(int level) {
+		// checks if the original feature must be used
+		if (level > MAX_LEVEL || !isSimplifiable()) {
+			return feature.nativeObject();
+		}
+		// normalizes the level
+		int normLevel = Math.max(1, level);
+		// checks if already created
+		if (levels[normLevel] == null) {
+			// calculates the tolerance of the level
+			double tolerance = WORLD_AREA / Math.pow(LEVEL_RATIO, normLevel);
+			// creates the simplified feature
+			GeoObject simplified = new GeoObject();
+			simplified.setString(Property.TYPE, feature.getString(Property.TYPE));
+			simplified.setObject(Property.PROPERTIES, feature.getObject(Property.PROPERTIES));
+			simplified.copy(Property.ID, feature);
+			simplified.setObject(Property.GEOMETRY, geometry.simplify(tolerance));
+			levels[normLevel] = simplified.nativeObject();
+		}
+		return levels[normLevel];
+	}
+
+	/**
+	 * Creates the tree of the geometry, computing the effective area of all vertices.
+	 * 
+	 * @param geometryObject geometry object
+	 * @param junctions junctions of the features prepared together with this one
+	 * @return the tree of the geometry
+	 */
+	private Part createPart(GeoObject geometryObject, Junctions junctions) {
+		String type = geometryObject.getString(Property.TYPE);
+		// checks the type of geometry
+		if (GEOMETRY_COLLECTION.equals(type)) {
+			// creates all geometries
+			ArrayMixedObject array = geometryObject.getArray(Property.GEOMETRIES);
+			Part[] children = new Part[array != null ? array.length() : 0];
+			for (int i = 0; i < children.length; i++) {
+				NativeObject child = JsHelper.get().cast(array.get(i));
+				children[i] = createPart(new GeoObject(child), junctions);
+			}
+			return new Part(geometryObject, children);
+		}
+		// gets the depth of the coordinates and if rings are closed
+		int depth;
+		boolean closed;
+		if (LINE_STRING.equals(type)) {
+			depth = 1;
+			closed = false;
+		} else if (MULTI_LINE_STRING.equals(type)) {
+			depth = 2;
+			closed = false;
+		} else if (POLYGON.equals(type)) {
+			depth = 2;
+			closed = true;
+		} else if (MULTI_POLYGON.equals(type)) {
+			depth = 3;
+			closed = true;
+		} else {
+			// points are not simplified
+			return new Part(geometryObject, (Coordinates) null);
+		}
+		return new Part(geometryObject, createCoordinates(geometryObject.getArray(Property.COORDINATES), depth, closed, junctions));
+	}
+
+	/**
+	 * Creates the tree of the coordinates, computing the effective area of all vertices of lines and rings.
+	 * 
+	 * @param array array of coordinates
+	 * @param depth depth of the array, 1 for lines and rings
+	 * @param closed <code>true</code> if the lines are closed rings
+	 * @param junctions junctions of the features prepared together with this one
+	 * @return the tree of the coordinates
+	 */
+	private Coordinates createCoordinates(ArrayMixedObject array, int depth, boolean closed, Junctions junctions) {
+		// checks if the array is consistent
+		if (array == null) {
+			return new Coordinates(new ArrayMixedObject(), new Coordinates[0]);
+		}
+		// checks if the array is a line or a ring
+		if (depth == 1) {
+			return new Coordinates(array, computeAreas(array, closed, junctions), closed);
+		}
+		// creates all children
+		Coordinates[] children = new Coordinates[array.length()];
+		for (int i = 0; i < children.length; i++) {
+			ArrayMixedObject child = JsHelper.get().cast(array.get(i));
+			children[i] = createCoordinates(child, depth - 1, closed, junctions);
+		}
+		return new Coordinates(array, children);
+	}
+
+	/**
+	 * Computes the effective area of all vertices of a line or ring, updating the bounding box of the feature.<br>
+	 * The line or ring is split into arcs at the junctions and the effective areas are computed for every arc, keeping the ends of the arcs.
+	 * 
+	 * @param points array of points of the line or ring
+	 * @param closed <code>true</code> if the line is a closed ring
+	 * @param junctions junctions of the features prepared together with this one
+	 * @return the effective area of all vertices
+	 */
+	private double[] computeAreas(ArrayMixedObject points, boolean closed, Junctions junctions) {
+		int size = points.length();
+		double[] xs = new double[size];
+		double[] ys = new double[size];
+		// loads the coordinates
+		for (int i = 0; i < size; i++) {
+			ArrayDouble point = JsHelper.get().cast(points.get(i));
+			xs[i] = point.get(0);
+			ys[i] = point.get(1);
+			minLongitude = Math.min(minLongitude, xs[i]);
+			maxLongitude = Math.max(maxLongitude, xs[i]);
+			minLatitude = Math.min(minLatitude, ys[i]);
+			maxLatitude = Math.max(maxLatitude, ys[i]);
+		}
+		vertices += size;
+		double[] areas = new double[size];
+		// the vertices are kept by default
+		for (int i = 0; i < size; i++) {
+			areas[i] = Double.POSITIVE_INFINITY;
+		}
+		// gets the amount of distinct vertices
+		// because the last vertex of a ring is the first one
+		int distinct = closed ? ringSize(xs, ys) : size;
+		// checks if there is any vertex to remove
+		if (distinct <= (closed ? MIN_RING_VERTICES : 2)) {
+			return areas;
+		}
+		// searches the junctions of the line or ring
+		List<Integer> ends = new ArrayList<>();
+		for (int i = 0; i < distinct; i++) {
+			// the ends of a line are always junctions
+			if ((!closed && (i == 0 || i == distinct - 1)) || junctions.isJunction(xs[i], ys[i])) {
+				ends.add(i);
+			}
+		}
+		// checks if a ring has not got any junction
+		if (ends.isEmpty()) {
+			// uses the smallest point as junction
+			// in order to start from the same point in all features which are using the ring
+			int smallest = 0;
+			for (int i = 1; i < distinct; i++) {
+				if (compare(xs, ys, i, smallest) < 0) {
+					smallest = i;
+				}
+			}
+			ends.add(smallest);
+		}
+		// computes the effective areas of all arcs between 2 consecutive junctions
+		int arcs = closed ? ends.size() : ends.size() - 1;
+		for (int k = 0; k < arcs; k++) {
+			int start = ends.get(k);
+			int end = ends.get((k + 1) % ends.size());
+			// calculates the amount of vertices of the arc, ends included
+			int length = end - start;
+			if (length <= 0) {
+				length += distinct;
+			}
+			int[] arc = new int[length + 1];
+			for (int t = 0; t <= length; t++) {
+				arc[t] = (start + t) % distinct;
+			}
+			computeArcAreas(xs, ys, arc, areas);
+		}
+		// checks if a ring must keep at least 4 vertices
+		if (closed) {
+			keepLargest(areas, distinct, MIN_RING_VERTICES);
+			// the last vertex is the first one
+			for (int i = distinct; i < size; i++) {
+				areas[i] = areas[0];
+			}
+		}
+		return areas;
+	}
+
+	/**
+	 * Returns the amount of distinct vertices of a ring, without the last vertex when it closes the ring.
+	 * 
+	 * @param xs x coordinates of vertices
+	 * @param ys y coordinates of vertices
+	 * @return the amount of distinct vertices of a ring
+	 */
+	private static int ringSize(double[] xs, double[] ys) {
+		int size = xs.length;
+		// checks if the last vertex is the first one
+		if (size > 1 && compare(xs, ys, 0, size - 1) == 0) {
+			return size - 1;
+		}
+		return size;
+	}
+
+	/**
+	 * Computes the effective area of the inner vertices of an arc, which always keeps its ends.<br>
+	 * The arc is scanned in the direction which starts from the smallest end, in order to compute the same areas for the same arc in all features.<br>
+	 * The vertices are removed in order of area, using a min-heap, and the effective area of a vertex is never less than the one of the vertices removed before.
+	 * 
+	 * @param xs x coordinates of all vertices of the line or ring
+	 * @param ys y coordinates of all vertices of the line or ring
+	 * @param arc indexes of the vertices of the arc
+	 * @param areas effective area of all vertices of the line or ring, where the areas of the inner vertices of the arc are stored
+	 */
+	private static void computeArcAreas(double[] xs, double[] ys, int[] arc, double[] areas) {
+		int size = arc.length;
+		// checks if there is any vertex to remove
+		if (size < 3) {
+			return;
+		}
+		// checks the direction of the arc
+		int order = compare(xs, ys, arc[0], arc[size - 1]);
+		boolean reverse = order > 0 || (order == 0 && compare(xs, ys, arc[1], arc[size - 2]) > 0);
+		// loads the vertices of the arc in the direction
+		double[] arcXs = new double[size];
+		double[] arcYs = new double[size];
+		double[] arcAreas = new double[size];
+		for (int t = 0; t < size; t++) {
+			int index = arc[reverse ? size - 1 - t : t];
+			arcXs[t] = xs[index];
+			arcYs[t] = ys[index];
+			arcAreas[t] = Double.POSITIVE_INFINITY;
+		}
+		// double linked list of vertices
+		int[] previous = new int[size];
+		int[] next = new int[size];
+		// min-heap of vertices, with the position of every vertex in the heap
+		MinHeap heap = new MinHeap(arcAreas, size);
+		for (int i = 1; i < size - 1; i++) {
+			previous[i] = i - 1;
+			next[i] = i + 1;
+			arcAreas[i] = triangle(arcXs, arcYs, i - 1, i, i + 1);
+			heap.push(i);
+		}
+		double maxArea = 0D;
+		// removes the vertices in order of area
+		while (!heap.isEmpty()) {
+			int index = heap.pop();
+			// the effective area can not be less than the area
+			// of the vertices removed before
+			if (arcAreas[index] < maxArea) {
+				arcAreas[index] = maxArea;
+			} else {
+				maxArea = arcAreas[index];
+			}
+			int prev = previous[index];
+			int nxt = next[index];
+			next[prev] = nxt;
+			previous[nxt] = prev;
+			// updates the area of the adjacent vertices
+			if (prev > 0) {
+				arcAreas[prev] = triangle(arcXs, arcYs, previous[prev], prev, nxt);
+				heap.update(prev);
+			}
+			if (nxt < size - 1) {
+				arcAreas[nxt] = triangle(arcXs, arcYs, prev, nxt, next[nxt]);
+				heap.update(nxt);
+			}
+		}
+		// stores the areas of the inner vertices
+		for (int t = 1; t < size - 1; t++) {
+			areas[arc[reverse ? size - 1 - t : t]] = arcAreas[t];
+		}
+	}
+
+	/**
+	 * Sets the effective area of the largest vertices to infinity until the passed amount of vertices is kept at every level.
+	 * 
+	 * @param areas effective area of all vertices
+	 * @param size amount of vertices to check, from the first one
+	 * @param amount amount of vertices to keep
+	 */
+	private static void keepLargest(double[] areas, int size, int amount) {
+		// counts the vertices already kept
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (areas[i] == Double.POSITIVE_INFINITY) {
+				kept++;
+			}
+		}
+		for (int k = kept; k < amount; k++) {
+			int largest = -1;
+			// searches the largest finite area
+			for (int i = 0; i < size; i++) {
+				if (areas[i] != Double.POSITIVE_INFINITY && (largest < 0 || areas[i] > areas[largest])) {
+					largest = i;
+				}
+			}
+			// checks if found
+			if (largest >= 0) {
+				areas[largest] = Double.POSITIVE_INFINITY;
+			}
+		}
+	}
+
+	/**
+	 * Compares 2 vertices by longitude and then by latitude.
+	 * 
+	 * @param xs x coordinates of vertices
+	 * @param ys y coordinates of vertices
+	 * @param a index of first vertex
+	 * @param b index of second vertex
+	 * @return a negative integer, zero, or a positive integer as the first vertex is less than, equal to, or greater than the second one
+	 */
+	private static int compare(double[] xs, double[] ys, int a, int b) {
+		int result = Double.compare(xs[a], xs[b]);
+		return result != 0 ? result : Double.compare(ys[a], ys[b]);
+	}
+
+	/**
+	 * Returns the area of the triangle made by 3 vertices.
+	 * 
+	 * @param xs x coordinates of vertices
+	 * @param ys y coordinates of vertices
+	 * @param a index of first vertex
+	 * @param b index of second vertex
+	 * @param c index of third vertex
+	 * @return the area of the triangle
+	 */
+	private static double triangle(double[] xs, double[] ys, int a, int b, int c) {
+		return Math.abs((xs[a] - xs[c]) * (ys[b] - ys[a]) - (xs[a] - xs[b]) * (ys[c] - ys[a])) / 2D;
+	}
+
+	/**
+	 * Node of the tree of a geometry, which is a geometry collection, a geometry with coordinates or a geometry which can not be simplified.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Part {
+
+		private final GeoObject geometry;
+
+		private final Part[] children;
+
+		private final Coordinates coordinates;
+
+		/**
+		 * Creates a geometry collection node.
+		 * 
+		 * @param geometry original geometry
+		 * @param children nodes of geometries of the collection
+		 */
+		private Part(GeoObject geometry, Part[] children) {
+			this.geometry = geometry;
+			this.children = children;
+			this.coordinates = null;
+		}
+
+		/**
+		 * Creates a geometry node with coordinates.
+		 * 
+		 * @param geometry original geometry
+		 * @param coordinates tree of the coordinates, <code>null</code> if the geometry can not be simplified
+		 */
+		private Part(GeoObject geometry, Coordinates coordinates) {
+			this.geometry = geometry;
+			this.children = null;
+			this.coordinates = coordinates;
+		}
+
+		/**
+		 * Creates a new geometry without the vertices whose effective area is less than the tolerance.
+		 * 
+		 * @param tolerance minimum effective area of the vertices to keep
+		 * @return a new native geometry or the original one if it can not be simplified
+		 */
+		private NativeObject simplify(double tolerance) {
+			// checks if collection
+			if (children != null) {
+				ArrayMixedObject geometries = new ArrayMixedObject();
+				for (Part child : children) {
+					geometries.push(child.simplify(tolerance));
+				}
+				GeoObject result = new GeoObject();
+				result.setString(Property.TYPE, geometry.getString(Property.TYPE));
+				result.setArray(Property.GEOMETRIES, geometries);
+				return result.nativeObject();
+			} else if (coordinates != null) {
+				GeoObject result = new GeoObject();
+				result.setString(Property.TYPE, geometry.getString(Property.TYPE));
+				result.setArray(Property.COORDINATES, coordinates.simplify(tolerance));
+				return result.nativeObject();
+			}
+			// if here, the geometry can not be simplified
+			return geometry.nativeObject();
+		}
+	}
+
+	/**
+	 * Node of the tree of coordinates, which is a line or ring with the effective area of the vertices or an array of nodes.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Coordinates {
+
+		private final ArrayMixedObject array;
+
+		private final Coordinates[] children;
+
+		private final double[] areas;
+
+		private final boolean closed;
+
+		/**
+		 * Creates a node with an array of nodes.
+		 * 
+		 * @param array original array of coordinates
+		 * @param children nodes of the array
+		 */
+		private Coordinates(ArrayMixedObject array, Coordinates[] children) {
+			this.array = array;
+			this.children = children;
+			this.areas = null;
+			this.closed = false;
+		}
+
+		/**
+		 * Creates a node of a line or ring.
+		 * 
+		 * @param array original array of points
+		 * @param areas effective area of all vertices
+		 * @param closed <code>true</code> if the line is a closed ring
+		 */
+		private Coordinates(ArrayMixedObject array, double[] areas, boolean closed) {
+			this.array = array;
+			this.children = null;
+			this.areas = areas;
+			this.closed = closed;
+		}
+
+		/**
+		 * Creates a new array of coordinates without the vertices whose effective area is less than the tolerance.<br>
+		 * The points are shared with the original array and a ring is closed again when its first vertex has been removed.
+		 * 
+		 * @param tolerance minimum effective area of the vertices to keep
+		 * @return a new array of coordinates
+		 */
+		private ArrayMixedObject simplify(double tolerance) {
+			ArrayMixedObject result = new ArrayMixedObject();
+			// checks if line or ring
+			if (areas != null) {
+				int first = -1;
+				for (int i = 0; i < areas.length; i++) {
+					// checks if the vertex must be kept
+					if (areas[i] >= tolerance) {
+						result.push(array.get(i));
+						first = first < 0 ? i : first;
+					}
+				}
+				// checks if the ring must be closed again
+				if (closed && first > 0) {
+					result.push(array.get(first));
+				}
+			} else {
+				for (Coordinates child : children) {
+					result.push(child.simplify(tolerance));
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Min-heap of the indexes of vertices, ordered by their area, which can update the position of a vertex when its area changes.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class MinHeap {
+
+		private final double[] areas;
+
+		private final int[] heap;
+
+		private final int[] positions;
+
+		private int size = 0;
+
+		/**
+		 * Creates the heap.
+		 * 
+		 * @param areas areas of the vertices, used to order the heap
+		 * @param capacity maximum amount of vertices
+		 */
+		private MinHeap(double[] areas, int capacity) {
+			this.areas = areas;
+			this.heap = new int[capacity];
+			this.positions = new int[capacity];
+		}
+
+		/**
+		 * Returns <code>true</code> if the heap is empty.
+		 * 
+		 * @return <code>true</code> if the heap is empty
+		 */
+		private boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Adds a vertex to the heap.
+		 * 
+		 * @param index index of the vertex
+		 */
+		private void push(int index) {
+			heap[size] = index;
+			positions[index] = size;
+			size++;
+			up(size - 1);
+		}
+
+		/**
+		 * Removes and returns the vertex with the smallest area.
+		 * 
+		 * @return the index of the vertex with the smallest area
+		 */
+		private int pop() {
+			int result = heap[0];
+			size--;
+			// checks if there are other vertices
+			if (size > 0) {
+				heap[0] = heap[size];
+				positions[heap[0]] = 0;
+				down(0);
+			}
+			positions[result] = -1;
+			return result;
+		}
+
+		/**
+		 * Moves the vertex in the heap after its area has been changed.
+		 * 
+		 * @param index index of the vertex
+		 */
+		private void update(int index) {
+			int position = positions[index];
+			// checks if still in the heap
+			if (position >= 0) {
+				up(position);
+				down(positions[index]);
+			}
+		}
+
+		/**
+		 * Moves up the vertex at the position while its area is less than the parent one.
+		 * 
+		 * @param position position in the heap
+		 */
+		private void up(int position) {
+			int current = position;
+			while (current > 0) {
+				int parent = (current - 1) >> 1;
+				// checks if the order is respected
+				if (areas[heap[current]] >= areas[heap[parent]]) {
+					break;
+				}
+				swap(current, parent);
+				current = parent;
+			}
+		}
+
+		/**
+		 * Moves down the vertex at the position while its area is greater than the children ones.
+		 * 
+		 * @param position position in the heap
+		 */
+		private void down(int position) {
+			int current = position;
+			while (true) {
+				int left = 2 * current + 1;
+				int right = left + 1;
+				int smallest = current;
+				if (left < size && areas[heap[left]] < areas[heap[smallest]]) {
+					smallest = left;
+				}
+				if (right < size && areas[heap[right]] < areas[heap[smallest]]) {
+					smallest = right;
+				}
+				// checks if the order is respected
+				if (smallest == current) {
+					break;
+				}
+				swap(current, smallest);
+				current = smallest;
+			}
+		}
+
+		/**
+		 * Swaps 2 vertices in the heap.
+		 * 
+		 * @param first position of the first vertex
+		 * @param second position of the second vertex
+		 */
+		private void swap(int first, int second) {
+			int index = heap[first];
+			heap[first] = heap[second];
+			heap[second] = index;
+			positions[heap[first]] = first;
+			positions[heap[second]] = second;
+		}
+	}
+
+	/**
+	 * Simplified collections of features of a native collection, by the levels selected for its features, in access order.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class SimplifiedCollections {
+
+		private final int features;
+
+		private final Map<String, NativeObject> collections = new LinkedHashMap<>(16, 0.75F, true);
+
+		/**
+		 * Creates the container for a collection.
+		 * 
+		 * @param features amount of features of the collection
+		 */
+		private SimplifiedCollections(int features) {
+			this.features = features;
+		}
+
+		/**
+		 * Returns the simplified collection for the selected levels, creating it only if not already stored.
+		 * 
+		 * @param levels key of the levels selected for the features
+		 * @param type type of the collection
+		 * @param simplifiedFeatures simplified features of the collection
+		 * @return the simplified collection
+		 */
+		private NativeObject get(String levels, String type, NativeObject[] simplifiedFeatures) {
+			NativeObject collection = collections.get(levels);
+			// checks if already created
+			if (collection == null) {
+				ArrayMixedObject array = new ArrayMixedObject();
+				for (NativeObject feature : simplifiedFeatures) {
+					array.push(feature);
+				}
+				// creates the new collection
+				GeoObject result = new GeoObject();
+				result.setString(Property.TYPE, type);
+				result.setArray(Property.FEATURES, array);
+				collection = result.nativeObject();
+				collections.put(levels, collection);
+				// removes the least recently used collections
+				Iterator<String> iterator = collections.keySet().iterator();
+				while (collections.size() > MAX_COLLECTIONS && iterator.hasNext()) {
+					iterator.next();
+					iterator.remove();
+				}
+			}
+			return collection;
+		}
+	}
+
+	/**
+	 * Junctions of the lines and rings of a set of features, which are the vertices where the shared borders start or end.<br>
+	 * As TopoJSON does, a vertex is a junction when it is the end of a line or when it is used with different neighbors by different lines or rings.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Junctions {
+
+		// neighbors of the vertices, as found the first time
+		// K = key of the point, V = key of the neighbors
+		private final Map<String, String> neighbors = new HashMap<>();
+
+		private final Set<String> junctions = new HashSet<>();
+
+		/**
+		 * Returns <code>true</code> if the point is a junction.
+		 * 
+		 * @param x x coordinate of the point
+		 * @param y y coordinate of the point
+		 * @return <code>true</code> if the point is a junction
+		 */
+		private boolean isJunction(double x, double y) {
+			return junctions.contains(key(x, y));
+		}
+
+		/**
+		 * Scans all lines and rings of the feature, searching the junctions.
+		 * 
+		 * @param feature feature to scan
+		 */
+		private void scanFeature(GeoObject feature) {
+			NativeObject geometryObject = feature.getObject(Property.GEOMETRY);
+			// checks if the geometry is consistent
+			if (geometryObject != null) {
+				scanGeometry(new GeoObject(geometryObject));
+			}
+		}
+
+		/**
+		 * Scans all lines and rings of the geometry, searching the junctions.
+		 * 
+		 * @param geometryObject geometry to scan
+		 */
+		private void scanGeometry(GeoObject geometryObject) {
+			String type = geometryObject.getString(Property.TYPE);
+			// checks the type of geometry
+			if (GEOMETRY_COLLECTION.equals(type)) {
+				ArrayMixedObject array = geometryObject.getArray(Property.GEOMETRIES);
+				int size = array != null ? array.length() : 0;
+				for (int i = 0; i < size; i++) {
+					NativeObject child = JsHelper.get().cast(array.get(i));
+					scanGeometry(new GeoObject(child));
+				}
+			} else if (LINE_STRING.equals(type)) {
+				scanCoordinates(geometryObject.getArray(Property.COORDINATES), 1, false);
+			} else if (MULTI_LINE_STRING.equals(type)) {
+				scanCoordinates(geometryObject.getArray(Property.COORDINATES), 2, false);
+			} else if (POLYGON.equals(type)) {
+				scanCoordinates(geometryObject.getArray(Property.COORDINATES), 2, true);
+			} else if (MULTI_POLYGON.equals(type)) {
+				scanCoordinates(geometryObject.getArray(Property.COORDINATES), 3, true);
+			}
+		}
+
+		/**
+		 * Scans all lines and rings of the coordinates, searching the junctions.
+		 * 
+		 * @param array array of coordinates
+		 * @param depth depth of the array, 1 for lines and rings
+		 * @param closed <code>true</code> if the lines are closed rings
+		 */
+		private void scanCoordinates(ArrayMixedObject array, int depth, boolean closed) {
+			// checks if the array is consistent
+			if (array == null) {
+				return;
+			}
+			// checks if the array is a line or a ring
+			if (depth == 1) {
+				scanLine(array, closed);
+				return;
+			}
+			for (int i = 0; i < array.length(); i++) {
+				ArrayMixedObject child = JsHelper.get().cast(array.get(i));
+				scanCoordinates(child, depth - 1, closed);
+			}
+		}
+
+		/**
+		 * Scans the vertices of a line or ring, storing their neighbors and marking as junctions the vertices already found with different neighbors.
+		 * 
+		 * @param points array of points of the line or ring
+		 * @param closed <code>true</code> if the line is a closed ring
+		 */
+		private void scanLine(ArrayMixedObject points, boolean closed) {
+			int size = points.length();
+			String[] keys = new String[size];
+			double[] xs = new double[size];
+			double[] ys = new double[size];
+			// loads the keys of the points
+			for (int i = 0; i < size; i++) {
+				ArrayDouble point = JsHelper.get().cast(points.get(i));
+				xs[i] = point.get(0);
+				ys[i] = point.get(1);
+				keys[i] = key(xs[i], ys[i]);
+			}
+			// gets the amount of distinct vertices
+			int distinct = closed ? ringSize(xs, ys) : size;
+			for (int i = 0; i < distinct; i++) {
+				// checks if it is the end of a line
+				if (!closed && (i == 0 || i == distinct - 1)) {
+					junctions.add(keys[i]);
+				} else {
+					// gets the neighbors, in the same order for both directions
+					String previous = keys[(i - 1 + distinct) % distinct];
+					String next = keys[(i + 1) % distinct];
+					String pair = previous.compareTo(next) <= 0 ? previous + NEIGHBORS_SEPARATOR + next : next + NEIGHBORS_SEPARATOR + previous;
+					// stores the neighbors, checking if different from the ones found before
+					String found = neighbors.putIfAbsent(keys[i], pair);
+					if (found != null && !found.equals(pair)) {
+						junctions.add(keys[i]);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Returns the key of a point.
+		 * 
+		 * @param x x coordinate of the point
+		 * @param y y coordinate of the point
+		 * @return the key of a point
+		 */
+		private static String key(double x, double y) {
+			return String.valueOf(x) + COORDINATES_SEPARATOR + y;
+		}
+	}
+
+	/**
+	 * Maps a GeoJSON object, a feature or a geometry, in order to read and create them.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class GeoObject extends NativeObjectContainer {
+
+		/**
+		 * Creates an empty object.
+		 */
+		private GeoObject() {
+			super();
+		}
+
+		/**
+		 * Creates the object with native object instance to be wrapped.
+		 * 
+		 * @param nativeObject native object instance to be wrapped.
+		 */
+		private GeoObject(NativeObject nativeObject) {
+			super(nativeObject);
+		}
+
+		/**
+		 * Returns a string property.
+		 * 
+		 * @param key key of the property
+		 * @return the value of the property or <code>null</code> if missing
+		 */
+		private String getString(Key key) {
+			return getValue(key, (String) null);
+		}
+
+		/**
+		 * Sets a string property.
+		 * 
+		 * @param key key of the property
+		 * @param value value of the property
+		 */
+		private void setString(Key key, String value) {
+			setValue(key, value);
+		}
+
+		/**
+		 * Returns an object property.
+		 * 
+		 * @param key key of the property
+		 * @return the value of the property or <code>null</code> if missing
+		 */
+		private NativeObject getObject(Key key) {
+			return getValue(key);
+		}
+
+		/**
+		 * Sets an object property.
+		 * 
+		 * @param key key of the property
+		 * @param value value of the property
+		 */
+		private void setObject(Key key, NativeObject value) {
+			setValue(key, value);
+		}
+
+		/**
+		 * Returns an array property.
+		 * 
+		 * @param key key of the property
+		 * @return the value of the property or <code>null</code> if missing
+		 */
+		private ArrayMixedObject getArray(Key key) {
+			return getArrayValue(key);
+		}
+
+		/**
+		 * Sets an array property.
+		 * 
+		 * @param key key of the property
+		 * @param value value of the property
+		 */
+		private void setArray(Key key, ArrayMixedObject value) {
+			setArrayValue(key, value);
+		}
+
+		/**
+		 * Copies a string or number property from another object, if exists.
+		 * 
+		 * @param key key of the property
+		 * @param source object to copy from
+		 */
+		private void copy(Key key, GeoObject source) {
+			ObjectType type = source.type(key);
+			if (ObjectType.STRING.equals(type)) {
+				setValue(key, source.getValue(key, (String) null));
+			} else if (ObjectType.NUMBER.equals(type)) {
+				setValue(key, source.getValue(key, 0D));
+			}
+		}
+
+		/**
+		 * Returns the native object instance.
+		 * 
+		 * @return the native object instance.
+		 */
+		private NativeObject nativeObject() {
+			return getNativeObject();
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.ArrayDouble;
+import org.pepstock.charba.client.commons.NativeObject;
+import org.pepstock.charba.client.data.Dataset;
+import org.pepstock.charba.client.items.ChartElement;
+import org.pepstock.charba.client.items.DatasetItem;
+import org.pepstock.charba.client.items.PluginDatasetArgument;
+import org.pepstock.charba.client.plugins.SmartPlugin;
+import org.pepstock.charba.client.plugins.hooks.AfterDatasetUpdateHook;
+
+/**
+ * Global plugin which replaces the features drawn by GEO charts with simplified ones, when enabled by {@link HasCommonOptions#setSimplify(boolean)}.<br>
+ * After every update of a dataset, the bounding boxes of the features are projected on the chart in order to select the level of detail by the projected size:
+ * only the vertices whose effective area is less than the square of the tolerance, in pixels, are removed.<br>
+ * The same level is used for all features of a dataset, which are prepared together, in order the borders shared by adjacent features keep the same vertices.<br>
+ * The hierarchy of every feature is computed once by {@link FeatureSimplification} and the data of the chart are not changed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class FeatureSimplifier extends SmartPlugin implements AfterDatasetUpdateHook {
+
+	// plugin ID
+	static final String ID = "charbageofeaturesimplifier";
+	// singleton instance
+	private static final FeatureSimplifier INSTANCE = new FeatureSimplifier();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private FeatureSimplifier() {
+		super(ID);
+		// stores itself as hook handler
+		setAfterDatasetUpdateHook(this);
+	}
+
+	/**
+	 * Singleton method to get static instance.
+	 * 
+	 * @return plugin instance
+	 */
+	static FeatureSimplifier get() {
+		return INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.hooks.AfterDatasetUpdateHook#onAfterDatasetUpdate(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.PluginDatasetArgument)
+	 */
+	@Override
+	public void onAfterDatasetUpdate(IsChart chart, PluginDatasetArgument argument) {
+		// checks if chart is consistent and a GEO chart
+		if (!IsChart.isValid(chart) || !(chart.getOptions() instanceof HasCommonOptions)) {
+			return;
+		}
+		HasCommonOptions options = (HasCommonOptions) chart.getOptions();
+		// gets the dataset options, which override the chart ones
+		HasCommonOptions datasetOptions = getDatasetOptions(chart, argument.getIndex());
+		boolean simplify = datasetOptions != null && datasetOptions.getHandler().hasSimplify() ? datasetOptions.isSimplify() : options.isSimplify();
+		// checks if the simplification is enabled
+		if (!simplify) {
+			return;
+		}
+		double tolerance = datasetOptions != null && datasetOptions.getHandler().hasSimplificationTolerance() ? datasetOptions.getSimplificationTolerance() : options.getSimplificationTolerance();
+		// gets the native chart to project the features
+		Chart nativeChart = Charts.getNative(chart);
+		DatasetItem item = argument.getDatasetItem();
+		// collects the outline and the regions
+		List<GeoFeatureElement> featureElements = new ArrayList<>();
+		ChartElement datasetElement = item.getDatasetElement(GeoFeatureElement.FACTORY);
+		if (datasetElement instanceof GeoFeatureElement) {
+			featureElements.add((GeoFeatureElement) datasetElement);
+		}
+		List<ChartElement> elements = item.getElementsView();
+		for (ChartElement element : elements) {
+			// checks if the element is a feature
+			if (element instanceof GeoFeatureElement) {
+				featureElements.add((GeoFeatureElement) element);
+			}
+		}
+		// collects the features
+		List<NativeObject> features = new ArrayList<>();
+		for (GeoFeatureElement element : featureElements) {
+			NativeObject feature = element.getFeatureObject();
+			// checks if the feature is consistent
+			if (feature != null) {
+				features.add(feature);
+			}
+		}
+		// prepares all features together
+		// and selects the same level for all of them
+		int level = getLevel(nativeChart, FeatureSimplification.prepare(features), tolerance);
+		// simplifies the outline and the regions
+		for (GeoFeatureElement element : featureElements) {
+			simplify(element, level);
+		}
+	}
+
+	/**
+	 * Returns the options of the dataset at the passed index or <code>null</code> if not a GEO dataset.
+	 * 
+	 * @param chart chart instance
+	 * @param index index of the dataset
+	 * @return the options of the dataset or <code>null</code> if not a GEO dataset
+	 */
+	private HasCommonOptions getDatasetOptions(IsChart chart, int index) {
+		List<Dataset> datasets = chart.getData().getDatasets();
+		// checks if index is consistent
+		if (index >= 0 && index < datasets.size() && datasets.get(index) instanceof HasCommonOptions) {
+			HasCommonOptions datasetOptions = (HasCommonOptions) datasets.get(index);
+			// checks if handler is consistent
+			if (datasetOptions.getHandler() != null) {
+				return datasetOptions;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replaces the feature of the element with the simplified one.
+	 * 
+	 * @param element element to simplify
+	 * @param level level of detail of all features of the dataset
+	 */
+	private void simplify(GeoFeatureElement element, int level) {
+		NativeObject feature = element.getFeatureObject();
+		// checks if the feature is consistent
+		if (feature != null) {
+			// sets the simplified feature
+			// which could be the original one when the full detail is needed
+			element.setSimplifiedFeature(FeatureSimplification.simplify(feature, simplification -> level));
+		}
+	}
+
+	/**
+	 * Returns the level of detail of the features of a dataset by the projected size of their bounding boxes.<br>
+	 * The squared pixels of a squared degree are averaged on all features which can be projected, weighted by their area.
+	 * 
+	 * @param chart native chart instance
+	 * @param simplifications hierarchies of the features
+	 * @param tolerance tolerance, in pixels, of the simplification
+	 * @return the level of detail of the features
+	 */
+	private int getLevel(Chart chart, List<FeatureSimplification> simplifications, double tolerance) {
+		double degrees = 0D;
+		double pixels = 0D;
+		// scans all features
+		for (FeatureSimplification simplification : simplifications) {
+			// checks if the feature can be simplified
+			if (simplification.isSimplifiable()) {
+				double projected = getProjectedArea(chart, simplification);
+				// checks if the projection is consistent
+				if (projected > 0) {
+					degrees += (simplification.getMaxLongitude() - simplification.getMinLongitude()) * (simplification.getMaxLatitude() - simplification.getMinLatitude());
+					pixels += projected;
+				}
+			}
+		}
+		// checks if any feature has been projected
+		if (!(pixels > 0)) {
+			return FeatureSimplification.MAX_LEVEL + 1;
+		}
+		// returns the level which removes the vertices
+		// whose projected area is less than the square of the tolerance
+		return FeatureSimplification.getLevel(tolerance * tolerance * degrees / pixels);
+	}
+
+	/**
+	 * Returns the area, in squared pixels, of the projected bounding box of a feature.
+	 * 
+	 * @param chart native chart instance
+	 * @param simplification hierarchy of the feature
+	 * @return the area of the projected bounding box of a feature or {@link Double#NaN} if it can not be projected
+	 */
+	private double getProjectedArea(Chart chart, FeatureSimplification simplification) {
+		// projects the corners of the bounding box
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		double[] latitudes = { simplification.getMinLatitude(), simplification.getMaxLatitude() };
+		double[] longitudes = { simplification.getMinLongitude(), simplification.getMaxLongitude() };
+		for (double latitude : latitudes) {
+			for (double longitude : longitudes) {
+				ArrayDouble point = JsGeoHelper.get().projection(chart, latitude, longitude);
+				// checks if the point can be projected
+				if (point == null || point.length() < 2 || Double.isNaN(point.get(0)) || Double.isNaN(point.get(1))) {
+					return Double.NaN;
+				}
+				minX = Math.min(minX, point.get(0));
+				maxX = Math.max(maxX, point.get(0));
+				minY = Math.min(minY, point.get(1));
+				maxY = Math.max(maxY, point.get(1));
+			}
+		}
+		return (maxX - minX) * (maxY - minY);
+	}
+
+}
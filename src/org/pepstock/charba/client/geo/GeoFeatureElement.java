@@ -49,7 +49,11 @@ public final class GeoFeatureElement extends ChartElement {
 	{
 		FEATURE("feature"),
 		CENTER("center"),
-		PIXEL_RATIO("pixelRatio");
+		PIXEL_RATIO("pixelRatio"),
+		// internal property of the element to store the drawing cache
+		CACHE("cache"),
+		// internal property to store the last simplified feature
+		CHARBA_SIMPLIFIED_FEATURE("charbaSimplifiedFeature");
 
 		// name value of property
 		private final String value;
@@ -120,6 +124,33 @@ public final class GeoFeatureElement extends ChartElement {
 		return feature;
 	}
 
+	/**
+	 * Replaces the feature to draw with a simplified one, which could be the original one when the full detail is needed.<br>
+	 * The drawing cache of the element is removed only if the simplified feature is different from the one set by the previous update, because the feature of the
+	 * element is reset at every update.
+	 * 
+	 * @param simplifiedFeature simplified feature to draw
+	 */
+	void setSimplifiedFeature(NativeObject simplifiedFeature) {
+		// checks if the feature is changed since last update
+		if (simplifiedFeature != getValue(Property.CHARBA_SIMPLIFIED_FEATURE)) {
+			// removes the drawing cache
+			// in order to draw the new feature
+			remove(Property.CACHE);
+			setValue(Property.CHARBA_SIMPLIFIED_FEATURE, simplifiedFeature);
+		}
+		setValue(Property.FEATURE, simplifiedFeature);
+	}
+
+	/**
+	 * Returns the native feature to draw.
+	 * 
+	 * @return the native feature to draw or <code>null</code> if missing
+	 */
+	NativeObject getFeatureObject() {
+		return getValue(Property.FEATURE);
+	}
+
 	/**
 	 * Returns the pixel ratio used by GEO feature element.
 	 * 
@@ -32,7 +32,6 @@ import org.pepstock.charba.client.geo.callbacks.FeatureFilterCallback;
 import org.pepstock.charba.client.geo.callbacks.FeatureFindCallback;
 import org.pepstock.charba.client.geo.callbacks.FeatureLabelCallback;
 import org.pepstock.charba.client.resources.AbstractInjectableResource;
-import org.pepstock.charba.client.utils.JSON;
 import org.pepstock.charba.client.utils.Utilities;
 
 /**
@@ -52,6 +51,11 @@ import org.pepstock.charba.client.utils.Utilities;
  */
 public final class GeoUtil {
 
+	/**
+	 * Name of the cache of parsed topoJson definitions, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String TOPOJSON_CACHE_NAME = "geoTopoJsons";
+
 	// exception pattern when the feature property is not present in topojson objects.
 	private static final String INVALID_FEATURE_PROPERTY = "Features '{0}' property is undefined.\nAvailble properties: {1}.";
 
@@ -67,7 +71,8 @@ public final class GeoUtil {
 	// ---------------------------
 
 	/**
-	 * Creates the {@link TopoJson} object definition from a topoJson text definition.
+	 * Creates the {@link TopoJson} object definition from a topoJson text definition.<br>
+	 * The parsed definition is cached and shared, by the content of the resource, until it is evicted by {@link GeoUtil#evict(AbstractInjectableResource)}.
 	 * 
 	 * @param topojson topoJson definition.
 	 * @return the {@link TopoJson} object definition
@@ -83,7 +88,8 @@ public final class GeoUtil {
 	}
 
 	/**
-	 * Creates the {@link TopoJson} object definition from a topoJson text definition.
+	 * Creates the {@link TopoJson} object definition from a topoJson text definition.<br>
+	 * The parsed definition is cached and shared, by the content, until it is evicted by {@link GeoUtil#evict(String)}.
 	 * 
 	 * @param topojson topoJson definition.
 	 * @return the {@link TopoJson} object definition
@@ -91,13 +97,49 @@ public final class GeoUtil {
 	public static TopoJson createTopoJson(String topojson) {
 		// checks if topojson text is consistent
 		if (isConsistent(topojson)) {
-			return new TopoJson(JSON.parseForObject(topojson));
+			return TopoJsonCache.get(topojson);
 		}
 		// if here, the arguments or the feature parsing are not consistent
 		// then returns an empty object
 		return new TopoJson(null);
 	}
 
+	/**
+	 * Removes the parsed topoJson definition and its features from the cache.
+	 * 
+	 * @param topojson topoJson definition to remove
+	 * @return <code>true</code> if the topoJson definition was cached and has been removed
+	 */
+	public static boolean evict(AbstractInjectableResource topojson) {
+		// checks if topojson is consistent
+		if (topojson != null) {
+			return evict(topojson.getContent());
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the parsed topoJson definition and its features from the cache.
+	 * 
+	 * @param topojson topoJson definition to remove
+	 * @return <code>true</code> if the topoJson definition was cached and has been removed
+	 */
+	public static boolean evict(String topojson) {
+		// checks if topojson text is consistent
+		if (isConsistent(topojson)) {
+			return TopoJsonCache.remove(topojson);
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all parsed topoJson definitions and their features from the cache, including the simplified geometries of the features.
+	 */
+	public static void clearCache() {
+		TopoJsonCache.clear();
+		FeatureSimplification.clear();
+	}
+
 	// ---------------------------
 	// FEATURES
 	// ---------------------------
@@ -211,7 +253,7 @@ public final class GeoUtil {
 	public static List<Feature> features(String topojson, String featureProperty, FeatureFilterCallback filterCallback) {
 		// checks if arguments are consistent
 		if (isConsistent(topojson)) {
-			return features(new TopoJson(JSON.parseForObject(topojson)), featureProperty, filterCallback);
+			return features(TopoJsonCache.get(topojson), featureProperty, filterCallback);
 		}
 		// if here, the arguments or the feature parsing are not consistent
 		// then returns an empty list
@@ -272,14 +314,15 @@ public final class GeoUtil {
 			// checks if the feature is one of the objects
 			Checker.assertCheck(Key.hasKeyByValue(ArrayUtil.toKeys(topojson.objectsKeys()), featureProperty), Utilities.applyTemplate(INVALID_FEATURE_PROPERTY, featureProperty, topojson.objectsKeysAsString()));
 			// gets array of features
-			ArrayObject array = JsGeoHelper.get().features(topojson, featureProperty);
+			// extracted only once by topojson instance
+			ArrayObject array = topojson.features(featureProperty);
 			// checks if result is consistent
 			if (array != null) {
 				// checks if callback must be applied
 				if (filterCallback != null) {
 					return ArrayListHelper.unmodifiableList(array.filter((element, index) -> filterCallback.filter(new Feature(element), index)), Feature.FACTORY);
 				}
-				return ArrayListHelper.unmodifiableList(array, Feature.FACTORY);
+				return topojson.featuresList(featureProperty);
 			}
 		}
 		// if here, the arguments or the feature parsing are not consistent
@@ -356,7 +399,7 @@ public final class GeoUtil {
 	public static Feature feature(String topojson, String featureProperty, FeatureFindCallback findCallback) {
 		// checks if topojson text is consistent
 		if (isConsistent(topojson)) {
-			return feature(new TopoJson(JSON.parseForObject(topojson)), featureProperty, findCallback);
+			return feature(TopoJsonCache.get(topojson), featureProperty, findCallback);
 		}
 		// if here, the arguments or the feature parsing are not consistent
 		// then returns null
@@ -395,7 +438,8 @@ public final class GeoUtil {
 			// checks if the feature is one of the objects
 			Checker.assertCheck(Key.hasKeyByValue(ArrayUtil.toKeys(topojson.objectsKeys()), featureProperty), Utilities.applyTemplate(INVALID_FEATURE_PROPERTY, featureProperty, topojson.objectsKeysAsString()));
 			// gets array of features
-			ArrayObject array = JsGeoHelper.get().features(topojson, featureProperty);
+			// extracted only once by topojson instance
+			ArrayObject array = topojson.features(featureProperty);
 			// finds the feature
 			NativeObject foundObject = array.find((element, index) -> findCallback.find(new Feature(element), index));
 			// checks if the feature has been found
@@ -213,4 +213,64 @@ interface HasCommonOptions {
 	default boolean isClipMap() {
 		return !ClipMap.FALSE.equals(getClipMap());
 	}
+
+	/**
+	 * Sets <code>true</code> to simplify the geometries of the features, removing the vertices which are not visible at the current projected size.<br>
+	 * The simplification is computed once for every feature and the level of detail is selected, at every update, by the projected size of the feature.
+	 * 
+	 * @param simplify <code>true</code> to simplify the geometries of the features
+	 */
+	default void setSimplify(boolean simplify) {
+		// checks if handler is consistent
+		if (getHandler() != null) {
+			// stores value
+			getHandler().setSimplify(simplify);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> to simplify the geometries of the features, removing the vertices which are not visible at the current projected size.
+	 * 
+	 * @return <code>true</code> to simplify the geometries of the features
+	 */
+	default boolean isSimplify() {
+		// checks if handler is consistent
+		if (getHandler() != null) {
+			// returns value
+			return getHandler().isSimplify();
+		}
+		// if here, handler is not consistent
+		// then returns default
+		return CommonOptionsHandler.DEFAULT_SIMPLIFY;
+	}
+
+	/**
+	 * Sets the tolerance, in pixels, of the simplification of the geometries.<br>
+	 * A vertex is removed when the area of the triangle formed with its adjacent vertices is less than the square of the tolerance.
+	 * 
+	 * @param tolerance the tolerance, in pixels, of the simplification of the geometries
+	 */
+	default void setSimplificationTolerance(double tolerance) {
+		// checks if handler is consistent
+		if (getHandler() != null) {
+			// stores value
+			getHandler().setSimplificationTolerance(tolerance);
+		}
+	}
+
+	/**
+	 * Returns the tolerance, in pixels, of the simplification of the geometries.
+	 * 
+	 * @return the tolerance, in pixels, of the simplification of the geometries
+	 */
+	default double getSimplificationTolerance() {
+		// checks if handler is consistent
+		if (getHandler() != null) {
+			// returns value
+			return getHandler().getSimplificationTolerance();
+		}
+		// if here, handler is not consistent
+		// then returns default
+		return CommonOptionsHandler.DEFAULT_SIMPLIFICATION_TOLERANCE;
+	}
 }
\ No newline at end of file
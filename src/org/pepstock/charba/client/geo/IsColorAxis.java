@@ -24,6 +24,7 @@ import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.callbacks.ColorCallback;
 import org.pepstock.charba.client.callbacks.ScaleContext;
 import org.pepstock.charba.client.colors.ColorBuilder;
+import org.pepstock.charba.client.colors.ColorRamp;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.geo.callbacks.InterpolateCallback;
 import org.pepstock.charba.client.geo.callbacks.QuantizeCallback;
@@ -152,6 +153,22 @@ interface IsColorAxis extends IsLegendAxis {
 		return Interpolate.BLUES;
 	}
 
+	/**
+	 * Sets the color interpolation of the scale by a lookup table of colors, which maps the normalized values to the colors without any interpolation at runtime.
+	 * 
+	 * @param colorRamp the lookup table of colors to use for color interpolation of the scale
+	 */
+	default void setInterpolate(ColorRamp colorRamp) {
+		// checks if argument is consistent
+		if (colorRamp != null) {
+			// sets the lookup table as callback
+			setInterpolate((InterpolateCallback) colorRamp::getColorAsString);
+		} else {
+			// resets the callback
+			setInterpolate((InterpolateCallback) null);
+		}
+	}
+
 	/**
 	 * Sets the color interpolation callback of the scale.
 	 * 
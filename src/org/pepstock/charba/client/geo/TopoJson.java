@@ -18,8 +18,12 @@
 */
 package org.pepstock.charba.client.geo;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.pepstock.charba.client.commons.ArrayListHelper;
+import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
@@ -69,6 +73,12 @@ public final class TopoJson extends NativeObjectContainer {
 	private final Objects objects;
 	// objcts properties as string builder
 	private final StringBuilder propertiesAsString = new StringBuilder();
+	// cache of extracted features
+	// K = feature property, V = array of features
+	private final Map<String, ArrayObject> features = new HashMap<>();
+	// cache of lists of extracted features
+	// K = feature property, V = unmodifiable list of features
+	private final Map<String, List<Feature>> featuresLists = new HashMap<>();
 
 	/**
 	 * Creates the object with native object instance to be wrapped.
@@ -113,6 +123,42 @@ public final class TopoJson extends NativeObjectContainer {
 		return propertiesAsString.toString();
 	}
 
+	/**
+	 * Returns the array of features, defined in the <code>objects</code> node by the property, extracting them only the first time.
+	 * 
+	 * @param featureProperty property in the <code>objects</code> node of topoJson definition where all regions are defined
+	 * @return the array of features or <code>null</code> if not consistent
+	 */
+	ArrayObject features(String featureProperty) {
+		// checks if already extracted
+		if (features.containsKey(featureProperty)) {
+			return features.get(featureProperty);
+		}
+		// extracts and stores the features
+		ArrayObject array = JsGeoHelper.get().features(this, featureProperty);
+		features.put(featureProperty, array);
+		return array;
+	}
+
+	/**
+	 * Returns the unmodifiable list of features, defined in the <code>objects</code> node by the property, creating it only the first time.
+	 * 
+	 * @param featureProperty property in the <code>objects</code> node of topoJson definition where all regions are defined
+	 * @return the unmodifiable list of features or <code>null</code> if not consistent
+	 */
+	List<Feature> featuresList(String featureProperty) {
+		// checks if already created
+		if (featuresLists.containsKey(featureProperty)) {
+			return featuresLists.get(featureProperty);
+		}
+		// gets the array of features
+		ArrayObject array = features(featureProperty);
+		// creates and stores the list
+		List<Feature> list = array != null ? ArrayListHelper.unmodifiableList(array, Feature.FACTORY) : null;
+		featuresLists.put(featureProperty, list);
+		return list;
+	}
+
 	/**
 	 * Returns the native object instance.
 	 * 
@@ -0,0 +1,146 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.geo;
+
+import org.pepstock.charba.client.commons.BoundedCache;
+import org.pepstock.charba.client.commons.Constants;
+import org.pepstock.charba.client.utils.JSON;
+
+/**
+ * Cache of the parsed {@link TopoJson} definitions, by the content of the topoJson text definition.<br>
+ * World and country maps are several megabytes and parsing them is expensive, therefore the same definition is parsed once and the {@link TopoJson} instance, with
+ * the features already extracted, is shared.<br>
+ * The key of the cache is made by the length and the hash of the content and the content is compared when found, to avoid any collision.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class TopoJsonCache {
+
+	/**
+	 * Default maximum amount of topoJson definitions stored in the cache, <b>{@value DEFAULT_MAX_ENTRIES}</b>.
+	 */
+	static final int DEFAULT_MAX_ENTRIES = 16;
+
+	/**
+	 * Default maximum amount of estimated bytes of topoJson definitions stored in the cache, <b>{@value DEFAULT_MAX_BYTES}</b> (64 MB).
+	 */
+	static final int DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+	// estimated weight in bytes of every char of the content, for the text and the parsed object
+	private static final int CHAR_WEIGHT = 4;
+	// cache of parsed topojson, by the key of the content
+	private static final BoundedCache<String, CachedTopoJson> TOPOJSONS = new BoundedCache<>(GeoUtil.TOPOJSON_CACHE_NAME, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES, cached -> cached.content.length() * CHAR_WEIGHT);
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private TopoJsonCache() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the {@link TopoJson} object definition of the topoJson text definition, parsing it only if not already cached.
+	 * 
+	 * @param content topoJson text definition, must be consistent
+	 * @return the {@link TopoJson} object definition
+	 */
+	static TopoJson get(String content) {
+		// creates the key
+		String key = key(content);
+		// gets the cached topojson
+		CachedTopoJson cached = TOPOJSONS.get(key);
+		// checks if cached and the content is the same
+		// the instance is checked before comparing the content
+		// because the resources are always returning the same instance
+		if (cached != null && (cached.content == content || cached.content.equals(content))) {
+			return cached.topojson;
+		}
+		// parses the content
+		TopoJson topojson = new TopoJson(JSON.parseForObject(content));
+		// stores into the cache
+		TOPOJSONS.put(key, new CachedTopoJson(content, topojson));
+		return topojson;
+	}
+
+	/**
+	 * Removes the topoJson definition from the cache.
+	 * 
+	 * @param content topoJson text definition to remove, must be consistent
+	 * @return <code>true</code> if the topoJson definition has been removed
+	 */
+	static boolean remove(String content) {
+		// creates the key
+		String key = key(content);
+		// gets the cached topojson without changing the statistics
+		if (TOPOJSONS.containsKey(key)) {
+			CachedTopoJson cached = TOPOJSONS.remove(key);
+			// checks if the content is the same
+			if (cached.content == content || cached.content.equals(content)) {
+				return true;
+			}
+			// if here, the content is different
+			// then stores it again
+			TOPOJSONS.put(key, cached);
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all topoJson definitions from the cache.
+	 */
+	static void clear() {
+		TOPOJSONS.clear();
+	}
+
+	/**
+	 * Creates the key of the cache by the length and the hash of the content.
+	 * 
+	 * @param content topoJson text definition
+	 * @return the key of the cache
+	 */
+	private static String key(String content) {
+		return content.length() + Constants.SLASH + content.hashCode();
+	}
+
+	/**
+	 * Entry of the cache, with the topoJson text definition and the parsed object.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class CachedTopoJson {
+
+		private final String content;
+
+		private final TopoJson topojson;
+
+		/**
+		 * Creates the entry with the topoJson text definition and the parsed object.
+		 * 
+		 * @param content topoJson text definition
+		 * @param topojson parsed object
+		 */
+		private CachedTopoJson(String content, TopoJson topojson) {
+			this.content = content;
+			this.topojson = topojson;
+		}
+
+	}
+}
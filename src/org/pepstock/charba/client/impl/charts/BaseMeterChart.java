@@ -49,6 +49,8 @@ abstract class BaseMeterChart<D extends MeterDataset> extends AbstractChart impl
 	private static final int MAXIMUM_DATASETS_COUNT = 1;
 	// controller instance
 	private BaseMeterController meterController = null;
+	// layout of the labels for the current value
+	private MeterLabelLayout labelLayout = null;
 
 	/**
 	 * Builds the chart.<br>
@@ -86,6 +88,24 @@ abstract class BaseMeterChart<D extends MeterDataset> extends AbstractChart impl
 		return meterController;
 	}
 
+	/**
+	 * Returns the layout of the labels computed for the current value or <code>null</code> if not computed yet.
+	 * 
+	 * @return the layout of the labels computed for the current value
+	 */
+	final MeterLabelLayout getLabelLayout() {
+		return labelLayout;
+	}
+
+	/**
+	 * Sets the layout of the labels computed for the current value or <code>null</code> to reset it.
+	 * 
+	 * @param labelLayout the layout of the labels computed for the current value
+	 */
+	final void setLabelLayout(MeterLabelLayout labelLayout) {
+		this.labelLayout = labelLayout;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
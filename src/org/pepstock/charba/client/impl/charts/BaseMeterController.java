@@ -34,7 +34,7 @@ import org.pepstock.charba.client.controllers.ControllerProvider;
 import org.pepstock.charba.client.controllers.ControllerType;
 import org.pepstock.charba.client.data.Dataset;
 import org.pepstock.charba.client.dom.elements.Context2dItem;
-import org.pepstock.charba.client.dom.elements.TextMetricsItem;
+import org.pepstock.charba.client.dom.elements.TextMetricsCache;
 import org.pepstock.charba.client.dom.enums.TextBaseline;
 import org.pepstock.charba.client.enums.TextAlign;
 import org.pepstock.charba.client.items.ArcElement;
@@ -44,7 +44,6 @@ import org.pepstock.charba.client.items.DatasetItem;
 import org.pepstock.charba.client.items.FontItem;
 import org.pepstock.charba.client.items.Undefined;
 import org.pepstock.charba.client.options.IsFont;
-import org.pepstock.charba.client.options.IsImmutableFont;
 import org.pepstock.charba.client.options.TransitionMode;
 import org.pepstock.charba.client.utils.Utilities;
 
@@ -58,8 +57,6 @@ final class BaseMeterController extends AbstractController {
 
 	// static reference of controller provider for meter charts
 	static final ControllerProvider PROVIDER = new BaseMeterControllerProvier();
-	// default font increment
-	private static final int FONT_SIZE_DECREMENT = 2;
 	// minimum font size
 	private static final int MINIMUM_FONT_SIZE = 8;
 	// default padding
@@ -129,6 +126,12 @@ final class BaseMeterController extends AbstractController {
 		}
 		// sets cutout percentage
 		applyCutoutPercentage(options, chart.getDatasetItem(0));
+		// checks if meter chart
+		if (chart instanceof BaseMeterChart<?>) {
+			// resets the layout of the labels
+			// because options could be changed
+			((BaseMeterChart<?>) chart).setLabelLayout(null);
+		}
 	}
 
 	/*
@@ -208,7 +211,7 @@ final class BaseMeterController extends AbstractController {
 			// gets the data set item of data set 0
 			DatasetItem item = chart.getDatasetItem(0);
 			// gets first element
-			ChartElement element = item.getElements().get(0);
+			ChartElement element = item.getElementsView().get(0);
 			// checks if is an arc element
 			if (element instanceof ArcElement) {
 				// cats to arc element
@@ -228,7 +231,10 @@ final class BaseMeterController extends AbstractController {
 	}
 
 	/**
-	 * Draws the value inside the inner radius of doughnut.
+	 * Draws the value inside the inner radius of doughnut.<br>
+	 * The layout of the labels is computed once for a value of the data set and
+	 * for a size of the chart area, and then reused by the animation frames, which
+	 * only format the displayed value.
 	 * 
 	 * @param chart   chart instance
 	 * @param item    chart item with CHART.JS properties needed to calculate the
@@ -241,7 +247,6 @@ final class BaseMeterController extends AbstractController {
 			double ease) {
 		// gets elements
 		ValueLabel valueLabel = dataset.getValueLabel();
-		DescriptionLabel descriptionLabel = dataset.getDescriptionLabel();
 		// checks if the rendering of the value label is disable
 		if (!valueLabel.isDisplay()) {
 			// do nothing
@@ -252,23 +257,69 @@ final class BaseMeterController extends AbstractController {
 		DatasetItem datasetMetaItem = chart.getDatasetItem(0);
 		// calculate the side of the square where to draw the value
 		final double sideOfSquare = Math.floor((datasetMetaItem.getController().getInnerRadius() * 2) / SQRT_2);
-		// gets canvas context 2d
-		Context2dItem ctx = chart.getCanvas().getContext2d();
 		// gets the chart area of CHART.JS
 		ChartAreaNode area = item.getChartArea();
 		// calculate the center point of the square
 		final double centerX = (area.getRight() - area.getLeft()) / 2D + area.getLeft();
 		final double centerY = (area.getBottom() - area.getTop()) / 2D + area.getTop();
-		final double x = centerX - (sideOfSquare / 2D);
-		final double y = centerY - (sideOfSquare / 2D);
+		// gets the layout of the labels
+		MeterLabelLayout layout = chart.getLabelLayout();
+		// checks if the layout must be computed
+		if (layout == null || !layout.isConsistent(dataset.getValue(), dataset.getMax(), sideOfSquare, centerX, centerY)) {
+			layout = createLabelLayout(chart.getCanvas().getContext2d(), dataset, options, sideOfSquare, centerX, centerY);
+			// stores the layout
+			chart.setLabelLayout(layout);
+		}
+		// gets the value to show
+		final String valueToShow;
+		// checks if the animation is still in progress
+		if (valueLabel.isAnimated() && ease < 1D) {
+			// gets value
+			final double valueToCalculate = valueLabel.isPercentage() ? dataset.getValue() / dataset.getMax()
+					: dataset.getValue();
+			// gets context
+			MeterContext context = options.getContext();
+			// sets data set label
+			context.setDatasetLabel(dataset.getLabel());
+			// here is calculating the value to showed
+			// based on easing of drawing
+			context.setEasing(ease);
+			context.setValue(valueToCalculate * ease);
+			// value to show with format required
+			valueToShow = getFormattedValue(valueLabel, context);
+		} else {
+			// uses the final value
+			valueToShow = layout.getValueToShow();
+		}
+		// draws the labels
+		draw(chart.getCanvas().getContext2d(), layout, valueToShow);
+	}
+
+	/**
+	 * Computes the layout of the labels for the value of the data set, invoking
+	 * the callbacks with the final value.
+	 * 
+	 * @param ctx          canvas context
+	 * @param dataset      the data set instance
+	 * @param options      the chart options
+	 * @param sideOfSquare side of the square where to draw the value
+	 * @param centerX      x coordinate of the center of the square
+	 * @param centerY      y coordinate of the center of the square
+	 * @return the layout of the labels
+	 */
+	private MeterLabelLayout createLabelLayout(Context2dItem ctx, MeterDataset dataset, MeterOptions options,
+			double sideOfSquare, double centerX, double centerY) {
+		// gets elements
+		ValueLabel valueLabel = dataset.getValueLabel();
+		DescriptionLabel descriptionLabel = dataset.getDescriptionLabel();
+		// creates the layout
+		MeterLabelLayout layout = new MeterLabelLayout(dataset.getValue(), dataset.getMax(), sideOfSquare, centerX,
+				centerY);
 		// gets max value
 		final double maxValue = valueLabel.isPercentage() ? MAX_PERCENTAGE : dataset.getMax();
 		// gets value
 		final double valueToCalculate = valueLabel.isPercentage() ? dataset.getValue() / dataset.getMax()
 				: dataset.getValue();
-		// here is calculating the value to showed
-		// based on easing of drawing
-		final double value = valueLabel.isAnimated() ? valueToCalculate * ease : valueToCalculate;
 		// -------------------
 		// CONTEXT
 		// -------------------
@@ -282,27 +333,59 @@ final class BaseMeterController extends AbstractController {
 		context.setValue(maxValue);
 		// gets max value in the string to check font size
 		final String maxValueToShow = getFormattedValue(valueLabel, context);
-		// sets to the right values
-		context.setEasing(ease);
-		context.setValue(value);
+		// sets to the final value
+		context.setValue(valueToCalculate);
 		// -------------------
 		// VALUE LABEL
 		// -------------------
 		// value to show with format required
-		final String valueToShow = getFormattedValue(valueLabel, context);
+		layout.setValueToShow(getFormattedValue(valueLabel, context));
 		// gets font of value
 		final IsFont valueFont = getFont(valueLabel, context);
 		// gets font color of value
 		final String valueFontColor = getColor(valueLabel, AbstractMeterElement.DEFAULT_FONT_COLOR_AS_STRING, context);
+		layout.setValueColor(valueFontColor);
+		// checks if auto font size is set
+		if (valueLabel.isAutoFontSize()) {
+			// calculates the font size
+			calculateFontSize(ctx, sideOfSquare, maxValueToShow, valueFont);
+		}
+		// gets immutable font
+		layout.setValueFont(Helpers.get().toFont(valueFont).toCSSString());
 		// -------------------
 		// DESCRIPTION LABEL
 		// -------------------
 		// gets the description content
 		final String descriptionToShow = getContent(descriptionLabel, context);
-		// gets font of description
-		final IsFont descriptionFont = getFont(descriptionLabel, context);
-		// gets font color of description
-		final String descriptionFontColor = getColor(descriptionLabel, valueFontColor, context);
+		// checks if it must draw also the label
+		if (descriptionLabel.isDisplay() && descriptionToShow != null) {
+			layout.setDescriptionToShow(descriptionToShow);
+			// gets font of description
+			final IsFont descriptionFont = getFont(descriptionLabel, context);
+			// gets font color of description
+			layout.setDescriptionColor(getColor(descriptionLabel, valueFontColor, context));
+			// checks if auto font size is set
+			if (descriptionLabel.isAutoFontSize()) {
+				// re-calculates the font size for description
+				calculateFontSize(ctx, sideOfSquare, descriptionToShow, descriptionFont);
+			}
+			// gets immutable font
+			layout.setDescriptionFont(Helpers.get().toFont(descriptionFont).toCSSString());
+		}
+		return layout;
+	}
+
+	/**
+	 * Draws the labels inside the doughnut, using the layout.
+	 * 
+	 * @param ctx         canvas context
+	 * @param layout      layout of the labels
+	 * @param valueToShow value to show
+	 */
+	private void draw(Context2dItem ctx, MeterLabelLayout layout, String valueToShow) {
+		final double sideOfSquare = layout.getSideOfSquare();
+		final double centerX = layout.getCenterX();
+		final double centerY = layout.getCenterY();
 		// -------------------
 		// START DRAWING
 		// -------------------
@@ -310,27 +393,20 @@ final class BaseMeterController extends AbstractController {
 		ctx.save();
 		// begins path and clip the area
 		ctx.beginPath();
-		ctx.rect(x, y, sideOfSquare, sideOfSquare);
+		ctx.rect(centerX - (sideOfSquare / 2D), centerY - (sideOfSquare / 2D), sideOfSquare, sideOfSquare);
 		// clip area
 		ctx.clip();
-		// checks if auto font size is set
-		if (valueLabel.isAutoFontSize()) {
-			// calculates the font size
-			calculateFontSize(ctx, sideOfSquare, maxValueToShow, valueFont);
-		}
 		// sets alignment
 		ctx.setTextAlign(TextAlign.CENTER);
-		// gets immutable font
-		IsImmutableFont immutableValueFont = Helpers.get().toFont(valueFont);
+		// sets color to canvas
+		ctx.setFillColor(layout.getValueColor());
+		// sets font
+		ctx.setFont(layout.getValueFont());
 		// checks if it must draw also the label
-		if (descriptionLabel.isDisplay() && descriptionToShow != null) {
+		if (layout.getDescriptionToShow() != null) {
 			// -------------------
 			// DRAW VALUE
 			// -------------------
-			// sets color to canvas
-			ctx.setFillColor(valueFontColor);
-			// sets font
-			ctx.setFont(immutableValueFont.toCSSString());
 			// sets alignment from center point
 			ctx.setTextBaseline(TextBaseline.BOTTOM);
 			// draws text
@@ -338,30 +414,19 @@ final class BaseMeterController extends AbstractController {
 			// -------------------
 			// DRAW DESCRIPTION
 			// -------------------
-			// checks if auto font size is set
-			if (descriptionLabel.isAutoFontSize()) {
-				// re-calculates the font size for description
-				calculateFontSize(ctx, sideOfSquare, descriptionToShow, descriptionFont);
-			}
 			// sets color to canvas
-			ctx.setFillColor(descriptionFontColor);
-			// gets immutable font
-			IsImmutableFont immutableLabelFont = Helpers.get().toFont(descriptionFont);
+			ctx.setFillColor(layout.getDescriptionColor());
 			// sets font
-			ctx.setFont(immutableLabelFont.toCSSString());
+			ctx.setFont(layout.getDescriptionFont());
 			// sets alignment from center point
 			ctx.setTextBaseline(TextBaseline.TOP);
 			// draws text
-			ctx.fillText(descriptionToShow, centerX, centerY + PADDING);
+			ctx.fillText(layout.getDescriptionToShow(), centerX, centerY + PADDING);
 		} else {
 			// -------------------
 			// DRAW VALUE
 			// -------------------
 			// if here it must draw ONLY the value
-			// sets color to canvas
-			ctx.setFillColor(valueFontColor);
-			// sets font
-			ctx.setFont(immutableValueFont.toCSSString());
 			// sets alignment from center point
 			ctx.setTextBaseline(TextBaseline.MIDDLE);
 			// draws text
@@ -373,7 +438,9 @@ final class BaseMeterController extends AbstractController {
 
 	/**
 	 * Calculates the font size based on available space in the square in the
-	 * doughnut inner radius.
+	 * doughnut inner radius.<br>
+	 * The biggest font size, between the minimum and the half of the side of
+	 * square, is searched by a binary search, using the cache of the text widths.
 	 * 
 	 * @param ctx          canvas context
 	 * @param sideOfSquare side of square
@@ -382,26 +449,24 @@ final class BaseMeterController extends AbstractController {
 	 */
 	private void calculateFontSize(Context2dItem ctx, double sideOfSquare, String value, IsFont font) {
 		// half of side of square
-		int fontSize = (int) (sideOfSquare / 2);
-		boolean check = true;
+		int low = MINIMUM_FONT_SIZE;
+		int high = Math.max((int) (sideOfSquare / 2), MINIMUM_FONT_SIZE);
 		// loop to calculate the size
-		while (check) {
+		while (low < high) {
+			// gets the middle size, rounding up
+			int fontSize = (low + high + 1) >>> 1;
 			// stores size
 			font.setSize(fontSize);
-			// sets font
-			ctx.setFont(Helpers.get().toFontString(font));
-			// gets metrics
-			TextMetricsItem metrics = ctx.measureText(value);
-			// if the width is inside of side (and padding) or
-			// is the minimum size of font
-			// exit
-			if ((metrics.getWidth() + PADDING * 2D) < sideOfSquare || fontSize <= MINIMUM_FONT_SIZE) {
-				check = false;
+			// if the width is inside of side (and padding)
+			// the size is acceptable
+			if (TextMetricsCache.getWidth(ctx, Helpers.get().toFontString(font), value) + PADDING * 2D < sideOfSquare) {
+				low = fontSize;
 			} else {
-				// decrements the font size
-				fontSize = fontSize - FONT_SIZE_DECREMENT;
+				high = fontSize - 1;
 			}
 		}
+		// stores the calculated size
+		font.setSize(low);
 	}
 
 	/**
@@ -0,0 +1,218 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.impl.charts;
+
+/**
+ * Layout of the labels drawn by meter and gauge charts, computed once for a value of the data set and for a size of the chart area.<br>
+ * The strings, fonts and colors are computed invoking the callbacks with the final value, therefore the animation frames only need to format the displayed value.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class MeterLabelLayout {
+
+	// value of the data set
+	private final double value;
+	// maximum value of the data set
+	private final double max;
+	// side of the square inside the doughnut
+	private final double sideOfSquare;
+	// center of the square
+	private final double centerX;
+	private final double centerY;
+	// value to show when the animation is completed
+	private String valueToShow = null;
+	// font of the value, as CSS string
+	private String valueFont = null;
+	// color of the value
+	private String valueColor = null;
+	// description to show
+	private String descriptionToShow = null;
+	// font of the description, as CSS string
+	private String descriptionFont = null;
+	// color of the description
+	private String descriptionColor = null;
+
+	/**
+	 * Creates the layout for the value and the area passed as arguments.
+	 * 
+	 * @param value value of the data set
+	 * @param max maximum value of the data set
+	 * @param sideOfSquare side of the square inside the doughnut
+	 * @param centerX x coordinate of the center of the square
+	 * @param centerY y coordinate of the center of the square
+	 */
+	MeterLabelLayout(double value, double max, double sideOfSquare, double centerX, double centerY) {
+		this.value = value;
+		this.max = max;
+		this.sideOfSquare = sideOfSquare;
+		this.centerX = centerX;
+		this.centerY = centerY;
+	}
+
+	/**
+	 * Returns <code>true</code> if the layout has been computed for the value and the area passed as arguments.
+	 * 
+	 * @param value value of the data set
+	 * @param max maximum value of the data set
+	 * @param sideOfSquare side of the square inside the doughnut
+	 * @param centerX x coordinate of the center of the square
+	 * @param centerY y coordinate of the center of the square
+	 * @return <code>true</code> if the layout can be reused
+	 */
+	boolean isConsistent(double value, double max, double sideOfSquare, double centerX, double centerY) {
+		return Double.compare(this.value, value) == 0 && Double.compare(this.max, max) == 0 && Double.compare(this.sideOfSquare, sideOfSquare) == 0 && Double.compare(this.centerX, centerX) == 0 && Double.compare(this.centerY, centerY) == 0;
+	}
+
+	/**
+	 * Returns the side of the square inside the doughnut.
+	 * 
+	 * @return the side of the square inside the doughnut
+	 */
+	double getSideOfSquare() {
+		return sideOfSquare;
+	}
+
+	/**
+	 * Returns the x coordinate of the center of the square.
+	 * 
+	 * @return the x coordinate of the center of the square
+	 */
+	double getCenterX() {
+		return centerX;
+	}
+
+	/**
+	 * Returns the y coordinate of the center of the square.
+	 * 
+	 * @return the y coordinate of the center of the square
+	 */
+	double getCenterY() {
+		return centerY;
+	}
+
+	/**
+	 * Returns the value to show when the animation is completed.
+	 * 
+	 * @return the value to show when the animation is completed
+	 */
+	String getValueToShow() {
+		return valueToShow;
+	}
+
+	/**
+	 * Sets the value to show when the animation is completed.
+	 * 
+	 * @param valueToShow the value to show when the animation is completed
+	 */
+	void setValueToShow(String valueToShow) {
+		this.valueToShow = valueToShow;
+	}
+
+	/**
+	 * Returns the font of the value, as CSS string.
+	 * 
+	 * @return the font of the value, as CSS string
+	 */
+	String getValueFont() {
+		return valueFont;
+	}
+
+	/**
+	 * Sets the font of the value, as CSS string.
+	 * 
+	 * @param valueFont the font of the value, as CSS string
+	 */
+	void setValueFont(String valueFont) {
+		this.valueFont = valueFont;
+	}
+
+	/**
+	 * Returns the color of the value.
+	 * 
+	 * @return the color of the value
+	 */
+	String getValueColor() {
+		return valueColor;
+	}
+
+	/**
+	 * Sets the color of the value.
+	 * 
+	 * @param valueColor the color of the value
+	 */
+	void setValueColor(String valueColor) {
+		this.valueColor = valueColor;
+	}
+
+	/**
+	 * Returns the description to show or <code>null</code> if the description must not be drawn.
+	 * 
+	 * @return the description to show or <code>null</code> if the description must not be drawn
+	 */
+	String getDescriptionToShow() {
+		return descriptionToShow;
+	}
+
+	/**
+	 * Sets the description to show or <code>null</code> if the description must not be drawn.
+	 * 
+	 * @param descriptionToShow the description to show or <code>null</code> if the description must not be drawn
+	 */
+	void setDescriptionToShow(String descriptionToShow) {
+		this.descriptionToShow = descriptionToShow;
+	}
+
+	/**
+	 * Returns the font of the description, as CSS string.
+	 * 
+	 * @return the font of the description, as CSS string
+	 */
+	String getDescriptionFont() {
+		return descriptionFont;
+	}
+
+	/**
+	 * Sets the font of the description, as CSS string.
+	 * 
+	 * @param descriptionFont the font of the description, as CSS string
+	 */
+	void setDescriptionFont(String descriptionFont) {
+		this.descriptionFont = descriptionFont;
+	}
+
+	/**
+	 * Returns the color of the description.
+	 * 
+	 * @return the color of the description
+	 */
+	String getDescriptionColor() {
+		return descriptionColor;
+	}
+
+	/**
+	 * Sets the color of the description.
+	 * 
+	 * @param descriptionColor the color of the description
+	 */
+	void setDescriptionColor(String descriptionColor) {
+		this.descriptionColor = descriptionColor;
+	}
+
+}
@@ -124,6 +124,7 @@ final class ChartBackgroundColorPlugin extends SmartPlugin implements BeforeDraw
 			// because chart is destroy
 			// clears the cache of patterns and gradients of the chart
 			ChartBackgroundGradientFactory.get().clear(chart);
+			ChartAreaBackgroundGradientFactory.get().clear(chart);
 		}
 	}
 
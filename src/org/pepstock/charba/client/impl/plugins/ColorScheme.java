@@ -66,4 +66,29 @@ public interface ColorScheme extends Key {
 	 */
 	List<IsColor> getColors();
 
+	/**
+	 * Returns the colors which are composing a color scheme, as array of integer values, as returned by {@link IsColor#toRGBs()}.<br>
+	 * The array is a copy and it can be changed without affecting the color scheme.
+	 * 
+	 * @return the colors which are composing a color scheme, as array of integer values
+	 */
+	default int[] getColorsAsRGBs() {
+		// gets the colors
+		List<IsColor> colors = getColors();
+		// checks if consistent
+		if (ArrayListHelper.isConsistent(colors)) {
+			// creates the result
+			int[] result = new int[colors.size()];
+			// scans all colors
+			int index = 0;
+			for (IsColor color : colors) {
+				result[index] = color.toRGBs();
+				index++;
+			}
+			return result;
+		}
+		// if here, the colors are not consistent
+		return new int[0];
+	}
+
 }
\ No newline at end of file
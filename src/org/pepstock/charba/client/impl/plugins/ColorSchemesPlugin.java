@@ -28,8 +28,9 @@ import org.pepstock.charba.client.Type;
 import org.pepstock.charba.client.callbacks.LegendLabelsCallback;
 import org.pepstock.charba.client.callbacks.TooltipLabelCallback;
 import org.pepstock.charba.client.colors.Color;
+import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.colors.IsColor;
-import org.pepstock.charba.client.commons.ArrayListHelper;
+import org.pepstock.charba.client.commons.BoundedCache;
 import org.pepstock.charba.client.controllers.ControllerType;
 import org.pepstock.charba.client.data.Dataset;
 import org.pepstock.charba.client.data.HoverDataset;
@@ -49,6 +50,11 @@ import org.pepstock.charba.client.items.PluginUpdateArgument;
  */
 final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 
+	// estimated bytes of a reference to a color in the array
+	private static final int COLOR_REFERENCE_BYTES = 8;
+	// cache of the colors to apply to the data of the datasets, shared among the charts
+	// K = packed colors, reverse, alpha and amount of data, V = array of colors for each data
+	private static final BoundedCache<DataColorsKey, IsColor[]> DATA_COLORS = new BoundedCache<>("colorSchemesDataColors", colors -> colors.length * COLOR_REFERENCE_BYTES);
 	// callback instance for legend to solve the issue when the scheme is changed when a chart is already
 	// initialized and legend is not changed
 	private final ColorSchemeLegendLabelsCallback pluginLegendLabelsCallback = new ColorSchemeLegendLabelsCallback();
@@ -132,11 +138,11 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 			ColorScheme scheme = options.getScheme();
 			// if null, skips all logic
 			if (scheme != null) {
-				// gets the list of colors
-				List<IsColor> colors = scheme.getColors();
-				// checks if the list colors is consistent, if not skips the logic
-				if (ArrayListHelper.isConsistent(colors)) {
-					scanDatasets(chart, options, colors);
+				// gets the colors as packed array
+				int[] colors = scheme.getColorsAsRGBs();
+				// checks if the colors are consistent, if not skips the logic
+				if (colors != null && colors.length > 0) {
+					scanDatasets(chart, options, scheme.getColors(), colors);
 				}
 			}
 		}
@@ -191,11 +197,12 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 	 * 
 	 * @param chart chart instance
 	 * @param options color scheme plugin options
-	 * @param colors list of colors of scheme
+	 * @param schemeColors list of colors of scheme, used as they are by lining datasets
+	 * @param colors colors of scheme, as packed integer values
 	 */
-	private void scanDatasets(IsChart chart, ColorSchemesOptions options, List<IsColor> colors) {
+	private void scanDatasets(IsChart chart, ColorSchemesOptions options, List<IsColor> schemeColors, int[] colors) {
 		// gets the amount of colors
-		int amountOfColors = colors.size();
+		int amountOfColors = colors.length;
 		// gets the list of datasets of chart
 		List<Dataset> datasets = chart.getData().getDatasets();
 		// if dataset list is empty, skips the logic
@@ -207,22 +214,24 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 				// get the module for color index
 				int colorIndex = datasetIndex % amountOfColors;
 				// checks if reverse is requested to get the color
-				IsColor color = colors.get(options.isReverse() ? amountOfColors - colorIndex - 1 : colorIndex);
+				int schemeColorIndex = options.isReverse() ? amountOfColors - colorIndex - 1 : colorIndex;
+				int packedColor = colors[schemeColorIndex];
 				// if hoving dataset, like PIE, POLAR, DOUGHNUT
 				if (dataset instanceof HoverDataset) {
 					// casts the dataset
 					HoverDataset hovingDataset = (HoverDataset) dataset;
 					// manages hoving dataset
-					manageHovingDataset(chart, options, hovingDataset, color, colors);
+					manageHovingDataset(chart, options, hovingDataset, packedColor, colors);
 				} else if (dataset instanceof HoverFlexDataset) {
 					// if hoving FLEX dataset, like BAR
 					HoverFlexDataset hovingDataset = (HoverFlexDataset) dataset;
 					// manages hoving flex dataset
-					manageHovingFlexDataset(options, hovingDataset, color, colors);
+					manageHovingFlexDataset(options, hovingDataset, packedColor, colors);
 				} else if (dataset instanceof LiningDataset) {
 					// if lining dataset, like LINE, RADAR, SCATTER
 					LiningDataset liningDataset = (LiningDataset) dataset;
-					manageLiningDataset(options, liningDataset, color);
+					// uses the color of the scheme, keeping its original transparency
+					manageLiningDataset(options, liningDataset, schemeColors.get(schemeColorIndex));
 				}
 				// increments dataset index
 				datasetIndex++;
@@ -236,25 +245,25 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 	 * @param chart chart instance
 	 * @param options color scheme plugin options
 	 * @param hovingDataset hoving dataset instance
-	 * @param color color selected by dataset position
-	 * @param colors list of colors of scheme
+	 * @param color color selected by dataset position, as packed integer value
+	 * @param colors colors of scheme, as packed integer values
 	 */
-	private void manageHovingDataset(IsChart chart, ColorSchemesOptions options, HoverDataset hovingDataset, IsColor color, List<IsColor> colors) {
+	private void manageHovingDataset(IsChart chart, ColorSchemesOptions options, HoverDataset hovingDataset, int color, int[] colors) {
 		// checks if bubble chart because the color will be selected by scheme, as for bar charts
 		if (ChartType.BUBBLE.equals(chart.getBaseType()) && SchemeScope.DATASET.equals(options.getSchemeScope())) {
 			// if here is at dataset level
 			// every dataset has got own color
 			// sets background color (passed as list but it's only 1), applying the transparency
-			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, Arrays.asList(color), options.isReverse(), options.getBackgroundColorAlpha()));
+			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, new int[] { color }, options.isReverse(), options.getBackgroundColorAlpha()));
 			// checks if border has been requested
 			if (!hovingDataset.getBorderWidth().isEmpty()) {
 				// if yes, apply the color (passed as list but it's only 1) to borders properties
-				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, Arrays.asList(color), options.isReverse(), Color.DEFAULT_ALPHA));
+				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, new int[] { color }, options.isReverse(), Color.DEFAULT_ALPHA));
 			}
 			// checks if border has been requested
 			if (!hovingDataset.getBorderWidth().isEmpty()) {
 				// if yes, apply the color (passed as list but it's only 1) to borders properties
-				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, Arrays.asList(color), options.isReverse(), Color.DEFAULT_ALPHA));
+				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, new int[] { color }, options.isReverse(), Color.DEFAULT_ALPHA));
 			}
 		} else {
 			// sets background colors, applying the transparency
@@ -272,10 +281,10 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 	 * 
 	 * @param options color scheme plugin options
 	 * @param hovingDataset hoving flex dataset instance
-	 * @param color color selected by dataset position
-	 * @param colors list of colors of scheme
+	 * @param color color selected by dataset position, as packed integer value
+	 * @param colors colors of scheme, as packed integer values
 	 */
-	private void manageHovingFlexDataset(ColorSchemesOptions options, HoverFlexDataset hovingDataset, IsColor color, List<IsColor> colors) {
+	private void manageHovingFlexDataset(ColorSchemesOptions options, HoverFlexDataset hovingDataset, int color, int[] colors) {
 		// checks if the scope to apply the colors is at data or dataset level
 		if (SchemeScope.DATA.equals(options.getSchemeScope())) {
 			// if here is at data level
@@ -292,7 +301,7 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 			// sets background colors, applying the transparency
 			// uses anyway an indexable value in order to avoid errors on CHART.JS
 			// for rendering
-			List<IsColor> colorsList = Arrays.asList(color.alpha(options.getBackgroundColorAlpha()));
+			int[] colorsList = new int[] { color };
 			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, colorsList, options.isReverse(), options.getBackgroundColorAlpha()));
 			// checks if border has been requested
 			if (ColorSchemesUtil.get().getMaxBorderWidth(hovingDataset) > 0) {
@@ -323,30 +332,119 @@ final class ColorSchemesPlugin extends CharbaPlugin<ColorSchemesOptions> {
 	}
 
 	/**
-	 * Returns an array of colors for each data of dataset.
+	 * Returns an array of colors for each data of dataset.<br>
+	 * The arrays are cached by colors, reverse selection, transparency and amount of data, in order to reuse them at every update.
 	 * 
 	 * @param dataset dataset to update
-	 * @param colors list of colors of scheme
+	 * @param colors colors of scheme, as packed integer values
 	 * @param isReverse if reverse selection is requested
 	 * @param alpha transparency value to apply
 	 * @return an array of colors for each data of dataset
 	 */
-	private IsColor[] getColorsFromData(Dataset dataset, List<IsColor> colors, boolean isReverse, double alpha) {
+	private IsColor[] getColorsFromData(Dataset dataset, int[] colors, boolean isReverse, double alpha) {
 		// gets the amount of colors
-		int amountOfColors = colors.size();
+		int amountOfColors = colors.length;
 		// gets the amount of data
 		int amountOfData = dataset.getDataCount();
+		// creates the key of the cache
+		DataColorsKey key = new DataColorsKey(colors, isReverse, alpha, amountOfData);
+		// checks if the colors are cached
+		IsColor[] colorsToSet = DATA_COLORS.get(key);
+		if (colorsToSet != null) {
+			// returns the cached array
+			return colorsToSet;
+		}
 		// creates an array with the data dimension
-		IsColor[] colorsToSet = new IsColor[amountOfData];
+		colorsToSet = new IsColor[amountOfData];
+		// creates an array with the colors of the scheme, applying the transparency
+		// these colors are created only when used
+		IsColor[] schemeColors = new IsColor[amountOfColors];
 		// scans all data
 		for (int dataIndex = 0; dataIndex < amountOfData; dataIndex++) {
 			// gets the data color index by module with colors size
 			int dataColorIndex = dataIndex % amountOfColors;
+			// gets the color index applying the reverse
+			int colorIndex = isReverse ? amountOfColors - dataColorIndex - 1 : dataColorIndex;
+			// checks if the color has been already created
+			if (schemeColors[colorIndex] == null) {
+				schemeColors[colorIndex] = ColorBuilder.build(colors[colorIndex]).alpha(alpha);
+			}
 			// sets the color got from index
-			colorsToSet[dataIndex] = colors.get(isReverse ? amountOfColors - dataColorIndex - 1 : dataColorIndex).alpha(alpha);
+			colorsToSet[dataIndex] = schemeColors[colorIndex];
 		}
+		// stores the array in the cache
+		DATA_COLORS.put(key, colorsToSet);
 		// returns array
 		return colorsToSet;
 	}
 
-}
\ No newline at end of file
+
+	/**
+	 * Key of the cache of the colors to apply to the data of the datasets, by the packed colors of the scheme, reverse selection, transparency and amount of data.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class DataColorsKey {
+
+		private final int[] colors;
+
+		private final boolean reverse;
+
+		private final double alpha;
+
+		private final int amountOfData;
+
+		private final int hashCode;
+
+		/**
+		 * Creates the key.
+		 * 
+		 * @param colors colors of scheme, as packed integer values
+		 * @param reverse if reverse selection is requested
+		 * @param alpha transparency value to apply
+		 * @param amountOfData amount of data of the dataset
+		 */
+		private DataColorsKey(int[] colors, boolean reverse, double alpha, int amountOfData) {
+			this.colors = colors;
+			this.reverse = reverse;
+			this.alpha = alpha;
+			this.amountOfData = amountOfData;
+			// computes the hash code once
+			int result = Arrays.hashCode(colors);
+			result = 31 * result + Boolean.hashCode(reverse);
+			result = 31 * result + Double.hashCode(alpha);
+			this.hashCode = 31 * result + amountOfData;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			// checks if the same instance
+			if (this == obj) {
+				return true;
+			}
+			// checks if the same class
+			if (!(obj instanceof DataColorsKey)) {
+				return false;
+			}
+			DataColorsKey other = (DataColorsKey) obj;
+			return reverse == other.reverse && amountOfData == other.amountOfData && Double.compare(alpha, other.alpha) == 0 && Arrays.equals(colors, other.colors);
+		}
+	}
+
+}
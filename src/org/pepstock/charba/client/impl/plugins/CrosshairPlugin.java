@@ -36,7 +36,7 @@ import org.pepstock.charba.client.commons.IsPoint;
 import org.pepstock.charba.client.defaults.IsDefaultFont;
 import org.pepstock.charba.client.dom.elements.Canvas;
 import org.pepstock.charba.client.dom.elements.Context2dItem;
-import org.pepstock.charba.client.dom.elements.TextMetricsItem;
+import org.pepstock.charba.client.dom.elements.TextMetricsCache;
 import org.pepstock.charba.client.dom.enums.MouseEventType;
 import org.pepstock.charba.client.dom.enums.TextBaseline;
 import org.pepstock.charba.client.enums.AxisPosition;
@@ -359,7 +359,8 @@ final class CrosshairPlugin extends CharbaPlugin<CrosshairOptions> {
 		IsDefaultFont font = label.getFont();
 		// sets font
 		ctx.setFont(Helpers.get().toFontString(font));
-		TextMetricsItem metrics = ctx.measureText(labelText);
+		// gets the text width from cache
+		final double textWidth = TextMetricsCache.getWidth(ctx, labelText);
 		// gets immutable font
 		IsImmutableFont immutableValueFont = Helpers.get().toFont(font);
 		// calculates positions and sizes for the label drawing
@@ -368,7 +369,6 @@ final class CrosshairPlugin extends CharbaPlugin<CrosshairOptions> {
 		final double minimum = padding + borderWidth;
 		final double halfBorderWidth = borderWidth / 2;
 		final int margin = axis.getGrid().getTickLength() + axis.getTicks().getPadding();
-		final double textWidth = metrics.getWidth();
 		final double halfTextWidth = textWidth / 2;
 		final double maxWidth = canvas.getOffsetWidth() - minimum;
 		final double textHeight = immutableValueFont.getLineHeight();
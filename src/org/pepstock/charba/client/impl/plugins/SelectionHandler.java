@@ -32,7 +32,7 @@ import org.pepstock.charba.client.dom.BaseEventTarget.EventListenerCallback;
 import org.pepstock.charba.client.dom.elements.Canvas;
 import org.pepstock.charba.client.dom.elements.Context2dItem;
 import org.pepstock.charba.client.dom.elements.Img;
-import org.pepstock.charba.client.dom.elements.TextMetricsItem;
+import org.pepstock.charba.client.dom.elements.TextMetricsCache;
 import org.pepstock.charba.client.dom.enums.CursorType;
 import org.pepstock.charba.client.dom.enums.MouseEventType;
 import org.pepstock.charba.client.dom.enums.TextBaseline;
@@ -515,7 +515,7 @@ final class SelectionHandler {
 		ChartNode node = chart.getNode();
 		// gets the scale element of chart
 		// using the X axis id of plugin options
-		return node.getScales().getItems().get(options.getXAxisID().value());
+		return node.getScales().getItem(options.getXAxisID().value());
 	}
 
 	/**
@@ -530,7 +530,7 @@ final class SelectionHandler {
 			ChartNode node = chart.getNode();
 			// gets the scale element of chart
 			// using the X axis id of plugin options
-			return node.getScales().getItems().get(options.getYAxisID().value());
+			return node.getScales().getItem(options.getYAxisID().value());
 		}
 		// if here, y scale not consistent
 		// then returns null
@@ -731,10 +731,8 @@ final class SelectionHandler {
 		ctx.save();
 		// sets font
 		ctx.setFont(Helpers.get().toFontString(selectionCleaner.getFont()));
-		// gets metrics
-		TextMetricsItem metrics = ctx.measureText(selectionCleaner.getLabel());
-		// stores the label width
-		double labelWidth = metrics.getWidth();
+		// gets and stores the label width from cache
+		double labelWidth = TextMetricsCache.getWidth(ctx, selectionCleaner.getLabel());
 		ctx.restore();
 		// -----
 		// calculate width
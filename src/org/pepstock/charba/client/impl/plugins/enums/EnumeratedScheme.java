@@ -18,8 +18,9 @@
 */
 package org.pepstock.charba.client.impl.plugins.enums;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.pepstock.charba.client.colors.ColorBuilder;
@@ -27,7 +28,8 @@ import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.impl.plugins.ColorScheme;
 
 /**
- * Internal class to manage color scheme as enumeration.
+ * Internal class to manage color scheme as enumeration.<br>
+ * The colors are stored as array of integer values, as returned by {@link IsColor#toRGBs()}, to have a random access and a packed representation.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -40,7 +42,11 @@ final class EnumeratedScheme implements ColorScheme {
 
 	private final String[] colorsAsStrings;
 
-	private final List<IsColor> colors = new LinkedList<>();
+	// packed colors, created at first usage
+	private int[] rgbs = null;
+
+	// colors, created at first usage
+	private List<IsColor> colors = null;
 
 	/**
 	 * Builds the color scheme using all arguments
@@ -74,10 +80,10 @@ final class EnumeratedScheme implements ColorScheme {
 	 */
 	void addAll(List<IsColor> newColors) {
 		// checks if colors is already filled
-		if (colors.isEmpty()) {
+		if (colors == null && newColors != null) {
 			// adds colors ONLY if the list is empty
 			// therefore only once
-			colors.addAll(newColors);
+			colors = Collections.unmodifiableList(new ArrayList<>(newColors));
 		}
 	}
 
@@ -109,17 +115,39 @@ final class EnumeratedScheme implements ColorScheme {
 	@Override
 	public List<IsColor> getColors() {
 		// checks if colors is already filled
-		if (colors.isEmpty() && colorsAsStrings != null) {
-			// adds colors ONLY if the list is empty
-			// therefore only once
+		if (colors == null) {
+			// checks if there are colors as string
+			if (colorsAsStrings == null) {
+				// if here, there is not any color
+				return Collections.emptyList();
+			}
+			// creates colors ONLY once
+			List<IsColor> result = new ArrayList<>(colorsAsStrings.length);
 			// scans all hex colors and creates ISCOLOR
 			for (String color : colorsAsStrings) {
 				// and adds them in the list
-				colors.add(ColorBuilder.parse(color));
+				result.add(ColorBuilder.parse(color));
 			}
+			// stores an unmodifiable list
+			colors = Collections.unmodifiableList(result);
+		}
+		return colors;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.impl.plugins.ColorScheme#getColorsAsRGBs()
+	 */
+	@Override
+	public int[] getColorsAsRGBs() {
+		// checks if packed colors is already filled
+		if (rgbs == null) {
+			// creates packed colors ONLY once
+			rgbs = ColorScheme.super.getColorsAsRGBs();
 		}
-		// returns an unmodifiable list
-		return Collections.unmodifiableList(colors);
+		// returns a copy
+		return Arrays.copyOf(rgbs, rgbs.length);
 	}
 
-}
\ No newline at end of file
+}
@@ -87,6 +87,22 @@ interface IsEnumeratedScheme extends ColorScheme {
 		return Collections.emptyList();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.impl.plugins.ColorScheme#getColorsAsRGBs()
+	 */
+	@Override
+	default int[] getColorsAsRGBs() {
+		// checks if scheme is consistent
+		if (getScheme() != null) {
+			return getScheme().getColorsAsRGBs();
+		}
+		// if here scheme is not consistent
+		// then returns an empty array
+		return new int[0];
+	}
+
 	/**
 	 * Creates a LINEAR gradient, with <code>topDown</code> orientation and <code>chart</code> scope.
 	 * 
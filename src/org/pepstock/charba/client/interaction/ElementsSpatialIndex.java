@@ -0,0 +1,538 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.interaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.pepstock.charba.client.ChartNode;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.commons.IsPoint;
+import org.pepstock.charba.client.items.ChartElement;
+import org.pepstock.charba.client.items.DatasetItem;
+import org.pepstock.charba.client.items.InteractionItem;
+
+/**
+ * Spatial index of the elements of a chart, to use to implement custom interaction modes without scanning all elements of all datasets at every event.<br>
+ * The elements of the visible datasets are stored, by their final center point, into a uniform grid which is rebuilt lazily, at the first query after an update of the
+ * chart.<br>
+ * The index is maintained by {@link Interactions#getSpatialIndex(IsChart)} and released when the chart is destroyed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ElementsSpatialIndex {
+
+	/**
+	 * Amount of elements that the grid tries to store in every cell, <b>{@value AMOUNT_OF_ELEMENTS_PER_CELL}</b>.
+	 */
+	public static final int AMOUNT_OF_ELEMENTS_PER_CELL = 4;
+	/**
+	 * Maximum amount of cells for each dimension of the grid, <b>{@value MAXIMUM_CELLS_PER_SIDE}</b>.
+	 */
+	public static final int MAXIMUM_CELLS_PER_SIDE = 256;
+	// empty array for empty index
+	private static final int[] EMPTY = new int[0];
+	// chart instance
+	private final IsChart chart;
+	// chart node used to build the index
+	// used to check if the chart has been updated
+	private ChartNode indexedNode = null;
+	// amount of indexed elements
+	private int size = 0;
+	// coordinates of the elements
+	private double[] xs = new double[0];
+	private double[] ys = new double[0];
+	// indexes of the elements
+	private int[] datasetIndexes = EMPTY;
+	private int[] dataIndexes = EMPTY;
+	// elements instances
+	private ChartElement[] elements = new ChartElement[0];
+	// grid
+	private double minX = 0D;
+	private double minY = 0D;
+	private double cellWidth = 1D;
+	private double cellHeight = 1D;
+	private int columns = 1;
+	private int rows = 1;
+	// start index in cell items of every cell, with an additional item at the end
+	private int[] cellStarts = new int[] { 0, 0 };
+	// element indexes sorted by cell
+	private int[] cellItems = EMPTY;
+
+	/**
+	 * Creates the index for the chart passed as argument.
+	 * 
+	 * @param chart chart instance
+	 */
+	ElementsSpatialIndex(IsChart chart) {
+		this.chart = IsChart.checkAndGetIfValid(chart);
+	}
+
+	/**
+	 * Returns the chart instance of the index.
+	 * 
+	 * @return the chart instance of the index
+	 */
+	public IsChart getChart() {
+		return chart;
+	}
+
+	/**
+	 * Returns the amount of elements stored into the index.
+	 * 
+	 * @return the amount of elements stored into the index
+	 */
+	public int size() {
+		checkIndex();
+		return size;
+	}
+
+	/**
+	 * Forces the rebuild of the index at the next query.
+	 */
+	public void invalidate() {
+		indexedNode = null;
+	}
+
+	/**
+	 * Returns the elements nearest to the point passed as argument.<br>
+	 * If more elements have got the same distance, all of them are returned.
+	 * 
+	 * @param x x coordinate of the point in pixel
+	 * @param y y coordinate of the point in pixel
+	 * @return the elements nearest to the point or an empty list if the index is empty
+	 */
+	public List<InteractionItem> getNearestItems(double x, double y) {
+		return getNearestItems(x, y, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the elements nearest to the point passed as argument, within the maximum distance.<br>
+	 * If more elements have got the same distance, all of them are returned.
+	 * 
+	 * @param x x coordinate of the point in pixel
+	 * @param y y coordinate of the point in pixel
+	 * @param maxDistance maximum distance in pixel from the point
+	 * @return the elements nearest to the point or an empty list if no element is within the maximum distance
+	 */
+	public List<InteractionItem> getNearestItems(double x, double y, double maxDistance) {
+		// checks arguments
+		checkCoordinates(x, y);
+		Checker.assertCheck(!Double.isNaN(maxDistance) && maxDistance >= 0, "Maximum distance argument is not consistent");
+		// checks if the index must be rebuilt
+		checkIndex();
+		// checks if empty
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		// gets the cell of the point
+		// clamped into the grid
+		int column = clamp(getColumn(x), columns);
+		int row = clamp(getRow(y), rows);
+		// uses squared distances to avoid square roots
+		double maxSquaredDistance = maxDistance * maxDistance;
+		double bestSquaredDistance = Double.POSITIVE_INFINITY;
+		List<Integer> best = new ArrayList<>();
+		// the minimum size of the cell is used to know
+		// when the next ring can not contain nearer elements
+		double cellSize = Math.min(cellWidth, cellHeight);
+		int maxRing = Math.max(columns, rows);
+		// scans the rings of cells around the cell of the point
+		for (int ring = 0; ring <= maxRing; ring++) {
+			for (int r = row - ring; r <= row + ring; r++) {
+				// checks if the row is inside the grid
+				if (r < 0 || r >= rows) {
+					continue;
+				}
+				// on the first and last row of the ring, scans all columns
+				// otherwise only the first and last ones
+				int step = r == row - ring || r == row + ring ? 1 : Math.max(1, ring * 2);
+				for (int c = column - ring; c <= column + ring; c += step) {
+					// checks if the column is inside the grid
+					if (c < 0 || c >= columns) {
+						continue;
+					}
+					int cell = r * columns + c;
+					for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+						int item = cellItems[i];
+						double squaredDistance = getSquaredDistance(item, x, y);
+						// checks if the element is within the max distance
+						if (squaredDistance > maxSquaredDistance) {
+							continue;
+						}
+						if (squaredDistance < bestSquaredDistance) {
+							// new nearest element
+							bestSquaredDistance = squaredDistance;
+							best.clear();
+							best.add(item);
+						} else if (squaredDistance == bestSquaredDistance) {
+							// same distance
+							best.add(item);
+						}
+					}
+				}
+			}
+			// checks if the elements of next ring can not be nearer
+			double ringDistance = ring * cellSize;
+			if (ringDistance * ringDistance >= Math.min(bestSquaredDistance, maxSquaredDistance)) {
+				break;
+			}
+		}
+		// sorts the elements by dataset and data indexes
+		// in order to have always the same order
+		Collections.sort(best);
+		return toItems(best);
+	}
+
+	/**
+	 * Returns the elements within the radius from the point passed as argument.
+	 * 
+	 * @param x x coordinate of the point in pixel
+	 * @param y y coordinate of the point in pixel
+	 * @param radius radius in pixel
+	 * @return the elements within the radius from the point or an empty list if there is not any element
+	 */
+	public List<InteractionItem> getItemsWithinRadius(double x, double y, double radius) {
+		// checks arguments
+		checkCoordinates(x, y);
+		Checker.assertCheck(!Double.isNaN(radius) && !Double.isInfinite(radius) && radius >= 0, "Radius argument is not consistent");
+		// gets the elements in the rectangle which contains the circle
+		List<Integer> candidates = getIndexesWithinRectangle(x - radius, y - radius, x + radius, y + radius);
+		// prepares the result
+		List<Integer> result = new ArrayList<>(candidates.size());
+		double squaredRadius = radius * radius;
+		for (Integer item : candidates) {
+			// checks if inside the circle
+			if (getSquaredDistance(item, x, y) <= squaredRadius) {
+				result.add(item);
+			}
+		}
+		return toItems(result);
+	}
+
+	/**
+	 * Returns the elements within the rectangle passed as argument.
+	 * 
+	 * @param left left coordinate of the rectangle in pixel
+	 * @param top top coordinate of the rectangle in pixel
+	 * @param right right coordinate of the rectangle in pixel
+	 * @param bottom bottom coordinate of the rectangle in pixel
+	 * @return the elements within the rectangle or an empty list if there is not any element
+	 */
+	public List<InteractionItem> getItemsWithinRectangle(double left, double top, double right, double bottom) {
+		// checks arguments
+		checkCoordinates(left, top);
+		checkCoordinates(right, bottom);
+		// normalizes the rectangle
+		return toItems(getIndexesWithinRectangle(Math.min(left, right), Math.min(top, bottom), Math.max(left, right), Math.max(top, bottom)));
+	}
+
+	/**
+	 * Returns the indexes of the elements within the rectangle passed as argument, sorted by dataset and data indexes.
+	 * 
+	 * @param left left coordinate of the rectangle in pixel
+	 * @param top top coordinate of the rectangle in pixel
+	 * @param right right coordinate of the rectangle in pixel
+	 * @param bottom bottom coordinate of the rectangle in pixel
+	 * @return the indexes of the elements within the rectangle
+	 */
+	private List<Integer> getIndexesWithinRectangle(double left, double top, double right, double bottom) {
+		// checks if the index must be rebuilt
+		checkIndex();
+		// prepares the result
+		List<Integer> result = new ArrayList<>();
+		// checks if empty
+		if (size == 0) {
+			return result;
+		}
+		// gets the cells range
+		int startColumn = clamp(getColumn(left), columns);
+		int endColumn = clamp(getColumn(right), columns);
+		int startRow = clamp(getRow(top), rows);
+		int endRow = clamp(getRow(bottom), rows);
+		// scans the cells
+		for (int r = startRow; r <= endRow; r++) {
+			for (int c = startColumn; c <= endColumn; c++) {
+				int cell = r * columns + c;
+				for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+					int item = cellItems[i];
+					// checks if the element is inside
+					if (xs[item] >= left && xs[item] <= right && ys[item] >= top && ys[item] <= bottom) {
+						result.add(item);
+					}
+				}
+			}
+		}
+		// sorts the elements by dataset and data indexes
+		Collections.sort(result);
+		return result;
+	}
+
+	/**
+	 * Checks if the chart has been updated after the last build of the index and, in this case, rebuilds the index.
+	 */
+	private void checkIndex() {
+		// gets the current node
+		// the chart changes the node instance at every update
+		ChartNode node = chart.getNode();
+		// checks if the index is still valid
+		if (indexedNode != null && indexedNode == node) {
+			return;
+		}
+		// rebuilds the index
+		build();
+		// stores the node
+		indexedNode = node;
+	}
+
+	/**
+	 * Loads all elements of the visible datasets and builds the grid.
+	 */
+	private void build() {
+		// resets the size
+		size = 0;
+		// gets the amount of datasets
+		int datasetsCount = chart.getData().getDatasets().size();
+		for (int datasetIndex = 0; datasetIndex < datasetsCount; datasetIndex++) {
+			// checks if the dataset is visible
+			if (!chart.isDatasetVisible(datasetIndex)) {
+				continue;
+			}
+			DatasetItem item = chart.getDatasetItem(datasetIndex);
+			// checks if the dataset item is consistent
+			if (item == null) {
+				continue;
+			}
+			int index = 0;
+			for (ChartElement element : item.getElements()) {
+				// checks if the element must be ignored
+				if (!element.isSkipped()) {
+					// gets the final position of the element
+					IsPoint point = element.getCenterPoint(true);
+					// checks if the position is consistent
+					if (isConsistent(point.getX()) && isConsistent(point.getY())) {
+						add(element, point.getX(), point.getY(), datasetIndex, index);
+					}
+				}
+				index++;
+			}
+		}
+		// builds the grid
+		buildGrid();
+	}
+
+	/**
+	 * Adds an element to the index, increasing the arrays if needed.
+	 * 
+	 * @param element element instance
+	 * @param x x coordinate of the element
+	 * @param y y coordinate of the element
+	 * @param datasetIndex dataset index of the element
+	 * @param index data index of the element
+	 */
+	private void add(ChartElement element, double x, double y, int datasetIndex, int index) {
+		// checks if the arrays must be increased
+		if (size == xs.length) {
+			int capacity = Math.max(16, size * 2);
+			xs = copyOf(xs, capacity);
+			ys = copyOf(ys, capacity);
+			datasetIndexes = copyOf(datasetIndexes, capacity);
+			dataIndexes = copyOf(dataIndexes, capacity);
+			ChartElement[] newElements = new ChartElement[capacity];
+			System.arraycopy(elements, 0, newElements, 0, size);
+			elements = newElements;
+		}
+		xs[size] = x;
+		ys[size] = y;
+		datasetIndexes[size] = datasetIndex;
+		dataIndexes[size] = index;
+		elements[size] = element;
+		size++;
+	}
+
+	/**
+	 * Builds the uniform grid, storing the element indexes sorted by cell (counting sort).
+	 */
+	private void buildGrid() {
+		// releases the references to the elements of previous build
+		for (int i = size; i < elements.length; i++) {
+			elements[i] = null;
+		}
+		// calculates the bounds
+		minX = Double.POSITIVE_INFINITY;
+		minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < size; i++) {
+			minX = Math.min(minX, xs[i]);
+			minY = Math.min(minY, ys[i]);
+			maxX = Math.max(maxX, xs[i]);
+			maxY = Math.max(maxY, ys[i]);
+		}
+		// checks if empty
+		if (size == 0) {
+			minX = 0D;
+			minY = 0D;
+			maxX = 0D;
+			maxY = 0D;
+		}
+		// calculates the amount of cells
+		int cellsPerSide = (int) Math.ceil(Math.sqrt(size / (double) AMOUNT_OF_ELEMENTS_PER_CELL));
+		cellsPerSide = Math.max(1, Math.min(MAXIMUM_CELLS_PER_SIDE, cellsPerSide));
+		columns = cellsPerSide;
+		rows = cellsPerSide;
+		// calculates the size of the cells
+		// avoiding zero size when all elements are aligned
+		cellWidth = Math.max(1D, (maxX - minX) / columns);
+		cellHeight = Math.max(1D, (maxY - minY) / rows);
+		// counts the elements for each cell
+		int cells = columns * rows;
+		int[] cellOfItems = new int[size];
+		cellStarts = new int[cells + 1];
+		for (int i = 0; i < size; i++) {
+			int cell = clamp(getRow(ys[i]), rows) * columns + clamp(getColumn(xs[i]), columns);
+			cellOfItems[i] = cell;
+			cellStarts[cell + 1]++;
+		}
+		// calculates the start of every cell
+		for (int i = 0; i < cells; i++) {
+			cellStarts[i + 1] += cellStarts[i];
+		}
+		// stores the element indexes by cell
+		int[] positions = new int[cells];
+		System.arraycopy(cellStarts, 0, positions, 0, cells);
+		cellItems = new int[size];
+		for (int i = 0; i < size; i++) {
+			cellItems[positions[cellOfItems[i]]++] = i;
+		}
+	}
+
+	/**
+	 * Creates the list of interaction items for the element indexes passed as argument.
+	 * 
+	 * @param indexes element indexes
+	 * @return the list of interaction items
+	 */
+	private List<InteractionItem> toItems(List<Integer> indexes) {
+		// checks if empty
+		if (indexes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<InteractionItem> result = new ArrayList<>(indexes.size());
+		for (Integer item : indexes) {
+			result.add(new InteractionItem(chart, elements[item], datasetIndexes[item], dataIndexes[item]));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns the squared distance between the element and the point.
+	 * 
+	 * @param item element index
+	 * @param x x coordinate of the point
+	 * @param y y coordinate of the point
+	 * @return the squared distance between the element and the point
+	 */
+	private double getSquaredDistance(int item, double x, double y) {
+		double deltaX = xs[item] - x;
+		double deltaY = ys[item] - y;
+		return deltaX * deltaX + deltaY * deltaY;
+	}
+
+	/**
+	 * Returns the column of the grid for the x coordinate, without clamping.
+	 * 
+	 * @param x x coordinate
+	 * @return the column of the grid
+	 */
+	private int getColumn(double x) {
+		return (int) Math.floor((x - minX) / cellWidth);
+	}
+
+	/**
+	 * Returns the row of the grid for the y coordinate, without clamping.
+	 * 
+	 * @param y y coordinate
+	 * @return the row of the grid
+	 */
+	private int getRow(double y) {
+		return (int) Math.floor((y - minY) / cellHeight);
+	}
+
+	/**
+	 * Clamps the value between 0 and the amount passed as argument (excluded).
+	 * 
+	 * @param value value to clamp
+	 * @param amount amount of cells
+	 * @return the clamped value
+	 */
+	private static int clamp(int value, int amount) {
+		return Math.max(0, Math.min(amount - 1, value));
+	}
+
+	/**
+	 * Checks if the coordinate is a finite number.
+	 * 
+	 * @param value coordinate to check
+	 * @return <code>true</code> if the coordinate is a finite number
+	 */
+	private static boolean isConsistent(double value) {
+		return !Double.isNaN(value) && !Double.isInfinite(value);
+	}
+
+	/**
+	 * Checks if the coordinates of the point are consistent.
+	 * 
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 */
+	private static void checkCoordinates(double x, double y) {
+		Checker.assertCheck(isConsistent(x) && isConsistent(y), "Coordinates are not consistent");
+	}
+
+	/**
+	 * Copies the array in a new one with the new capacity.
+	 * 
+	 * @param source array to copy
+	 * @param capacity new capacity
+	 * @return new array
+	 */
+	private double[] copyOf(double[] source, int capacity) {
+		double[] result = new double[capacity];
+		System.arraycopy(source, 0, result, 0, size);
+		return result;
+	}
+
+	/**
+	 * Copies the array in a new one with the new capacity.
+	 * 
+	 * @param source array to copy
+	 * @param capacity new capacity
+	 * @return new array
+	 */
+	private int[] copyOf(int[] source, int capacity) {
+		int[] result = new int[capacity];
+		System.arraycopy(source, 0, result, 0, size);
+		return result;
+	}
+
+}
@@ -66,6 +66,8 @@ public final class Interactions implements ChartsLifecycleListener {
 	private final Map<String, CallbackProxy<ExtendedInteraction>> proxies = new HashMap<>();
 	// all interaction item factories per chart instance
 	private final Map<String, NativeObjectContainerFactory<InteractionItem>> factories = new HashMap<>();
+	// all elements spatial indexes per chart instance
+	private final Map<String, ElementsSpatialIndex> spatialIndexes = new HashMap<>();
 	// modes instance
 	private final Modes modes;
 
@@ -116,6 +118,20 @@ public final class Interactions implements ChartsLifecycleListener {
 		return factories.computeIfAbsent(chart.getId(), mapKey -> InteractionItem.createFactory(chart));
 	}
 
+	/**
+	 * Returns the spatial index of the elements of the chart, to use to implement custom interaction modes.<br>
+	 * The index is rebuilt lazily after every update of the chart and released when the chart is destroyed.
+	 * 
+	 * @param chart chart instance
+	 * @return the spatial index of the elements of the chart
+	 */
+	public ElementsSpatialIndex getSpatialIndex(IsChart chart) {
+		// checks if chart is consistent
+		IsChart.checkIfValid(chart);
+		// creates new one is not present
+		return spatialIndexes.computeIfAbsent(chart.getId(), mapKey -> new ElementsSpatialIndex(chart));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -127,6 +143,8 @@ public final class Interactions implements ChartsLifecycleListener {
 		IsChart.checkIfValid(chart);
 		// removes factory from cache
 		factories.remove(chart.getId());
+		// removes spatial index from cache
+		spatialIndexes.remove(chart.getId());
 	}
 
 	/**
@@ -18,13 +18,21 @@
 */
 package org.pepstock.charba.client.intl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
+import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.defaults.IsDefaultBaseFormatOptions;
 import org.pepstock.charba.client.defaults.globals.DefaultBaseFormatOptions;
 import org.pepstock.charba.client.intl.enums.LocaleMatcher;
 import org.pepstock.charba.client.intl.enums.NumberingSystem;
+import org.pepstock.charba.client.items.Undefined;
+import org.pepstock.charba.client.utils.JSON;
 
 /**
  * Intl base options where the locale matcher and numbering system are common properties.
@@ -69,6 +77,10 @@ class BaseFormatOptions<D extends IsDefaultBaseFormatOptions> extends NativeObje
 	}
 
 	private final D defaultValues;
+	// normalized string of the options, cached for the key of the formats pool
+	private String normalizedString = null;
+	// snapshot of the native object when the normalized string has been created
+	private String normalizedSnapshot = null;
 
 	/**
 	 * This constructor is called only internally in order to use the locale matcher options to check if a locale is supported.
@@ -148,4 +160,56 @@ class BaseFormatOptions<D extends IsDefaultBaseFormatOptions> extends NativeObje
 		return getNativeObject();
 	}
 
+	/**
+	 * Returns a string which represents all options, with the properties sorted by name, to use as key of the formats pool.<br>
+	 * Two instances with the same options, set in different order, return the same string.<br>
+	 * The string is cached and created again only when the options have been changed, checking a snapshot of the native object, in order to avoid to read and
+	 * sort all properties for every formatted value.
+	 * 
+	 * @return a string which represents all options
+	 */
+	final String toNormalizedString() {
+		// gets the snapshot of the options
+		String snapshot = JSON.stringify(getNativeObject());
+		// checks if the options have been changed
+		if (normalizedString == null || !snapshot.equals(normalizedSnapshot)) {
+			normalizedString = createNormalizedString();
+			normalizedSnapshot = snapshot;
+		}
+		return normalizedString;
+	}
+
+	/**
+	 * Creates a string which represents all options, with the properties sorted by name.
+	 * 
+	 * @return a string which represents all options
+	 */
+	private String createNormalizedString() {
+		// gets the keys sorted by name
+		List<Key> keys = new ArrayList<>(keys());
+		keys.sort(Comparator.comparing(Key::value));
+		// creates the result
+		StringBuilder result = new StringBuilder();
+		// scans all keys
+		for (Key key : keys) {
+			result.append(key.value()).append(Constants.EQ);
+			// gets the type of the property
+			ObjectType type = type(key);
+			// appends the value by its type
+			if (ObjectType.STRING.equals(type)) {
+				result.append(getValue(key, Undefined.STRING));
+			} else if (ObjectType.NUMBER.equals(type)) {
+				result.append(getValue(key, Undefined.DOUBLE));
+			} else if (ObjectType.BOOLEAN.equals(type)) {
+				result.append(getValue(key, false));
+			} else if (ObjectType.ARRAY.equals(type)) {
+				result.append(JSON.stringify(getArrayValue(key)));
+			} else if (ObjectType.OBJECT.equals(type)) {
+				result.append(JSON.stringify(getValue(key)));
+			}
+			result.append(Constants.COMMA);
+		}
+		return result.toString();
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,300 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.intl;
+
+import java.util.Date;
+
+import org.pepstock.charba.client.commons.BoundedCache;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.commons.Constants;
+
+/**
+ * Shared pool of {@link NumberFormat} and {@link DateTimeFormat} instances, by locale and options.<br>
+ * Creating a <code>Intl</code> formatter is expensive therefore the pool creates only once the formatter for a locale and the same options, even if set in different
+ * order, and shares it with all charts.<br>
+ * Furthermore it can store, in a bounded cache, the formatted values in order to avoid to format again the same values, like the ticks of the axes, at every update.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class FormatPool {
+
+	/**
+	 * Name of the cache of number formats, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String NUMBER_FORMATS_CACHE_NAME = "numberFormats";
+
+	/**
+	 * Name of the cache of date time formats, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String DATE_TIME_FORMATS_CACHE_NAME = "dateTimeFormats";
+
+	/**
+	 * Name of the cache of formatted values, to use to get the statistics by {@link org.pepstock.charba.client.commons.Caches}.
+	 */
+	public static final String FORMATTED_VALUES_CACHE_NAME = "formattedValues";
+
+	/**
+	 * Default maximum amount of formatters for each kind stored in the pool, <b>{@value DEFAULT_MAX_FORMATS}</b>.
+	 */
+	public static final int DEFAULT_MAX_FORMATS = 64;
+
+	/**
+	 * Default maximum amount of formatted values stored in the pool, <b>{@value DEFAULT_MAX_FORMATTED_VALUES}</b>.
+	 */
+	public static final int DEFAULT_MAX_FORMATTED_VALUES = 5000;
+
+	// estimated weight in bytes of a formatter
+	private static final int FORMAT_WEIGHT = 1024;
+	// prefix of the key of number formats
+	private static final String NUMBER_PREFIX = "n";
+	// prefix of the key of date time formats
+	private static final String DATE_TIME_PREFIX = "d";
+	// separator between the parts of the keys
+	private static final String SEPARATOR = "|";
+	// cache of number formats
+	private static final BoundedCache<String, NumberFormat> NUMBER_FORMATS = new BoundedCache<>(NUMBER_FORMATS_CACHE_NAME, DEFAULT_MAX_FORMATS, BoundedCache.DEFAULT_MAX_BYTES, format -> FORMAT_WEIGHT);
+	// cache of date time formats
+	private static final BoundedCache<String, DateTimeFormat> DATE_TIME_FORMATS = new BoundedCache<>(DATE_TIME_FORMATS_CACHE_NAME, DEFAULT_MAX_FORMATS, BoundedCache.DEFAULT_MAX_BYTES, format -> FORMAT_WEIGHT);
+	// cache of formatted values, by key of the formatter and value
+	private static final BoundedCache<String, String> FORMATTED_VALUES = new BoundedCache<>(FORMATTED_VALUES_CACHE_NAME, DEFAULT_MAX_FORMATTED_VALUES, BoundedCache.DEFAULT_MAX_BYTES, value -> value.length() * 2);
+	// flag to enable the cache of the formatted values
+	private static boolean formattedValuesCacheEnabled = true;
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private FormatPool() {
+		// do nothing
+	}
+
+	/**
+	 * Returns <code>true</code> if the formatted values are cached.
+	 * 
+	 * @return <code>true</code> if the formatted values are cached
+	 */
+	public static boolean isFormattedValuesCacheEnabled() {
+		return formattedValuesCacheEnabled;
+	}
+
+	/**
+	 * Sets <code>true</code> if the formatted values must be cached. If disabled, the cached values are removed.
+	 * 
+	 * @param enabled <code>true</code> if the formatted values must be cached
+	 */
+	public static void setFormattedValuesCacheEnabled(boolean enabled) {
+		FormatPool.formattedValuesCacheEnabled = enabled;
+		// checks if disabled
+		if (!enabled) {
+			// removes all values
+			FORMATTED_VALUES.clear();
+		}
+	}
+
+	/**
+	 * Returns a number format for the default locale and without options.
+	 * 
+	 * @return a shared number format
+	 */
+	public static NumberFormat getNumberFormat() {
+		return getNumberFormat(CLocale.getDefault());
+	}
+
+	/**
+	 * Returns a number format for the passed locale, without options.
+	 * 
+	 * @param locale locale of the number format
+	 * @return a shared number format
+	 */
+	public static NumberFormat getNumberFormat(CLocale locale) {
+		return getNumberFormat(locale, null);
+	}
+
+	/**
+	 * Returns a number format for the passed locale and options.<br>
+	 * The options are read when the number format is requested, therefore changing them after does not affect the returned number format.
+	 * 
+	 * @param locale locale of the number format
+	 * @param options options of the number format, could be <code>null</code>
+	 * @return a shared number format
+	 */
+	public static NumberFormat getNumberFormat(CLocale locale, NumberFormatOptions options) {
+		return getNumberFormat(createKey(NUMBER_PREFIX, locale, options), locale, options);
+	}
+
+	/**
+	 * Returns a date time format for the default locale and without options.
+	 * 
+	 * @return a shared date time format
+	 */
+	public static DateTimeFormat getDateTimeFormat() {
+		return getDateTimeFormat(CLocale.getDefault());
+	}
+
+	/**
+	 * Returns a date time format for the passed locale, without options.
+	 * 
+	 * @param locale locale of the date time format
+	 * @return a shared date time format
+	 */
+	public static DateTimeFormat getDateTimeFormat(CLocale locale) {
+		return getDateTimeFormat(locale, null);
+	}
+
+	/**
+	 * Returns a date time format for the passed locale and options.<br>
+	 * The options are read when the date time format is requested, therefore changing them after does not affect the returned date time format.
+	 * 
+	 * @param locale locale of the date time format
+	 * @param options options of the date time format, could be <code>null</code>
+	 * @return a shared date time format
+	 */
+	public static DateTimeFormat getDateTimeFormat(CLocale locale, DateTimeFormatOptions options) {
+		return getDateTimeFormat(createKey(DATE_TIME_PREFIX, locale, options), locale, options);
+	}
+
+	/**
+	 * Formats a number by a shared number format for the passed locale and options.<br>
+	 * If enabled, the formatted value is cached.
+	 * 
+	 * @param value value to format
+	 * @param locale locale of the number format
+	 * @param options options of the number format, could be <code>null</code>
+	 * @return the formatted value
+	 */
+	public static String format(double value, CLocale locale, NumberFormatOptions options) {
+		// creates the key of the formatter
+		String key = createKey(NUMBER_PREFIX, locale, options);
+		// checks if the cache of values is enabled
+		if (formattedValuesCacheEnabled) {
+			// creates the key of the value
+			String valueKey = key + SEPARATOR + value;
+			// gets the cached value
+			String result = FORMATTED_VALUES.get(valueKey);
+			// checks if consistent
+			if (result == null) {
+				// formats and stores the value
+				result = getNumberFormat(key, locale, options).format(value);
+				FORMATTED_VALUES.put(valueKey, result);
+			}
+			return result;
+		}
+		// if here, the cache of values is disabled
+		return getNumberFormat(key, locale, options).format(value);
+	}
+
+	/**
+	 * Formats a date by a shared date time format for the passed locale and options.<br>
+	 * If enabled, the formatted value is cached.
+	 * 
+	 * @param value value to format
+	 * @param locale locale of the date time format
+	 * @param options options of the date time format, could be <code>null</code>
+	 * @return the formatted value or an empty string if the value is <code>null</code>
+	 */
+	public static String format(Date value, CLocale locale, DateTimeFormatOptions options) {
+		// checks if value is consistent
+		if (value == null) {
+			return Constants.EMPTY_STRING;
+		}
+		// creates the key of the formatter
+		String key = createKey(DATE_TIME_PREFIX, locale, options);
+		// checks if the cache of values is enabled
+		if (formattedValuesCacheEnabled) {
+			// creates the key of the value
+			String valueKey = key + SEPARATOR + value.getTime();
+			// gets the cached value
+			String result = FORMATTED_VALUES.get(valueKey);
+			// checks if consistent
+			if (result == null) {
+				// formats and stores the value
+				result = getDateTimeFormat(key, locale, options).format(value);
+				FORMATTED_VALUES.put(valueKey, result);
+			}
+			return result;
+		}
+		// if here, the cache of values is disabled
+		return getDateTimeFormat(key, locale, options).format(value);
+	}
+
+	/**
+	 * Removes all formatters and formatted values from the pool.
+	 */
+	public static void clear() {
+		NUMBER_FORMATS.clear();
+		DATE_TIME_FORMATS.clear();
+		FORMATTED_VALUES.clear();
+	}
+
+	/**
+	 * Returns a number format by its key, creating and storing it if missing.
+	 * 
+	 * @param key key of the number format
+	 * @param locale locale of the number format
+	 * @param options options of the number format, could be <code>null</code>
+	 * @return a shared number format
+	 */
+	private static NumberFormat getNumberFormat(String key, CLocale locale, NumberFormatOptions options) {
+		// gets the cached format
+		NumberFormat format = NUMBER_FORMATS.get(key);
+		// checks if consistent
+		if (format == null) {
+			// creates and stores the format
+			format = new NumberFormat(locale, options);
+			NUMBER_FORMATS.put(key, format);
+		}
+		return format;
+	}
+
+	/**
+	 * Returns a date time format by its key, creating and storing it if missing.
+	 * 
+	 * @param key key of the date time format
+	 * @param locale locale of the date time format
+	 * @param options options of the date time format, could be <code>null</code>
+	 * @return a shared date time format
+	 */
+	private static DateTimeFormat getDateTimeFormat(String key, CLocale locale, DateTimeFormatOptions options) {
+		// gets the cached format
+		DateTimeFormat format = DATE_TIME_FORMATS.get(key);
+		// checks if consistent
+		if (format == null) {
+			// creates and stores the format
+			format = new DateTimeFormat(locale, options);
+			DATE_TIME_FORMATS.put(key, format);
+		}
+		return format;
+	}
+
+	/**
+	 * Creates the key of a formatter by the kind of formatter, the locale and the normalized options.
+	 * 
+	 * @param prefix prefix of the kind of formatter
+	 * @param locale locale of the formatter
+	 * @param options options of the formatter, could be <code>null</code>
+	 * @return the key of a formatter
+	 */
+	private static String createKey(String prefix, CLocale locale, BaseFormatOptions<?> options) {
+		// checks if locale is consistent
+		Checker.checkIfValid(locale, "Locale argument");
+		// creates the key
+		return prefix + SEPARATOR + locale.getIdentifier() + SEPARATOR + (options != null ? options.toNormalizedString() : Constants.EMPTY_STRING);
+	}
+
+}
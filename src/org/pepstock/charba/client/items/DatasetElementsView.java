@@ -0,0 +1,87 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.items;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.NativeObject;
+
+/**
+ * Read-only and random-access view over the native array of the elements of a dataset.<br>
+ * The {@link ChartElement} instances are created only when they are requested and then reused by the view.<br>
+ * The view is bound to the native array of the dataset item when it has been created, therefore it must be requested again after an update of the chart.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DatasetElementsView extends AbstractList<ChartElement> implements RandomAccess {
+
+	// native array of elements
+	private final ArrayObject array;
+	// factory to create the elements
+	private final ChartElementFactory factory;
+	// elements already created
+	private final ChartElement[] elements;
+
+	/**
+	 * Creates the view over the native array of elements.
+	 * 
+	 * @param array native array of elements
+	 * @param factory factory to create the elements
+	 */
+	DatasetElementsView(ArrayObject array, ChartElementFactory factory) {
+		this.array = array;
+		this.factory = factory;
+		this.elements = new ChartElement[array.length()];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public ChartElement get(int index) {
+		// checks if the index is inside the range
+		if (index < 0 || index >= elements.length) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds [0, " + elements.length + "]");
+		}
+		// checks if the element has been already created
+		if (elements[index] == null) {
+			// gets item of the array at index
+			NativeObject nativeObject = array.get(index);
+			// creates the element
+			elements[index] = factory.create(nativeObject);
+		}
+		return elements[index];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+}
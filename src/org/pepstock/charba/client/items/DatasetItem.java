@@ -27,7 +27,10 @@ import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.Type;
 import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.ArraySearch;
+import org.pepstock.charba.client.commons.Checker;
 import org.pepstock.charba.client.commons.Envelop;
+import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
@@ -71,7 +74,17 @@ public final class DatasetItem extends NativeObjectContainer {
 		V_SCALE("vScale"),
 		I_SCALE("iScale"),
 		// doughnut, pie
-		TOTAL("total");
+		TOTAL("total"),
+		// parsed data
+		PARSED("_parsed"),
+		SORTED("_sorted"),
+		// elements
+		DATASET("dataset"),
+		X("x"),
+		Y("y"),
+		BASE("base"),
+		WIDTH("width"),
+		ACTIVE("active");
 
 		// name value of property
 		private final String value;
@@ -337,6 +350,182 @@ public final class DatasetItem extends NativeObjectContainer {
 		return Collections.unmodifiableList(result);
 	}
 
+	/**
+	 * Returns the element which represents the whole dataset, like the outline of GEO charts, created by the factory passed as argument.
+	 * 
+	 * @param factory factory to use to create the element
+	 * @return the element which represents the whole dataset or <code>null</code> if the dataset does not have it
+	 */
+	public ChartElement getDatasetElement(ChartElementFactory factory) {
+		// checks if factory is consistent
+		Checker.checkIfValid(factory, "Element factory");
+		// checks if the dataset element is an object
+		if (isType(Property.DATASET, ObjectType.OBJECT)) {
+			return factory.create(getValue(Property.DATASET));
+		}
+		// if here, the dataset element is missing
+		return null;
+	}
+
+	/**
+	 * Returns the amount of dataset elements.
+	 * 
+	 * @return the amount of dataset elements
+	 */
+	public int getElementsCount() {
+		return getArrayValue(Property.DATA).length();
+	}
+
+	/**
+	 * Returns a read-only and random-access view of the dataset elements.<br>
+	 * Unlike {@link #getElements()}, the elements are created only when they are requested by the view.<br>
+	 * The view must be requested again after an update of the chart.
+	 * 
+	 * @return a read-only and random-access view of the dataset elements
+	 */
+	public List<ChartElement> getElementsView() {
+		// gets array of elements
+		ArrayObject array = getArrayValue(Property.DATA);
+		// checks if empty
+		if (array.isEmpty()) {
+			return Collections.emptyList();
+		}
+		// returns the view
+		return new DatasetElementsView(array, ChartElementFactories.get().getFactory(this));
+	}
+
+	/**
+	 * Loads the x coordinates of the dataset elements into the array passed as argument, without creating any element.<br>
+	 * The array is filled up to its length or the amount of elements.
+	 * 
+	 * @param result array to fill with the x coordinates
+	 * @return the amount of loaded coordinates
+	 */
+	public int loadElementsX(double[] result) {
+		return loadElementsProperty(Property.X, result);
+	}
+
+	/**
+	 * Loads the y coordinates of the dataset elements into the array passed as argument, without creating any element.<br>
+	 * The array is filled up to its length or the amount of elements.
+	 * 
+	 * @param result array to fill with the y coordinates
+	 * @return the amount of loaded coordinates
+	 */
+	public int loadElementsY(double[] result) {
+		return loadElementsProperty(Property.Y, result);
+	}
+
+	/**
+	 * Loads the base values of the dataset elements into the array passed as argument, without creating any element.<br>
+	 * The array is filled up to its length or the amount of elements. The base is available only for bar elements, otherwise {@link Undefined#DOUBLE} is loaded.
+	 * 
+	 * @param result array to fill with the base values
+	 * @return the amount of loaded values
+	 */
+	public int loadElementsBase(double[] result) {
+		return loadElementsProperty(Property.BASE, result);
+	}
+
+	/**
+	 * Loads the widths of the dataset elements into the array passed as argument, without creating any element.<br>
+	 * The array is filled up to its length or the amount of elements. The width is available only for bar elements, otherwise {@link Undefined#DOUBLE} is loaded.
+	 * 
+	 * @param result array to fill with the widths
+	 * @return the amount of loaded values
+	 */
+	public int loadElementsWidth(double[] result) {
+		return loadElementsProperty(Property.WIDTH, result);
+	}
+
+	/**
+	 * Loads if the dataset elements are active into the array passed as argument, without creating any element.<br>
+	 * The array is filled up to its length or the amount of elements.
+	 * 
+	 * @param result array to fill with the active flags
+	 * @return the amount of loaded flags
+	 */
+	public int loadElementsActive(boolean[] result) {
+		// checks if argument is consistent
+		Checker.checkIfValid(result, "Result array");
+		// gets array of elements
+		ArrayObject array = getArrayValue(Property.DATA);
+		// calculates the amount of items to load
+		int amount = Math.min(result.length, array.length());
+		for (int i = 0; i < amount; i++) {
+			result[i] = JsHelper.get().getBooleanProperty(Property.ACTIVE, array.get(i));
+		}
+		return amount;
+	}
+
+	/**
+	 * Loads a numeric property of the dataset elements into the array passed as argument, without creating any element.
+	 * 
+	 * @param key property of the elements to load
+	 * @param result array to fill with the values
+	 * @return the amount of loaded values
+	 */
+	private int loadElementsProperty(Property key, double[] result) {
+		// checks if argument is consistent
+		Checker.checkIfValid(result, "Result array");
+		// gets array of elements
+		ArrayObject array = getArrayValue(Property.DATA);
+		// calculates the amount of items to load
+		int amount = Math.min(result.length, array.length());
+		for (int i = 0; i < amount; i++) {
+			result[i] = JsHelper.get().getDoubleProperty(key, array.get(i));
+		}
+		return amount;
+	}
+
+	/**
+	 * Returns the index of the data nearest to the pixel, on the index axis, passed as argument.<br>
+	 * The pixel is converted to a value by the index scale and, when the data have been sorted by CHART.JS (as for time series), the value is searched by a binary
+	 * search.
+	 * 
+	 * @param pixel pixel on the index axis
+	 * @return the index of the nearest data or {@link Undefined#INTEGER} if there is not any data or the index scale is missing
+	 */
+	public int getNearestIndex(double pixel) {
+		// gets the index scale
+		ScaleItem scale = getIndexScale();
+		// checks if the scale is consistent
+		if (scale == null) {
+			return Undefined.INTEGER;
+		}
+		// searches the value in the parsed data
+		return ArraySearch.nearestIndex(getArrayValue(Property.PARSED), scale.getAxis(), scale.getValueForPixel(pixel), isSorted());
+	}
+
+	/**
+	 * Returns the first and last indexes (both included) of the data inside the pixels window, on the index axis, passed as argument.<br>
+	 * The pixels are converted to values by the index scale and, when the data have been sorted by CHART.JS (as for time series), the values are searched by a
+	 * binary search.
+	 * 
+	 * @param fromPixel first pixel of the window on the index axis
+	 * @param toPixel last pixel of the window on the index axis
+	 * @return an array with the first and last indexes or an empty array if there is not any data in the window or the index scale is missing
+	 */
+	public int[] getIndexRange(double fromPixel, double toPixel) {
+		// gets the index scale
+		ScaleItem scale = getIndexScale();
+		// checks if the scale is consistent
+		if (scale == null) {
+			return ArraySearch.EMPTY_RANGE;
+		}
+		// searches the values in the parsed data
+		return ArraySearch.indexRange(getArrayValue(Property.PARSED), scale.getAxis(), scale.getValueForPixel(fromPixel), scale.getValueForPixel(toPixel), isSorted());
+	}
+
+	/**
+	 * Returns <code>true</code> if the parsed data have been sorted by CHART.JS, on the index axis.
+	 * 
+	 * @return <code>true</code> if the parsed data have been sorted by CHART.JS, on the index axis
+	 */
+	private boolean isSorted() {
+		return getValue(Property.SORTED, false);
+	}
+
 	/**
 	 * Returns the scale item from a specific property.
 	 * 
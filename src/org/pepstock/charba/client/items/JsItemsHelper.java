@@ -18,6 +18,7 @@
 */
 package org.pepstock.charba.client.items;
 
+import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.Checker;
@@ -211,6 +212,76 @@ final class JsItemsHelper {
 		return Undefined.DOUBLE;
 	}
 
+	/**
+	 * Returns the locations of the given data values.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param values array of data values
+	 * @return an array with the locations of the given data values
+	 */
+	ArrayDouble getPixelForValues(ScaleItem scale, ArrayDouble values) {
+		// checks if scale is consistent
+		if (scale != null) {
+			return NativeJsItemsHelper.getPixelForValues(scale.nativeObject(), values);
+		}
+		// if here, scale item not consistent
+		return ArrayDouble.fromOrEmpty();
+	}
+
+	/**
+	 * Returns the data values for the given pixels.<br>
+	 * This is the inverse of getPixelForValues.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param pixels array of pixel values
+	 * @return an array with the data values for the given pixels
+	 */
+	ArrayDouble getValueForPixels(ScaleItem scale, ArrayDouble pixels) {
+		// checks if scale is consistent
+		if (scale != null) {
+			return NativeJsItemsHelper.getValueForPixels(scale.nativeObject(), pixels);
+		}
+		// if here, scale item not consistent
+		return ArrayDouble.fromOrEmpty();
+	}
+
+	/**
+	 * Returns the pixel locations of the given percentages of scale.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param decimals array of percentages of scale
+	 * @return an array with the pixel locations of the given percentages of scale
+	 */
+	ArrayDouble getPixelForDecimals(ScaleItem scale, ArrayDouble decimals) {
+		// checks if scale is consistent
+		if (scale != null) {
+			return NativeJsItemsHelper.getPixelForDecimals(scale.nativeObject(), decimals);
+		}
+		// if here, scale item not consistent
+		return ArrayDouble.fromOrEmpty();
+	}
+
+	/**
+	 * Returns the percentages of scale for the given pixels.<br>
+	 * This is the inverse of getPixelForDecimals.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param pixels array of pixel values
+	 * @return an array with the percentages of scale for the given pixels
+	 */
+	ArrayDouble getDecimalForPixels(ScaleItem scale, ArrayDouble pixels) {
+		// checks if scale is consistent
+		if (scale != null) {
+			return NativeJsItemsHelper.getDecimalForPixels(scale.nativeObject(), pixels);
+		}
+		// if here, scale item not consistent
+		return ArrayDouble.fromOrEmpty();
+	}
+
 	/**
 	 * Returns the minimum chart value.
 	 * 
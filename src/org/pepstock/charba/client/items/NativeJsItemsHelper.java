@@ -18,6 +18,7 @@
 */
 package org.pepstock.charba.client.items;
 
+import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.NativeName;
@@ -134,6 +135,48 @@ final class NativeJsItemsHelper {
 	 */
 	static native double getValueForPixel(NativeObject scale, double pixel);
 
+	/**
+	 * Returns the locations of the given data values.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param values array of data values
+	 * @return an array with the locations of the given data values
+	 */
+	static native ArrayDouble getPixelForValues(NativeObject scale, ArrayDouble values);
+
+	/**
+	 * Returns the data values for the given pixels.<br>
+	 * This is the inverse of getPixelForValues.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param pixels array of pixel values
+	 * @return an array with the data values for the given pixels
+	 */
+	static native ArrayDouble getValueForPixels(NativeObject scale, ArrayDouble pixels);
+
+	/**
+	 * Returns the pixel locations of the given percentages of scale.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param decimals array of percentages of scale
+	 * @return an array with the pixel locations of the given percentages of scale
+	 */
+	static native ArrayDouble getPixelForDecimals(NativeObject scale, ArrayDouble decimals);
+
+	/**
+	 * Returns the percentages of scale for the given pixels.<br>
+	 * This is the inverse of getPixelForDecimals.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param scale scale native object instance
+	 * @param pixels array of pixel values
+	 * @return an array with the percentages of scale for the given pixels
+	 */
+	static native ArrayDouble getDecimalForPixels(NativeObject scale, ArrayDouble pixels);
+
 	/**
 	 * Returns the minimum chart value
 	 * 
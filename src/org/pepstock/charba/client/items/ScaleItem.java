@@ -28,6 +28,7 @@ import org.pepstock.charba.client.adapters.DateAdapter;
 import org.pepstock.charba.client.adapters.DateAdapterOptions;
 import org.pepstock.charba.client.callbacks.CallbacksEnvelop;
 import org.pepstock.charba.client.commons.Array;
+import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayMixedObject;
 import org.pepstock.charba.client.commons.ArrayObject;
@@ -754,6 +755,99 @@ public class ScaleItem extends BaseBoxNodeItem<AxisPosition> {
 		return JsItemsHelper.get().getValueForPixel(this, pixel);
 	}
 
+	/**
+	 * Loads the locations of the data values into the pixels array, with a single invocation of CHART.JS.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param values array of data values
+	 * @param pixels array to fill with the locations of the data values, at least long as the values array
+	 */
+	public final void getPixelForValues(double[] values, double[] pixels) {
+		// checks arguments
+		checkArrays(values, pixels);
+		// converts the values
+		copy(JsItemsHelper.get().getPixelForValues(this, ArrayDouble.fromOrEmpty(values)), pixels);
+	}
+
+	/**
+	 * Loads the data values of the pixels into the values array, with a single invocation of CHART.JS.<br>
+	 * This is the inverse of {@link #getPixelForValues(double[], double[])}.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param pixels array of pixel values
+	 * @param values array to fill with the data values of the pixels, at least long as the pixels array
+	 */
+	public final void getValueForPixels(double[] pixels, double[] values) {
+		// checks arguments
+		checkArrays(pixels, values);
+		// converts the pixels
+		copy(JsItemsHelper.get().getValueForPixels(this, ArrayDouble.fromOrEmpty(pixels)), values);
+	}
+
+	/**
+	 * Loads the pixel locations of the percentages of scale into the pixels array, with a single invocation of CHART.JS.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param decimals array of percentages of scale
+	 * @param pixels array to fill with the pixel locations, at least long as the decimals array
+	 */
+	public final void getPixelForDecimals(double[] decimals, double[] pixels) {
+		// checks arguments
+		checkArrays(decimals, pixels);
+		// converts the decimals
+		copy(JsItemsHelper.get().getPixelForDecimals(this, ArrayDouble.fromOrEmpty(decimals)), pixels);
+	}
+
+	/**
+	 * Loads the percentages of scale of the pixels into the decimals array, with a single invocation of CHART.JS.<br>
+	 * This is the inverse of {@link #getPixelForDecimals(double[], double[])}.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param pixels array of pixel values
+	 * @param decimals array to fill with the percentages of scale, at least long as the pixels array
+	 */
+	public final void getDecimalForPixels(double[] pixels, double[] decimals) {
+		// checks arguments
+		checkArrays(pixels, decimals);
+		// converts the pixels
+		copy(JsItemsHelper.get().getDecimalForPixels(this, ArrayDouble.fromOrEmpty(pixels)), decimals);
+	}
+
+	/**
+	 * Returns a transform, captured from the current state of the scale, which converts values to pixels and vice versa in java, without invoking CHART.JS.<br>
+	 * The transform is available only for linear, logarithmic and time scales and it is consistent until the next update or layout of the chart (see
+	 * {@link ScaleTransform#isValid()}).
+	 * 
+	 * @return a transform of the scale or <code>null</code> if the scale type is not supported or the scale has not been laid out yet
+	 */
+	public final ScaleTransform getTransform() {
+		return ScaleTransform.create(this);
+	}
+
+	/**
+	 * Checks if the source and target arrays are consistent for a conversion.
+	 * 
+	 * @param source array with the items to convert
+	 * @param target array to fill with the converted items
+	 */
+	private void checkArrays(double[] source, double[] target) {
+		Checker.checkIfValid(source, "Source array");
+		Checker.checkIfValid(target, "Target array");
+		Checker.assertCheck(target.length >= source.length, "Target array is shorter than source array");
+	}
+
+	/**
+	 * Copies the converted items into the target array.
+	 * 
+	 * @param result converted items
+	 * @param target array to fill with the converted items
+	 */
+	private void copy(ArrayDouble result, double[] target) {
+		for (int i = 0; i < result.length(); i++) {
+			target[i] = result.get(i);
+		}
+	}
+
 	/**
 	 * Returns the minimum chart value.
 	 * 
@@ -0,0 +1,211 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.items;
+
+import org.pepstock.charba.client.ChartNode;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.configuration.AxisType;
+import org.pepstock.charba.client.enums.ChartAxisType;
+
+/**
+ * Transform, captured from a linear, logarithmic or time scale, which converts values to pixels and vice versa in java, without invoking CHART.JS.<br>
+ * Those scales map the values (or the logarithms of the values for logarithmic scale) to the pixels by an affine function, which is captured reading the pixels
+ * of the minimum and maximum values of the scale.<br>
+ * The transform is consistent until the next update or layout of the chart and it must be created again when {@link #isValid()} returns <code>false</code>.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ScaleTransform {
+
+	// chart instance
+	private final IsChart chart;
+	// chart node when the transform has been captured
+	private final ChartNode node;
+	// if the scale is logarithmic
+	private final boolean logarithmic;
+	// start value (logarithm of the value for logarithmic scale)
+	private final double startValue;
+	// range of values (logarithms of the values for logarithmic scale)
+	private final double valueRange;
+	// pixel of the start value
+	private final double startPixel;
+	// range of pixels
+	private final double pixelRange;
+
+	/**
+	 * Creates the transform with the captured values.
+	 * 
+	 * @param chart chart instance
+	 * @param logarithmic if the scale is logarithmic
+	 * @param startValue start value (logarithm of the value for logarithmic scale)
+	 * @param endValue end value (logarithm of the value for logarithmic scale)
+	 * @param startPixel pixel of the start value
+	 * @param endPixel pixel of the end value
+	 */
+	private ScaleTransform(IsChart chart, boolean logarithmic, double startValue, double endValue, double startPixel, double endPixel) {
+		this.chart = chart;
+		this.node = chart != null ? chart.getNode() : null;
+		this.logarithmic = logarithmic;
+		this.startValue = startValue;
+		this.valueRange = endValue - startValue;
+		this.startPixel = startPixel;
+		this.pixelRange = endPixel - startPixel;
+	}
+
+	/**
+	 * Captures the transform of the scale passed as argument.
+	 * 
+	 * @param scale scale instance
+	 * @return the transform of the scale or <code>null</code> if the scale type is not supported or the scale has not been laid out yet
+	 */
+	static ScaleTransform create(ScaleItem scale) {
+		// gets the base type of the scale
+		AxisType type = scale.getType().getBaseType();
+		boolean logarithmic = ChartAxisType.LOGARITHMIC.equals(type);
+		// checks if the scale is supported
+		if (!logarithmic && !ChartAxisType.LINEAR.equals(type) && !ChartAxisType.TIME.equals(type)) {
+			return null;
+		}
+		double min = scale.getMin();
+		double max = scale.getMax();
+		// checks if the range is consistent
+		// logarithmic scale needs positive values
+		if (!isConsistent(min) || !isConsistent(max) || min == max || (logarithmic && min <= 0D)) {
+			return null;
+		}
+		double startPixel = scale.getPixelForValue(min);
+		double endPixel = scale.getPixelForValue(max);
+		// checks if the scale has been laid out
+		if (!isConsistent(startPixel) || !isConsistent(endPixel)) {
+			return null;
+		}
+		// checks if logarithmic
+		if (logarithmic) {
+			return new ScaleTransform(scale.getChart(), true, Math.log10(min), Math.log10(max), startPixel, endPixel);
+		}
+		return new ScaleTransform(scale.getChart(), false, min, max, startPixel, endPixel);
+	}
+
+	/**
+	 * Returns <code>true</code> if the transform has been captured from a logarithmic scale.
+	 * 
+	 * @return <code>true</code> if the transform has been captured from a logarithmic scale
+	 */
+	public boolean isLogarithmic() {
+		return logarithmic;
+	}
+
+	/**
+	 * Returns <code>true</code> if the chart has not been updated or laid out after the capture of the transform.
+	 * 
+	 * @return <code>true</code> if the transform is still consistent with the scale
+	 */
+	public boolean isValid() {
+		return chart != null && node == chart.getNode();
+	}
+
+	/**
+	 * Returns the location of the data value.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param value data value
+	 * @return the location of the data value
+	 */
+	public double getPixelForValue(double value) {
+		// checks if logarithmic
+		if (logarithmic) {
+			// zero is mapped to the start of the scale, as CHART.JS does
+			if (value == 0D) {
+				return startPixel;
+			}
+			return startPixel + (Math.log10(value) - startValue) / valueRange * pixelRange;
+		}
+		return startPixel + (value - startValue) / valueRange * pixelRange;
+	}
+
+	/**
+	 * Returns the data value of the pixel.<br>
+	 * This is the inverse of {@link #getPixelForValue(double)}.<br>
+	 * The coordinate (0, 0) is at the upper-left corner of the canvas.
+	 * 
+	 * @param pixel pixel value
+	 * @return the data value of the pixel
+	 */
+	public double getValueForPixel(double pixel) {
+		double value = startValue + (pixel - startPixel) / pixelRange * valueRange;
+		// checks if logarithmic
+		if (logarithmic) {
+			return Math.pow(10D, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Loads the locations of the data values into the pixels array.
+	 * 
+	 * @param values array of data values
+	 * @param pixels array to fill with the locations of the data values, at least long as the values array
+	 */
+	public void getPixelForValues(double[] values, double[] pixels) {
+		// checks arguments
+		checkArrays(values, pixels);
+		for (int i = 0; i < values.length; i++) {
+			pixels[i] = getPixelForValue(values[i]);
+		}
+	}
+
+	/**
+	 * Loads the data values of the pixels into the values array.
+	 * 
+	 * @param pixels array of pixel values
+	 * @param values array to fill with the data values of the pixels, at least long as the pixels array
+	 */
+	public void getValueForPixels(double[] pixels, double[] values) {
+		// checks arguments
+		checkArrays(pixels, values);
+		for (int i = 0; i < pixels.length; i++) {
+			values[i] = getValueForPixel(pixels[i]);
+		}
+	}
+
+	/**
+	 * Checks if the source and target arrays are consistent for a conversion.
+	 * 
+	 * @param source array with the items to convert
+	 * @param target array to fill with the converted items
+	 */
+	private static void checkArrays(double[] source, double[] target) {
+		Checker.checkIfValid(source, "Source array");
+		Checker.checkIfValid(target, "Target array");
+		Checker.assertCheck(target.length >= source.length, "Target array is shorter than source array");
+	}
+
+	/**
+	 * Checks if the value is a finite number.
+	 * 
+	 * @param value value to check
+	 * @return <code>true</code> if the value is a finite number
+	 */
+	private static boolean isConsistent(double value) {
+		return !Double.isNaN(value) && !Double.isInfinite(value);
+	}
+
+}
@@ -19,7 +19,7 @@
 package org.pepstock.charba.client.items;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +39,9 @@ import org.pepstock.charba.client.options.ScaleId;
  */
 public final class ScalesNode extends NativeObjectContainer implements HasInsideChecker {
 
+	// index of scale items by scale id, created on first use
+	private Map<String, ScaleItem> items = null;
+
 	/**
 	 * Creates the item using an envelop with the native java script object which contains all properties.
 	 * 
@@ -49,25 +52,54 @@ public final class ScalesNode extends NativeObjectContainer implements HasInside
 	}
 
 	/**
-	 * Returns a map with all defined axis. Key is the scale ID and value is scale item.
+	 * Returns a map with all defined axis. Key is the scale ID and value is scale item.<br>
+	 * The map is created once and reused for the life of the node.
 	 * 
 	 * @return a map with all defined axis. Key is the scale ID and value is scale item.
 	 */
 	public Map<String, ScaleItem> getItems() {
-		// creates result
-		Map<String, ScaleItem> result = new HashMap<>();
-		// gets all keys
-		List<Key> keys = keys();
-		// if keys are consistent
-		if (!keys.isEmpty()) {
-			// scans all keys
-			for (Key key : keys) {
-				// loads scale item
-				result.put(key.value(), new ScaleItem(ScaleId.create(key.value()), getValue(key)));
+		// checks if the index must be created
+		if (items == null) {
+			// creates result
+			Map<String, ScaleItem> result = new LinkedHashMap<>();
+			// gets all keys
+			List<Key> keys = keys();
+			// if keys are consistent
+			if (!keys.isEmpty()) {
+				// scans all keys
+				for (Key key : keys) {
+					// loads scale item
+					result.put(key.value(), new ScaleItem(ScaleId.create(key.value()), getValue(key)));
+				}
 			}
+			// stores a unmodifiable map
+			items = Collections.unmodifiableMap(result);
+		}
+		return items;
+	}
+
+	/**
+	 * Returns the scale item by its id or <code>null</code> if the scale does not exist.
+	 * 
+	 * @param scaleId the scale id
+	 * @return the scale item or <code>null</code> if the scale does not exist
+	 */
+	public ScaleItem getItem(String scaleId) {
+		return getItems().get(scaleId);
+	}
+
+	/**
+	 * Returns the scale item by its id or <code>null</code> if the scale does not exist.
+	 * 
+	 * @param scaleId the scale id
+	 * @return the scale item or <code>null</code> if the scale does not exist
+	 */
+	public ScaleItem getItem(ScaleId scaleId) {
+		// checks if argument is consistent
+		if (scaleId != null) {
+			return getItem(scaleId.value());
 		}
-		// returns a unmodifiable map
-		return Collections.unmodifiableMap(result);
+		return null;
 	}
 
 	/**
@@ -77,20 +109,12 @@ public final class ScalesNode extends NativeObjectContainer implements HasInside
 	 * @return the scale item if the chart event is inside of one of scales, otherwise <code>null</code>
 	 */
 	public ScaleItem getScaleIsInside(NativeAbstractMouseEvent event) {
-		// gets all keys
-		List<Key> keys = keys();
-		// if keys are consistent
-		if (!keys.isEmpty()) {
-			// scans all keys
-			for (Key key : keys) {
-				// loads scale item
-				ScaleItem scaleItem = new ScaleItem(ScaleId.create(key.value()), getValue(key));
-				// checks if event is inside
-				if (scaleItem.isInside(event)) {
-					// returns scale item
-					return scaleItem;
-				}
-
+		// scans all scale items
+		for (ScaleItem scaleItem : getItems().values()) {
+			// checks if event is inside
+			if (scaleItem.isInside(event)) {
+				// returns scale item
+				return scaleItem;
 			}
 		}
 		// if here not scales or event not inside of scale box
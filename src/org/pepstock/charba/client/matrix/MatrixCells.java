@@ -0,0 +1,325 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.matrix;
+
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.Checker;
+import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.commons.NativeName;
+import org.pepstock.charba.client.enums.DataPointType;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Utility to load and to update the data of a {@link MatrixDataset} as a grid of cells.<br>
+ * The java script objects of the cells are created directly into the native array of the data set, without creating any {@link MatrixDataPoint} instance, and have got the
+ * same structure of the data points, in order to be read by {@link MatrixDataset#getDataPoints()} method as well.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class MatrixCells {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private MatrixCells() {
+		// do nothing
+	}
+
+	/**
+	 * Creates the native array of cells from a dense grid of values, stored by rows.<br>
+	 * The value at index <code>row * width + column</code> is mapped to the cell with the X value at index <code>column</code> and Y value at index <code>row</code>.
+	 * 
+	 * @param values values of the grid, stored by rows
+	 * @param xAxis the X values of the columns of the grid
+	 * @param yAxis the Y values of the rows of the grid
+	 * @return the native array of cells
+	 */
+	static ArrayObject createDense(double[] values, Axis xAxis, Axis yAxis) {
+		// checks if arguments are consistent
+		Checker.checkIfValid(values, "Values argument");
+		// gets the dimensions of the grid
+		int width = xAxis.size();
+		int height = yAxis.size();
+		// checks if the amount of values is consistent with the dimensions
+		Checker.checkIfEqualTo(values.length, width * height, "Amount of values of the grid");
+		// creates the array
+		NativeCells cells = new NativeCells();
+		// scans all values in one pass
+		int index = 0;
+		for (int row = 0; row < height; row++) {
+			// gets the Y value of the row only once
+			Object yValue = yAxis.get(row);
+			for (int column = 0; column < width; column++) {
+				cells.push(createCell(xAxis, xAxis.get(column), yAxis, yValue, values[index]));
+				index++;
+			}
+		}
+		return JsHelper.get().cast(cells);
+	}
+
+	/**
+	 * Creates the native array of cells from a sparse grid of values.<br>
+	 * Each value is mapped to the cell with the X value at index <code>columns[i]</code> and Y value at index <code>rows[i]</code>.
+	 * 
+	 * @param columns the indexes of the columns of the cells
+	 * @param rows the indexes of the rows of the cells
+	 * @param values values of the cells
+	 * @param xAxis the X values of the columns of the grid
+	 * @param yAxis the Y values of the rows of the grid
+	 * @return the native array of cells
+	 */
+	static ArrayObject createSparse(int[] columns, int[] rows, double[] values, Axis xAxis, Axis yAxis) {
+		// checks if arguments are consistent
+		Checker.checkIfValid(columns, "Columns argument");
+		Checker.checkIfValid(rows, "Rows argument");
+		Checker.checkIfValid(values, "Values argument");
+		// checks if all arrays have got the same size
+		Checker.checkIfEqualTo(columns.length, values.length, "Amount of columns");
+		Checker.checkIfEqualTo(rows.length, values.length, "Amount of rows");
+		// creates the array
+		NativeCells cells = new NativeCells();
+		// scans all values in one pass
+		for (int i = 0; i < values.length; i++) {
+			// checks if the indexes are in the grid
+			Checker.checkIfBetween(columns[i], 0, xAxis.size() - 1, "Column index");
+			Checker.checkIfBetween(rows[i], 0, yAxis.size() - 1, "Row index");
+			cells.push(createCell(xAxis, xAxis.get(columns[i]), yAxis, yAxis.get(rows[i]), values[i]));
+		}
+		return JsHelper.get().cast(cells);
+	}
+
+	/**
+	 * Sets the value of the cell at the passed index, without changing the other cells.
+	 * 
+	 * @param cells the native array of cells
+	 * @param index the index of the cell to update
+	 * @param value the new value of the cell
+	 */
+	static void setValue(ArrayObject cells, int index, double value) {
+		// checks if the index is in range
+		Checker.checkIfBetween(index, 0, cells.length() - 1, "Cell index");
+		// gets the cell
+		NativeCell cell = JsHelper.get().cast(cells.get(index));
+		// stores the new value
+		cell.setValue(value);
+	}
+
+	/**
+	 * Creates a cell with the passed values.
+	 * 
+	 * @param xAxis the axis of X value
+	 * @param x the X value of the cell
+	 * @param yAxis the axis of Y value
+	 * @param y the Y value of the cell
+	 * @param value the value of the cell
+	 * @return the native cell
+	 */
+	private static NativeCell createCell(Axis xAxis, Object x, Axis yAxis, Object y, double value) {
+		NativeCell cell = new NativeCell();
+		cell.setX(x);
+		cell.setXType(xAxis.getType().value());
+		cell.setY(y);
+		cell.setYType(yAxis.getType().value());
+		cell.setValue(value);
+		return cell;
+	}
+
+	/**
+	 * Maps the X or Y values of the columns or rows of a grid.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	static final class Axis {
+
+		// values of the axis, as number or string
+		private final Object[] values;
+		// data point type of the values
+		private final DataPointType type;
+
+		/**
+		 * Creates the axis with the values and their type.
+		 * 
+		 * @param values values of the axis
+		 * @param type data point type of the values
+		 */
+		private Axis(Object[] values, DataPointType type) {
+			this.values = values;
+			this.type = type;
+		}
+
+		/**
+		 * Creates an axis with the passed labels.
+		 * 
+		 * @param labels labels of the axis
+		 * @param what name of the argument to put in the exception message
+		 * @return an axis with the passed labels
+		 */
+		static Axis of(String[] labels, String what) {
+			// checks if argument is consistent
+			Checker.checkIfValid(labels, what);
+			return new Axis(labels, DataPointType.STRING);
+		}
+
+		/**
+		 * Creates an axis with the passed numbers.
+		 * 
+		 * @param numbers numbers of the axis
+		 * @param what name of the argument to put in the exception message
+		 * @return an axis with the passed numbers
+		 */
+		static Axis of(double[] numbers, String what) {
+			// checks if argument is consistent
+			Checker.checkIfValid(numbers, what);
+			// the numbers are copied only once
+			// for the whole axis, not for every cell
+			Object[] values = new Object[numbers.length];
+			for (int i = 0; i < numbers.length; i++) {
+				values[i] = numbers[i];
+			}
+			return new Axis(values, DataPointType.NUMBER);
+		}
+
+		/**
+		 * Creates an axis where the values are the indexes of the columns or rows.
+		 * 
+		 * @param indexes the indexes of the columns or rows
+		 * @param what name of the argument to put in the exception message
+		 * @return an axis where the values are the indexes
+		 */
+		static Axis of(int[] indexes, String what) {
+			// checks if argument is consistent
+			Checker.checkIfValid(indexes, what);
+			// gets the maximum index
+			int maximum = -1;
+			for (int index : indexes) {
+				// checks if the index is consistent
+				Checker.checkIfPositive(index, what);
+				maximum = Math.max(maximum, index);
+			}
+			// creates the values from 0 to maximum index
+			Object[] values = new Object[maximum + 1];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = (double) i;
+			}
+			return new Axis(values, DataPointType.NUMBER);
+		}
+
+		/**
+		 * Returns the amount of values of the axis.
+		 * 
+		 * @return the amount of values of the axis
+		 */
+		int size() {
+			return values.length;
+		}
+
+		/**
+		 * Returns the value at the passed index.
+		 * 
+		 * @param index index of the value
+		 * @return the value at the passed index
+		 */
+		Object get(int index) {
+			return values[index];
+		}
+
+		/**
+		 * Returns the data point type of the values.
+		 * 
+		 * @return the data point type of the values
+		 */
+		DataPointType getType() {
+			return type;
+		}
+	}
+
+	/**
+	 * Java script object of a cell, with the same properties of a {@link MatrixDataPoint}.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	@JsType(isNative = true, name = NativeName.OBJECT, namespace = JsPackage.GLOBAL)
+	private static final class NativeCell {
+
+		/**
+		 * Sets the X value of the cell.
+		 * 
+		 * @param x the X value of the cell
+		 */
+		@JsProperty(name = "x")
+		native void setX(Object x);
+
+		/**
+		 * Sets the type of X value of the cell, as stored by data point.
+		 * 
+		 * @param type the type of X value of the cell
+		 */
+		@JsProperty(name = "charbaXType")
+		native void setXType(String type);
+
+		/**
+		 * Sets the Y value of the cell.
+		 * 
+		 * @param y the Y value of the cell
+		 */
+		@JsProperty(name = "y")
+		native void setY(Object y);
+
+		/**
+		 * Sets the type of Y value of the cell, as stored by data point.
+		 * 
+		 * @param type the type of Y value of the cell
+		 */
+		@JsProperty(name = "charbaYType")
+		native void setYType(String type);
+
+		/**
+		 * Sets the value of the cell.
+		 * 
+		 * @param value the value of the cell
+		 */
+		@JsProperty(name = "v")
+		native void setValue(double value);
+
+	}
+
+	/**
+	 * Java script array of cells.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	@JsType(isNative = true, name = NativeName.ARRAY, namespace = JsPackage.GLOBAL)
+	private static final class NativeCells {
+
+		/**
+		 * Adds a cell to the end of the array.
+		 * 
+		 * @param cell the cell to add
+		 */
+		native void push(NativeCell cell);
+
+	}
+}
@@ -24,12 +24,14 @@ import java.util.List;
 import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.callbacks.BarBorderWidthCallback;
 import org.pepstock.charba.client.callbacks.BorderRadiusCallback;
+import org.pepstock.charba.client.callbacks.ColorCallback;
 import org.pepstock.charba.client.callbacks.DatasetContext;
 import org.pepstock.charba.client.callbacks.NativeCallback;
 import org.pepstock.charba.client.callbacks.ScriptableDoubleChecker;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions.ProxyDoubleCallback;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions.ProxyNativeObjectCallback;
 import org.pepstock.charba.client.callbacks.ScriptableUtil;
+import org.pepstock.charba.client.colors.ColorRamp;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayObjectContainerList;
@@ -46,6 +48,7 @@ import org.pepstock.charba.client.data.BarBorderWidth;
 import org.pepstock.charba.client.data.Dataset;
 import org.pepstock.charba.client.data.HoverFlexDataset;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
+import org.pepstock.charba.client.items.Undefined;
 import org.pepstock.charba.client.matrix.callbacks.SizeCallback;
 import org.pepstock.charba.client.matrix.enums.Anchor;
 
@@ -82,6 +85,16 @@ public final class MatrixDataset extends HoverFlexDataset {
 	private static final String INVALID_SET_DATA_CALL = "'setData' method is not invokable by a matrix chart. Use 'setDataPoints' method";
 	// exception string message for getting data
 	private static final String INVALID_GET_DATA_CALL = "'getData' method is not invokable by a matrix chart. Use 'getDataPoints' method";
+	// argument name of X labels of the grid
+	private static final String X_LABELS_ARGUMENT = "X values argument";
+	// argument name of Y labels of the grid
+	private static final String Y_LABELS_ARGUMENT = "Y values argument";
+	// argument name of columns of the grid
+	private static final String COLUMNS_ARGUMENT = "Columns argument";
+	// argument name of rows of the grid
+	private static final String ROWS_ARGUMENT = "Rows argument";
+	// key of the value of a data point, read directly from the native data point
+	private static final Key DATA_POINT_VALUE = Key.create("v");
 
 	// ---------------------------
 	// -- CALLBACKS PROXIES ---
@@ -110,6 +123,8 @@ public final class MatrixDataset extends HoverFlexDataset {
 	private BarBorderWidthCallback borderWidthCallback = null;
 	// user callback implementation for hover border width
 	private BarBorderWidthCallback hoverBorderWidthCallback = null;
+	// width of the grid, when the data are loaded as dense grid
+	private int gridWidth = Undefined.INTEGER;
 
 	/**
 	 * Name of properties of native object.
@@ -202,6 +217,8 @@ public final class MatrixDataset extends HoverFlexDataset {
 	 * @param datapoints an array of data points
 	 */
 	public void setDataPoints(MatrixDataPoint... datapoints) {
+		// resets the width of dense grid
+		gridWidth = Undefined.INTEGER;
 		setArrayValue(CommonProperty.DATA, ArrayObject.fromOrNull(datapoints));
 	}
 
@@ -211,9 +228,125 @@ public final class MatrixDataset extends HoverFlexDataset {
 	 * @param datapoints a list of data points
 	 */
 	public void setDataPoints(List<MatrixDataPoint> datapoints) {
+		// resets the width of dense grid
+		gridWidth = Undefined.INTEGER;
 		setArrayValue(CommonProperty.DATA, ArrayObject.fromOrNull(datapoints));
 	}
 
+	/**
+	 * Sets the data property of a data set by a dense grid of values, stored by rows, where the X values of the columns and the Y values of the rows are labels.<br>
+	 * The value at index <code>row * xLabels.length + column</code> is mapped to the data point with X value <code>xLabels[column]</code> and Y value
+	 * <code>yLabels[row]</code>.<br>
+	 * The data are loaded without creating any {@link MatrixDataPoint} instance.
+	 * 
+	 * @param values values of the grid, stored by rows
+	 * @param xLabels the X values of the columns of the grid
+	 * @param yLabels the Y values of the rows of the grid
+	 */
+	public void setGrid(double[] values, String[] xLabels, String[] yLabels) {
+		setGrid(values, MatrixCells.Axis.of(xLabels, X_LABELS_ARGUMENT), MatrixCells.Axis.of(yLabels, Y_LABELS_ARGUMENT));
+	}
+
+	/**
+	 * Sets the data property of a data set by a dense grid of values, stored by rows, where the X values of the columns and the Y values of the rows are numbers.<br>
+	 * The value at index <code>row * xValues.length + column</code> is mapped to the data point with X value <code>xValues[column]</code> and Y value
+	 * <code>yValues[row]</code>.<br>
+	 * The data are loaded without creating any {@link MatrixDataPoint} instance.
+	 * 
+	 * @param values values of the grid, stored by rows
+	 * @param xValues the X values of the columns of the grid
+	 * @param yValues the Y values of the rows of the grid
+	 */
+	public void setGrid(double[] values, double[] xValues, double[] yValues) {
+		setGrid(values, MatrixCells.Axis.of(xValues, X_LABELS_ARGUMENT), MatrixCells.Axis.of(yValues, Y_LABELS_ARGUMENT));
+	}
+
+	/**
+	 * Sets the data property of a data set by a sparse grid of values, where every value is mapped to the data point with X value <code>columns[i]</code> and Y value
+	 * <code>rows[i]</code>.<br>
+	 * The data are loaded without creating any {@link MatrixDataPoint} instance.
+	 * 
+	 * @param columns the X values of the data points
+	 * @param rows the Y values of the data points
+	 * @param values values of the data points
+	 */
+	public void setSparseGrid(int[] columns, int[] rows, double[] values) {
+		setSparseGrid(columns, rows, values, MatrixCells.Axis.of(columns, COLUMNS_ARGUMENT), MatrixCells.Axis.of(rows, ROWS_ARGUMENT));
+	}
+
+	/**
+	 * Sets the data property of a data set by a sparse grid of values, where the X values of the columns and the Y values of the rows are labels.<br>
+	 * Every value is mapped to the data point with X value <code>xLabels[columns[i]]</code> and Y value <code>yLabels[rows[i]]</code>.<br>
+	 * The data are loaded without creating any {@link MatrixDataPoint} instance.
+	 * 
+	 * @param columns the indexes of the X labels of the data points
+	 * @param rows the indexes of the Y labels of the data points
+	 * @param values values of the data points
+	 * @param xLabels the X values of the columns of the grid
+	 * @param yLabels the Y values of the rows of the grid
+	 */
+	public void setSparseGrid(int[] columns, int[] rows, double[] values, String[] xLabels, String[] yLabels) {
+		setSparseGrid(columns, rows, values, MatrixCells.Axis.of(xLabels, X_LABELS_ARGUMENT), MatrixCells.Axis.of(yLabels, Y_LABELS_ARGUMENT));
+	}
+
+	/**
+	 * Sets the value of the data point of a dense grid, loaded by a <code>setGrid</code> method, at the passed column and row.<br>
+	 * Only the value of the data point is changed, without rebuilding the data of the data set.<br>
+	 * The chart must be updated to show the new value.
+	 * 
+	 * @param column the index of the column of the data point
+	 * @param row the index of the row of the data point
+	 * @param value the new value of the data point
+	 */
+	public void setGridValue(int column, int row, double value) {
+		// checks if the data have been loaded as dense grid
+		if (gridWidth == Undefined.INTEGER) {
+			throw new IllegalArgumentException("The data have not been loaded as dense grid. Use 'setGrid' method");
+		}
+		// checks if the column is in the grid
+		Checker.checkIfBetween(column, 0, gridWidth - 1, COLUMNS_ARGUMENT);
+		// updates the value
+		setCellValue(row * gridWidth + column, value);
+	}
+
+	/**
+	 * Sets the value of the data point at the passed index, without rebuilding the data of the data set.<br>
+	 * For the sparse grids, the index is the position of the value in the arrays passed to the <code>setSparseGrid</code> method.<br>
+	 * The chart must be updated to show the new value.
+	 * 
+	 * @param index the index of the data point
+	 * @param value the new value of the data point
+	 */
+	public void setCellValue(int index, double value) {
+		// checks if there are data points
+		Checker.assertCheck(has(CommonProperty.DATA), "Data points are missing");
+		// updates the value
+		MatrixCells.setValue(getArrayValue(CommonProperty.DATA), index, value);
+	}
+
+	/**
+	 * Sets the values of the data points at the passed indexes, without rebuilding the data of the data set.<br>
+	 * The value <code>values[i]</code> is stored into the data point at index <code>indexes[i]</code>.<br>
+	 * The chart must be updated to show the new values.
+	 * 
+	 * @param indexes the indexes of the data points
+	 * @param values the new values of the data points
+	 */
+	public void setCellValues(int[] indexes, double[] values) {
+		// checks if arguments are consistent
+		Checker.checkIfValid(indexes, "Indexes argument");
+		Checker.checkIfValid(values, "Values argument");
+		Checker.checkIfEqualTo(indexes.length, values.length, "Amount of indexes");
+		// checks if there are data points
+		Checker.assertCheck(has(CommonProperty.DATA), "Data points are missing");
+		// gets the array only once
+		ArrayObject array = getArrayValue(CommonProperty.DATA);
+		// updates the values
+		for (int i = 0; i < indexes.length; i++) {
+			MatrixCells.setValue(array, indexes[i], values[i]);
+		}
+	}
+
 	/**
 	 * Returns the matrix data property of a dataset for a chart is specified as an array of matrix data points
 	 * 
@@ -249,6 +382,30 @@ public final class MatrixDataset extends HoverFlexDataset {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Sets the fill colors of the elements by a lookup table of colors, mapping the value of each data point, normalized by the passed minimum and maximum, to a
+	 * color.<br>
+	 * The data points without any value are filled by the default background color.
+	 * 
+	 * @param colorRamp the lookup table of colors
+	 * @param minimum minimum value of the data points, mapped to the first color of the lookup table
+	 * @param maximum maximum value of the data points, mapped to the last color of the lookup table
+	 */
+	public void setBackgroundColor(ColorRamp colorRamp, double minimum, double maximum) {
+		// checks if argument is consistent
+		Checker.checkIfValid(colorRamp, "Color ramp argument");
+		// sets the callback which reads the value of the data point
+		setBackgroundColor((ColorCallback<DatasetContext>) context -> {
+			// gets the value of the data point
+			double value = getDataPointValue(context.getDataIndex());
+			// checks if the value is consistent
+			if (Double.isNaN(value)) {
+				return getDefaultBackgroundColorAsString();
+			}
+			return colorRamp.getColorAsString(value, minimum, maximum);
+		});
+	}
+
 	/**
 	 * Sets the height of matrix element in pixels.
 	 * 
@@ -760,6 +917,59 @@ public final class MatrixDataset extends HoverFlexDataset {
 		return object.nativeObject();
 	}
 
+	/**
+	 * Sets the data property of a data set by a dense grid of values, stored by rows.
+	 * 
+	 * @param values values of the grid, stored by rows
+	 * @param xAxis the X values of the columns of the grid
+	 * @param yAxis the Y values of the rows of the grid
+	 */
+	private void setGrid(double[] values, MatrixCells.Axis xAxis, MatrixCells.Axis yAxis) {
+		// creates the cells in one pass
+		ArrayObject array = MatrixCells.createDense(values, xAxis, yAxis);
+		// stores the width of grid
+		// in order to map column and row to the index
+		gridWidth = xAxis.size();
+		setArrayValue(CommonProperty.DATA, array);
+	}
+
+	/**
+	 * Sets the data property of a data set by a sparse grid of values.
+	 * 
+	 * @param columns the indexes of the columns of the data points
+	 * @param rows the indexes of the rows of the data points
+	 * @param values values of the data points
+	 * @param xAxis the X values of the columns of the grid
+	 * @param yAxis the Y values of the rows of the grid
+	 */
+	private void setSparseGrid(int[] columns, int[] rows, double[] values, MatrixCells.Axis xAxis, MatrixCells.Axis yAxis) {
+		// creates the cells in one pass
+		ArrayObject array = MatrixCells.createSparse(columns, rows, values, xAxis, yAxis);
+		// resets the width of dense grid
+		gridWidth = Undefined.INTEGER;
+		setArrayValue(CommonProperty.DATA, array);
+	}
+
+	/**
+	 * Returns the value of the data point at the passed index, reading it directly from the native array of data points.
+	 * 
+	 * @param index index of the data point
+	 * @return the value of the data point or {@link Double#NaN} if the data point does not exist
+	 */
+	private double getDataPointValue(int index) {
+		// checks if there are data points
+		if (has(CommonProperty.DATA)) {
+			// gets array
+			ArrayObject array = getArrayValue(CommonProperty.DATA);
+			// checks if the index is in range
+			if (index >= 0 && index < array.length()) {
+				// reads the value without wrapping the data point
+				return JsHelper.get().getDoubleProperty(DATA_POINT_VALUE, array.get(index));
+			}
+		}
+		return Undefined.DOUBLE;
+	}
+
 	/**
 	 * Factory to create a matrix data point from a native object, used for array container lists.
 	 * 
@@ -276,6 +276,11 @@ CharbaJsZoomHelper.zoomScale = function(chart, scaleId, range, mode) {};
  * @return {undefined}
  */
 CharbaJsZoomHelper.zoomRect = function(chart, p0, p1, mode) {};
+/**
+ * @param {Chart} chart
+ * @return {undefined}
+ */
+CharbaJsZoomHelper.refreshScales = function(chart) {};
 /**
  * @param {Chart} chart
  * @return {boolean}
@@ -303,6 +308,39 @@ function CharbaJsDataLabelsHelper() {};
  * @return {undefined}
  */
 CharbaJsDataLabelsHelper.register = function() {};
+/**
+ * @param {number} id
+ * @param {function(Object):Array} loader
+ * @return {function(*, Object):string}
+ */
+CharbaJsDataLabelsHelper.newBatchFormatter = function(id, loader) {};
+/**
+ * @param {Chart} chart
+ * @param {number} id
+ * @param {number} datasetIndex
+ * @return {Array}
+ */
+CharbaJsDataLabelsHelper.getBatchTexts = function(chart, id, datasetIndex) {};
+/**
+ * @param {Chart} chart
+ * @param {number} id
+ * @param {number} datasetIndex
+ * @param {Array} texts
+ * @return {undefined}
+ */
+CharbaJsDataLabelsHelper.setBatchTexts = function(chart, id, datasetIndex, texts) {};
+/**
+ * @param {Chart} chart
+ * @param {number} datasetIndex
+ * @param {function(*, Object):*} formatter
+ * @return {Array}
+ */
+CharbaJsDataLabelsHelper.formatTexts = function(chart, datasetIndex, formatter) {};
+/**
+ * @param {Chart} chart
+ * @return {undefined}
+ */
+CharbaJsDataLabelsHelper.resetBatchTexts = function(chart) {};
 /**
  * @constructor
  * @return {CharbaJsGradientHelper}
@@ -463,6 +501,30 @@ CharbaJsItemsHelper.inXRange = function(element, x, useFinalPosition) {};
  * @return {boolean}
  */
 CharbaJsItemsHelper.inYRange = function(element, y, useFinalPosition) {};
+/**
+ * @param {Object} object
+ * @param {Array} values
+ * @return {Array}
+ */
+CharbaJsItemsHelper.getPixelForValues = function(object, values) {};
+/**
+ * @param {Object} object
+ * @param {Array} pixels
+ * @return {Array}
+ */
+CharbaJsItemsHelper.getValueForPixels = function(object, pixels) {};
+/**
+ * @param {Object} object
+ * @param {Array} decimals
+ * @return {Array}
+ */
+CharbaJsItemsHelper.getPixelForDecimals = function(object, decimals) {};
+/**
+ * @param {Object} object
+ * @param {Array} pixels
+ * @return {Array}
+ */
+CharbaJsItemsHelper.getDecimalForPixels = function(object, pixels) {};
 /**
  * @constructor
  * @return {CharbaJsDateAdapterHelper}
@@ -492,6 +554,28 @@ CharbaJsDateAdapterHelper.getEpochByWeek = function(weekYear, weekNumber, option
  * @return {number}
  */
 CharbaJsDateAdapterHelper.getEpochByOrdinal = function(year, ordinal, options) {};
+/**
+ * @param {CharbaChartAdaptersDate} adapter
+ * @param {Array} times
+ * @param {string} format
+ * @return {Array}
+ */
+CharbaJsDateAdapterHelper.formatAll = function(adapter, times, format) {};
+/**
+ * @param {CharbaChartAdaptersDate} adapter
+ * @param {Array} values
+ * @param {string} format
+ * @return {Array}
+ */
+CharbaJsDateAdapterHelper.parseAll = function(adapter, values, format) {};
+/**
+ * @param {CharbaChartAdaptersDate} adapter
+ * @param {Array} times
+ * @param {string} unit
+ * @param {number} weekday
+ * @return {Array}
+ */
+CharbaJsDateAdapterHelper.startOfAll = function(adapter, times, unit, weekday) {};
 /**
  * @constructor
  * @return {CharbaJsGeoHelper}
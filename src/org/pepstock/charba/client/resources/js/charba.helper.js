@@ -534,6 +534,27 @@ CharbaJsZoomHelper.zoomRect = function(chart, p0, p1, mode) {
     chart.zoomRect.call(chart, p0, p1, mode);
   }
 }
+/**
+ * Refreshes the runtime range of the scales with the minimum and maximum values set in their options, without updating the chart.
+ * Needed when the updates are cancelled during a gesture, in order to compute the next zoom step from the last applied one.
+ *
+ * @param {Chart} chart
+ * @return {undefined}
+ */
+CharbaJsZoomHelper.refreshScales = function(chart) {
+  if (chart != null && chart.scales != null){
+    for (const id in chart.scales) {
+      const scale = chart.scales[id];
+      const min = scale.parse(scale.options.min);
+      const max = scale.parse(scale.options.max);
+      if (typeof min === 'number' && typeof max === 'number' && isFinite(min) && isFinite(max) && min < max) {
+        scale.min = min;
+        scale.max = max;
+        scale.configure();
+      }
+    }
+  }
+}
 /**
  * Returns whether the chart has been zoomed or panned - i.e. whether the initial scale of any axis is different to the one used currently.
  *
@@ -585,6 +606,91 @@ function CharbaJsDataLabelsHelper() {}
 CharbaJsDataLabelsHelper.register = function() {
   Chart.register(ChartDataLabels); 
 }
+/**
+ * Creates a formatter function for DATALABELS plugin which reads the labels of a data set from the texts stored in the chart.
+ * The texts of a data set are loaded by the loader function only when missing, once per update of the chart.
+ * When a text is missing, the value is formatted by the default formatter of DATALABELS plugin.
+ *
+ * @param {number} id unique id of the batch formatter
+ * @param {function(Object):Array} loader function which loads, stores in the chart and returns the texts of the data set of the context
+ * @return {function(*, Object):string} formatter function for DATALABELS plugin
+ */
+CharbaJsDataLabelsHelper.newBatchFormatter = function(id, loader) {
+  return function(value, context) {
+    let texts = CharbaJsDataLabelsHelper.getBatchTexts(context.chart, id, context.datasetIndex);
+    if (texts === null) {
+      texts = loader(context);
+    }
+    const text = texts != null && context.dataIndex < texts.length ? texts[context.dataIndex] : null;
+    return text != null ? text : ChartDataLabels.defaults.formatter(value, context);
+  }
+}
+/**
+ * Returns the texts of a data set, stored in the chart by a batch formatter, or null if not loaded yet.
+ *
+ * @param {Chart} chart chart instance
+ * @param {number} id unique id of the batch formatter
+ * @param {number} datasetIndex index of the data set
+ * @return {Array} the texts of the data set or null if not loaded yet
+ */
+CharbaJsDataLabelsHelper.getBatchTexts = function(chart, id, datasetIndex) {
+  const store = chart.$charbaBatchTexts;
+  if (store != null && store[id] != null && store[id][datasetIndex] != null) {
+    return store[id][datasetIndex];
+  }
+  return null;
+}
+/**
+ * Stores the texts of a data set in the chart, for a batch formatter.
+ *
+ * @param {Chart} chart chart instance
+ * @param {number} id unique id of the batch formatter
+ * @param {number} datasetIndex index of the data set
+ * @param {Array} texts the texts of the data set
+ * @return {undefined}
+ */
+CharbaJsDataLabelsHelper.setBatchTexts = function(chart, id, datasetIndex, texts) {
+  if (chart.$charbaBatchTexts == null) {
+    chart.$charbaBatchTexts = {};
+  }
+  if (chart.$charbaBatchTexts[id] == null) {
+    chart.$charbaBatchTexts[id] = [];
+  }
+  chart.$charbaBatchTexts[id][datasetIndex] = texts;
+}
+/**
+ * Returns the texts of the labels of a data set, formatted as DATALABELS plugin does, by the formatter function of a label.
+ * If the formatter function is missing, the default formatter of the plugin is used. The lines of a label are joined by the newline character.
+ *
+ * @param {Chart} chart chart instance
+ * @param {number} datasetIndex index of the data set
+ * @param {function(*, Object):*} formatter formatter function of the label or null to use the default one
+ * @return {Array} the texts of the labels of the data set, by data index
+ */
+CharbaJsDataLabelsHelper.formatTexts = function(chart, datasetIndex, formatter) {
+  const dataset = chart.data.datasets[datasetIndex];
+  const data = dataset.data || [];
+  const format = typeof formatter === 'function' ? formatter : ChartDataLabels.defaults.formatter;
+  const texts = [];
+  for (let i = 0; i < data.length; i++) {
+    const context = {active: false, chart: chart, dataIndex: i, dataset: dataset, datasetIndex: datasetIndex};
+    let text = format(data[i], context);
+    if (text === undefined) {
+      text = data[i];
+    }
+    texts.push(text == null ? null : Array.isArray(text) ? text.join('\n') : String(text));
+  }
+  return texts;
+}
+/**
+ * Removes all texts stored in the chart by the batch formatters.
+ *
+ * @param {Chart} chart chart instance
+ * @return {undefined}
+ */
+CharbaJsDataLabelsHelper.resetBatchTexts = function(chart) {
+  delete chart.$charbaBatchTexts;
+}
 /**
  * ----------------------------------------------------------------------------
  * CharbaJsGradientHelper
@@ -884,6 +990,66 @@ CharbaJsItemsHelper.inYRange = function(element, y, useFinalPosition) {
   }
   return false;
 }
+/**
+ * Returns the locations of the given data values.
+ * The coordinate (0, 0) is at the upper-left corner of the canvas.
+ *
+ * @param {Object} obj scale native object instance
+ * @param {Array} values array of data values
+ * @return {Array} an array with the locations of the given data values
+ */
+CharbaJsItemsHelper.getPixelForValues = function(obj, values) {
+  const result = [];
+  for (let i = 0; i < values.length; i++) {
+    result.push(obj.getPixelForValue(values[i]));
+  }
+  return result;
+}
+/**
+ * Returns the data values for the given pixels. This is the inverse of getPixelForValues.
+ * The coordinate (0, 0) is at the upper-left corner of the canvas.
+ *
+ * @param {Object} obj scale native object instance
+ * @param {Array} pixels array of pixel values
+ * @return {Array} an array with the data values for the given pixels
+ */
+CharbaJsItemsHelper.getValueForPixels = function(obj, pixels) {
+  const result = [];
+  for (let i = 0; i < pixels.length; i++) {
+    result.push(obj.getValueForPixel(pixels[i]));
+  }
+  return result;
+}
+/**
+ * Returns the pixel locations of the given percentages of scale.
+ * The coordinate (0, 0) is at the upper-left corner of the canvas.
+ *
+ * @param {Object} obj scale native object instance
+ * @param {Array} decimals array of percentages of scale
+ * @return {Array} an array with the pixel locations of the given percentages of scale
+ */
+CharbaJsItemsHelper.getPixelForDecimals = function(obj, decimals) {
+  const result = [];
+  for (let i = 0; i < decimals.length; i++) {
+    result.push(obj.getPixelForDecimal(decimals[i]));
+  }
+  return result;
+}
+/**
+ * Returns the percentages of scale for the given pixels. This is the inverse of getPixelForDecimals.
+ * The coordinate (0, 0) is at the upper-left corner of the canvas.
+ *
+ * @param {Object} obj scale native object instance
+ * @param {Array} pixels array of pixel values
+ * @return {Array} an array with the percentages of scale for the given pixels
+ */
+CharbaJsItemsHelper.getDecimalForPixels = function(obj, pixels) {
+  const result = [];
+  for (let i = 0; i < pixels.length; i++) {
+    result.push(obj.getDecimalForPixel(pixels[i]));
+  }
+  return result;
+}
 /**
  * ----------------------------------------------------------------------------
  * CharbaJsDateAdapterHelper
@@ -931,6 +1097,52 @@ CharbaJsDateAdapterHelper.getEpochByWeek = function(weekYear, weekNumber, option
 CharbaJsDateAdapterHelper.getEpochByOrdinal = function(year, ordinal, options) {
   return luxon.DateTime.fromObject({ordinal, year}, options).toMillis();
 }
+/**
+ * Returns the formatted dates, in the specified format, for all given timestamps.
+ *
+ * @param {CharbaChartAdaptersDate} adapter date adapter instance 
+ * @param {Array} times array of timestamps to format
+ * @param {string} format the date/time token
+ * @return {Array} an array of formatted dates
+ */
+CharbaJsDateAdapterHelper.formatAll = function(adapter, times, format) {
+  const result = [];
+  for (let i = 0; i < times.length; i++) {
+    result.push(adapter.format(times[i], format));
+  }
+  return result;
+}
+/**
+ * Parses all given values and returns the timestamps.
+ *
+ * @param {CharbaChartAdaptersDate} adapter date adapter instance 
+ * @param {Array} values array of strings to parse
+ * @param {string} format the expected data format
+ * @return {Array} an array of timestamps
+ */
+CharbaJsDateAdapterHelper.parseAll = function(adapter, values, format) {
+  const result = [];
+  for (let i = 0; i < values.length; i++) {
+    result.push(adapter.parse(values[i], format));
+  }
+  return result;
+}
+/**
+ * Returns the start of the unit for all given timestamps.
+ *
+ * @param {CharbaChartAdaptersDate} adapter date adapter instance 
+ * @param {Array} times array of timestamps
+ * @param {string} unit the unit
+ * @param {number} weekday the ISO day of the week, used only with isoWeek unit
+ * @return {Array} an array of timestamps
+ */
+CharbaJsDateAdapterHelper.startOfAll = function(adapter, times, unit, weekday) {
+  const result = [];
+  for (let i = 0; i < times.length; i++) {
+    result.push(adapter.startOf(times[i], unit, weekday));
+  }
+  return result;
+}
 /**
  * ----------------------------------------------------------------------------
  * CharbaJsGeoHelper
@@ -36,4 +36,13 @@ interface IsDefaultPinch {
 		return Pinch.DEFAULT_ENABLED;
 	}
 
+	/**
+	 * Returns <code>true</code> to coalesce the updates of the chart during pinch gestures, at most once per animation frame and without animation.
+	 * 
+	 * @return <code>true</code> to coalesce the updates of the chart during pinch gestures
+	 */
+	default boolean isCoalesce() {
+		return Pinch.DEFAULT_COALESCE;
+	}
+
 }
\ No newline at end of file
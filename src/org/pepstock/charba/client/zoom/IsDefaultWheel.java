@@ -56,4 +56,13 @@ interface IsDefaultWheel {
 		return null;
 	}
 
+	/**
+	 * Returns <code>true</code> to coalesce the updates of the chart during wheel gestures, at most once per animation frame and without animation.
+	 * 
+	 * @return <code>true</code> to coalesce the updates of the chart during wheel gestures
+	 */
+	default boolean isCoalesce() {
+		return Wheel.DEFAULT_COALESCE;
+	}
+
 }
\ No newline at end of file
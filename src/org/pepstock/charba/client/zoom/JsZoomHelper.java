@@ -240,4 +240,16 @@ final class JsZoomHelper {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Refreshes the runtime range of the scales with the minimum and maximum values set in their options, without updating the chart.
+	 * 
+	 * @param chart chart instance to invoke
+	 */
+	void refreshScales(Chart chart) {
+		// checks if chart is consistent
+		if (chart != null) {
+			NativeJsZoomHelper.refreshScales(chart);
+		}
+	}
+}
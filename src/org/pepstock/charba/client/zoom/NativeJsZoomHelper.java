@@ -180,4 +180,11 @@ final class NativeJsZoomHelper {
 	 */
 	static native void zoomRect(Chart chart, NativeObject p0, NativeObject p1, String transition);
 
-}
\ No newline at end of file
+	/**
+	 * Refreshes the runtime range of the scales with the minimum and maximum values set in their options, without updating the chart.
+	 * 
+	 * @param chart chart instance to invoke
+	 */
+	static native void refreshScales(Chart chart);
+
+}
@@ -35,12 +35,18 @@ public final class Pinch extends AbstractNode implements IsDefaultPinch {
 	 */
 	public static final boolean DEFAULT_ENABLED = false;
 
+	/**
+	 * Default coalesce, <b>{@value DEFAULT_COALESCE}</b>.
+	 */
+	public static final boolean DEFAULT_COALESCE = false;
+
 	/**
 	 * Name of properties of native object.
 	 */
 	private enum Property implements Key
 	{
-		ENABLED("enabled");
+		ENABLED("enabled"),
+		COALESCE("coalesce");
 
 		// name value of property
 		private final String value;
@@ -103,4 +109,25 @@ public final class Pinch extends AbstractNode implements IsDefaultPinch {
 		return getValue(Property.ENABLED, defaultOptions.isEnabled());
 	}
 
+	/**
+	 * Sets <code>true</code> to coalesce the updates of the chart during pinch gestures, at most once per animation frame and without animation.<br>
+	 * When the gesture ends, the chart is updated once more. Only the animation is disabled, the detail of the chart is not reduced: it can be reduced by scriptable
+	 * options, checking {@link ZoomPlugin#isZoomGestureInProgress(org.pepstock.charba.client.IsChart)}.
+	 * 
+	 * @param coalesce <code>true</code> to coalesce the updates of the chart during pinch gestures
+	 */
+	public void setCoalesce(boolean coalesce) {
+		setValueAndAddToParent(Property.COALESCE, coalesce);
+	}
+
+	/**
+	 * Returns <code>true</code> to coalesce the updates of the chart during pinch gestures, at most once per animation frame and without animation.
+	 * 
+	 * @return <code>true</code> to coalesce the updates of the chart during pinch gestures
+	 */
+	@Override
+	public boolean isCoalesce() {
+		return getValue(Property.COALESCE, defaultOptions.isCoalesce());
+	}
+
 }
\ No newline at end of file
@@ -42,6 +42,11 @@ public final class Wheel extends AbstractNode implements IsDefaultWheel {
 	 */
 	public static final double DEFAULT_SPEED = 0.1D;
 
+	/**
+	 * Default coalesce, <b>{@value DEFAULT_COALESCE}</b>.
+	 */
+	public static final boolean DEFAULT_COALESCE = false;
+
 	/**
 	 * Name of properties of native object.
 	 */
@@ -49,7 +54,8 @@ public final class Wheel extends AbstractNode implements IsDefaultWheel {
 	{
 		ENABLED("enabled"),
 		SPEED("speed"),
-		MODIFIER_KEY("modifierKey");
+		MODIFIER_KEY("modifierKey"),
+		COALESCE("coalesce");
 
 		// name value of property
 		private final String value;
@@ -151,4 +157,25 @@ public final class Wheel extends AbstractNode implements IsDefaultWheel {
 		return getValue(Property.MODIFIER_KEY, ModifierKey.values(), defaultOptions.getModifierKey());
 	}
 
+	/**
+	 * Sets <code>true</code> to coalesce the updates of the chart during wheel gestures, at most once per animation frame and without animation.<br>
+	 * When the gesture ends, the chart is updated once more. Only the animation is disabled, the detail of the chart is not reduced: it can be reduced by scriptable
+	 * options, checking {@link ZoomPlugin#isZoomGestureInProgress(org.pepstock.charba.client.IsChart)}.
+	 * 
+	 * @param coalesce <code>true</code> to coalesce the updates of the chart during wheel gestures
+	 */
+	public void setCoalesce(boolean coalesce) {
+		setValueAndAddToParent(Property.COALESCE, coalesce);
+	}
+
+	/**
+	 * Returns <code>true</code> to coalesce the updates of the chart during wheel gestures, at most once per animation frame and without animation.
+	 * 
+	 * @return <code>true</code> to coalesce the updates of the chart during wheel gestures
+	 */
+	@Override
+	public boolean isCoalesce() {
+		return getValue(Property.COALESCE, defaultOptions.isCoalesce());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,311 @@
+/**
+    Licensed to the Apache Software Foundation (ASF) under one
+    or more contributor license agreements.  See the NOTICE file
+    distributed with this work for additional information
+    regarding copyright ownership.  The ASF licenses this file
+    to you under the Apache License, Version 2.0 (the
+    "License"); you may not use this file except in compliance
+    with the License.  You may obtain a copy of the License at
+    
+      http://www.apache.org/licenses/LICENSE-2.0
+    
+    Unless required by applicable law or agreed to in writing,
+    software distributed under the License is distributed on an
+    "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+    KIND, either express or implied.  See the License for the
+    specific language governing permissions and limitations
+    under the License.
+*/
+package org.pepstock.charba.client.zoom;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.CallbackProxy;
+import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.dom.BaseEventTarget.EventListenerCallback;
+import org.pepstock.charba.client.dom.elements.Div;
+import org.pepstock.charba.client.dom.enums.TouchEventType;
+import org.pepstock.charba.client.enums.DefaultTransitionMode;
+import org.pepstock.charba.client.items.PluginUpdateArgument;
+import org.pepstock.charba.client.items.Undefined;
+import org.pepstock.charba.client.plugins.SmartPlugin;
+import org.pepstock.charba.client.plugins.hooks.BeforeDestroyHook;
+import org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook;
+import org.pepstock.charba.client.plugins.hooks.ConfigureHook;
+import org.pepstock.charba.client.utils.CScheduler;
+import org.pepstock.charba.client.utils.CSchedulerRegistration;
+import org.pepstock.charba.client.utils.Window;
+
+/**
+ * Global plugin which coalesces the updates of the chart requested by {@link ZoomPlugin#ID} plugin during wheel and pinch gestures, when enabled by
+ * {@link Wheel#setCoalesce(boolean)} or {@link Pinch#setCoalesce(boolean)}.<br>
+ * The zoom plugin changes the scales at every wheel or touch event and updates the chart immediately. During a gesture, these updates are cancelled and the chart is
+ * updated at most once per animation frame, without animation, applying all accumulated changes of the scales.<br>
+ * The zoom plugin computes every zoom step from the runtime range of the scales, which is refreshed only by an update. Therefore, when an update is cancelled, the
+ * runtime range of the scales is refreshed with the range set by the zoom plugin in the options, in order the next event of the same frame zooms from the last
+ * applied step.<br>
+ * When the gesture ends, the chart is updated once more. Only the animation is disabled during the gesture: the detail of the chart is not reduced, for instance
+ * the points and the data are drawn as usual. The detail can be reduced by scriptable options, checking {@link ZoomPlugin#isZoomGestureInProgress(IsChart)}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ZoomGestureCoalescer extends SmartPlugin implements BeforeUpdateHook, ConfigureHook, BeforeDestroyHook {
+
+	/**
+	 * Delay in milliseconds without gesture events after which the gesture is considered ended, <b>{@value GESTURE_END_DELAY}</b>.
+	 */
+	static final int GESTURE_END_DELAY = 200;
+	// plugin ID
+	static final String ID = "charbazoomgesturecoalescer";
+	// name of wheel event, not mapped by DOM enumerations
+	private static final String WHEEL_EVENT = "wheel";
+	// singleton instance
+	private static final ZoomGestureCoalescer INSTANCE = new ZoomGestureCoalescer();
+	// gestures status by chart id
+	private final Map<String, GestureStatus> gestures = new HashMap<>();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ZoomGestureCoalescer() {
+		super(ID);
+		// stores itself as hook handler
+		setBeforeUpdateHook(this);
+		setConfigureHook(this);
+		setBeforeDestroyHook(this);
+	}
+
+	/**
+	 * Singleton method to get static instance.
+	 * 
+	 * @return plugin instance
+	 */
+	static ZoomGestureCoalescer get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns <code>true</code> if a coalesced zoom gesture is in progress on the chart.
+	 * 
+	 * @param chart chart instance
+	 * @return <code>true</code> if a coalesced zoom gesture is in progress on the chart
+	 */
+	boolean isGestureInProgress(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart)) {
+			GestureStatus status = gestures.get(chart.getId());
+			return status != null && status.inProgress;
+		}
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.hooks.ConfigureHook#onConfigure(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onConfigure(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart)) {
+			// the options could be changed
+			// therefore the status is reset
+			dispose(chart, gestures.remove(chart.getId()));
+			// checks if the coalescing is enabled
+			if (isCoalesce(chart)) {
+				// creates and stores the status
+				GestureStatus status = new GestureStatus(chart);
+				gestures.put(chart.getId(), status);
+				// sets function to proxy callback in order to invoke the java interface
+				status.gestureCallbackProxy.setCallback(event -> onGestureEvent(status));
+				// listens to the gesture events on the chart element
+				// which are bubbling from the canvas
+				Div element = chart.getChartElement();
+				element.addEventListener(WHEEL_EVENT, status.gestureCallbackProxy.getProxy());
+				element.addEventListener(TouchEventType.TOUCH_MOVE, status.gestureCallbackProxy.getProxy());
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.hooks.BeforeUpdateHook#onBeforeUpdate(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.PluginUpdateArgument)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart, PluginUpdateArgument argument) {
+		// checks if chart is consistent
+		if (!IsChart.isValid(chart)) {
+			return true;
+		}
+		// gets the status of the chart
+		GestureStatus status = gestures.get(chart.getId());
+		// checks if a gesture is in progress and the update is not requested by this plugin
+		if (status == null || !status.inProgress || status.flushing) {
+			return true;
+		}
+		// checks if the update is requested by zoom plugin
+		// wheel and pinch are using 'none' mode, API methods 'zoom' one
+		if (!Key.equals(DefaultTransitionMode.NONE, argument.getMode()) && !Key.equals(ZoomPlugin.ZOOM_TRANSITION_MODE, argument.getMode())) {
+			return true;
+		}
+		// refreshes the runtime range of the scales with the range set by zoom plugin
+		// because the update is cancelled and the next event must zoom from this step
+		JsZoomHelper.get().refreshScales(Charts.getNative(chart));
+		// checks if an update is already requested for next frame
+		if (Undefined.is(status.frameRequest)) {
+			status.frameRequest = Window.requestAnimationFrame(timestamp -> onFrame(status));
+		}
+		// cancels the update
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.hooks.BeforeDestroyHook#onBeforeDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onBeforeDestroy(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isValid(chart)) {
+			dispose(chart, gestures.remove(chart.getId()));
+		}
+	}
+
+	/**
+	 * Starts or postpones the end of the gesture when a wheel or touch event is delivered to the chart.
+	 * 
+	 * @param status status of the gesture
+	 */
+	private void onGestureEvent(GestureStatus status) {
+		status.inProgress = true;
+		// postpones the end of the gesture
+		if (status.endRegistration != null) {
+			status.endRegistration.cancel();
+		}
+		status.endRegistration = CScheduler.get().submit(() -> onGestureEnd(status), GESTURE_END_DELAY);
+	}
+
+	/**
+	 * Updates the chart, without animation, applying all changes of the scales accumulated since the last frame.
+	 * 
+	 * @param status status of the gesture
+	 */
+	private void onFrame(GestureStatus status) {
+		status.frameRequest = Undefined.INTEGER;
+		// checks if the gesture is still in progress
+		if (status.inProgress) {
+			flush(status);
+		}
+	}
+
+	/**
+	 * Updates the chart when the gesture ends.
+	 * 
+	 * @param status status of the gesture
+	 */
+	private void onGestureEnd(GestureStatus status) {
+		status.endRegistration = null;
+		status.inProgress = false;
+		// cancels the pending frame
+		if (Undefined.isNot(status.frameRequest)) {
+			Window.cancelAnimationFrame(status.frameRequest);
+			status.frameRequest = Undefined.INTEGER;
+		}
+		flush(status);
+	}
+
+	/**
+	 * Updates the chart without animation, skipping the coalescing of this plugin.
+	 * 
+	 * @param status status of the gesture
+	 */
+	private void flush(GestureStatus status) {
+		// checks if the chart is still alive
+		if (status.chart.isInitialized()) {
+			status.flushing = true;
+			try {
+				status.chart.update(DefaultTransitionMode.NONE);
+			} finally {
+				status.flushing = false;
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the coalescing is enabled in the options of the chart, for wheel or pinch.
+	 * 
+	 * @param chart chart instance
+	 * @return <code>true</code> if the coalescing is enabled in the options of the chart
+	 */
+	private boolean isCoalesce(IsChart chart) {
+		// gets the options of the chart
+		// which are using the global defaults if not set
+		Zoom zoom = chart.getOptions().getPlugins().getOptions(ZoomPlugin.ID, ZoomPlugin.FACTORY).getZoom();
+		return zoom.getWheel().isCoalesce() || zoom.getPinch().isCoalesce();
+	}
+
+	/**
+	 * Removes the event listeners and cancels the pending frame and the end of the gesture.
+	 * 
+	 * @param chart chart instance
+	 * @param status status of the gesture
+	 */
+	private void dispose(IsChart chart, GestureStatus status) {
+		// checks if consistent
+		if (status != null) {
+			// removes the listeners
+			Div element = chart.getChartElement();
+			element.removeEventListener(WHEEL_EVENT, status.gestureCallbackProxy.getProxy());
+			element.removeEventListener(TouchEventType.TOUCH_MOVE, status.gestureCallbackProxy.getProxy());
+			// cancels the pending frame
+			if (Undefined.isNot(status.frameRequest)) {
+				Window.cancelAnimationFrame(status.frameRequest);
+			}
+			// cancels the end of the gesture
+			if (status.endRegistration != null) {
+				status.endRegistration.cancel();
+			}
+		}
+	}
+
+	/**
+	 * Maintains the status of a zoom gesture of a chart.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class GestureStatus {
+
+		// callback proxy to invoke the gesture function
+		private final CallbackProxy<EventListenerCallback> gestureCallbackProxy = JsHelper.get().newCallbackProxy();
+		// chart instance
+		private final IsChart chart;
+		// if the gesture is in progress
+		private boolean inProgress = false;
+		// if the chart is updating by this plugin
+		private boolean flushing = false;
+		// id of the pending animation frame request
+		private int frameRequest = Undefined.INTEGER;
+		// registration of the end of the gesture
+		private CSchedulerRegistration endRegistration = null;
+
+		/**
+		 * Creates the status for the chart.
+		 * 
+		 * @param chart chart instance
+		 */
+		private GestureStatus(IsChart chart) {
+			this.chart = chart;
+		}
+
+	}
+
+}
@@ -124,6 +124,21 @@ public final class ZoomPlugin extends AbstractExtensionPlugin<ZoomOptions> {
 		Defaults.get().getPlugins().setEnabledAllCharts(ID, enableToAllCharts);
 		// loads defaults
 		ZoomPlugin.get().loadDefaults(DEFAULTS_FACTORY);
+		// registers the plugin to coalesce the updates during wheel and pinch gestures
+		// if already registered, the registration is ignored
+		Defaults.get().getPlugins().register(ZoomGestureCoalescer.get());
+	}
+
+	/**
+	 * Returns <code>true</code> if a wheel or pinch gesture is in progress on the chart and its updates are coalesced, because enabled by
+	 * {@link Wheel#setCoalesce(boolean)} or {@link Pinch#setCoalesce(boolean)}.<br>
+	 * It can be used by scriptable options to reduce the detail of the chart, for instance hiding the points, while the gesture is in progress.
+	 * 
+	 * @param chart chart instance to invoke
+	 * @return <code>true</code> if a wheel or pinch gesture is in progress on the chart
+	 */
+	public static boolean isZoomGestureInProgress(IsChart chart) {
+		return ZoomGestureCoalescer.get().isGestureInProgress(chart);
 	}
 
 	/**